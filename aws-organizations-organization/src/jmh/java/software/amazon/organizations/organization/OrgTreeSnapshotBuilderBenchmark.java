@@ -0,0 +1,56 @@
+package software.amazon.organizations.organization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crawls a 110 OU organization with {@link OrgTreeSnapshotBuilder}, with about 5k and 50k accounts, against
+ * {@link FakeOrganizationTreeClient} adding a fixed latency to every call. The rate budget is set high enough that
+ * only the latency counts. The gc profiler's allocation rate gives the memory the crawl and the snapshot take.
+ * mvn -Pjmh test-compile exec:exec -Dexec.args="-classpath %classpath org.openjdk.jmh.Main -prof gc OrgTreeSnapshotBuilderBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrgTreeSnapshotBuilderBenchmark extends AbstractTestBase {
+    private static final int BREADTH = 10;
+    private static final int DEPTH = 2;
+    private static final long CALL_LATENCY_MILLIS = 5;
+
+    // 111 parents, so 4995 and 49950 accounts
+    @Param({"45", "450"})
+    private int accountsPerParent;
+
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final FakeOrganizationTreeClient fakeOrgsClient = new FakeOrganizationTreeClient(BREADTH, DEPTH, accountsPerParent, CALL_LATENCY_MILLIS);
+        final AmazonWebServicesClientProxy awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofMinutes(10).toMillis());
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Benchmark
+    public OrgTreeSnapshot build() {
+        return new OrgTreeSnapshotBuilder(proxyClient, logger, 100000.0).build();
+    }
+}
@@ -0,0 +1,102 @@
+package software.amazon.organizations.organization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares refreshing a snapshot of a 110 OU, ~50k account organization from {@code moves} MoveAccount events with
+ * crawling it again, against {@link FakeOrganizationTreeClient} adding a fixed latency to every call. With
+ * {@code lateEvents} the events predate the snapshot, so every one is settled by listing its parents instead.
+ * mvn -Pjmh test-compile exec:exec -Dexec.args="-classpath %classpath org.openjdk.jmh.Main -prof gc OrgTreeSnapshotRefresherBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrgTreeSnapshotRefresherBenchmark extends AbstractTestBase {
+    private static final long CALL_LATENCY_MILLIS = 5;
+    private static final double CALLS_PER_SECOND = 100000.0;
+
+    @Param({"10", "100"})
+    private int moves;
+
+    @Param({"false", "true"})
+    private boolean lateEvents;
+
+    private FakeOrganizationTreeClient fakeOrgsClient;
+    private OrgTreeSnapshotBuilder builder;
+    private QueueOrgChangeEventSource eventSource;
+    private OrgTreeSnapshotRefresher refresher;
+    private OrgTreeSnapshot snapshot;
+    private List<String[]> movedAccounts;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        fakeOrgsClient = new FakeOrganizationTreeClient(10, 2, 450, CALL_LATENCY_MILLIS);
+        final AmazonWebServicesClientProxy awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofMinutes(10).toMillis());
+        final ProxyClient<OrganizationsClient> proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+        builder = new OrgTreeSnapshotBuilder(proxyClient, logger, CALLS_PER_SECOND);
+        eventSource = new QueueOrgChangeEventSource();
+        refresher = new OrgTreeSnapshotRefresher(builder, eventSource, logger);
+        snapshot = builder.build();
+    }
+
+    // moves one account out of each of the first OUs into the next one, and queues the matching events
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        movedAccounts = new ArrayList<>(moves);
+        final List<String> organizationalUnitIds = new ArrayList<>(snapshot.getNodesById().keySet());
+        organizationalUnitIds.removeIf(id -> snapshot.getNode(id).getType() != OrgTreeSnapshot.NodeType.ORGANIZATIONAL_UNIT);
+        organizationalUnitIds.sort(null);
+        for (int i = 0; i < moves; i++) {
+            final String sourceParentId = organizationalUnitIds.get(i % organizationalUnitIds.size());
+            final String destinationParentId = organizationalUnitIds.get((i + 1) % organizationalUnitIds.size());
+            final String accountId = fakeOrgsClient.getAccountIds(sourceParentId).get(0);
+            fakeOrgsClient.moveAccount(accountId, destinationParentId);
+            movedAccounts.add(new String[] {accountId, sourceParentId});
+            eventSource.offer(String.format("{\"detail\":{\"eventID\":\"%s\",\"eventName\":\"MoveAccount\",\"eventTime\":\"%s\",\"requestParameters\":"
+                    + "{\"accountId\":\"%s\",\"sourceParentId\":\"%s\",\"destinationParentId\":\"%s\"}}}",
+                UUID.randomUUID(), snapshot.getAsOf().plusSeconds(lateEvents ? -1 : i + 1), accountId, sourceParentId, destinationParentId));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        eventSource.poll();
+        for (int i = movedAccounts.size() - 1; i >= 0; i--) {
+            fakeOrgsClient.moveAccount(movedAccounts.get(i)[0], movedAccounts.get(i)[1]);
+        }
+    }
+
+    @Benchmark
+    public OrgTreeSnapshot refresh() {
+        return refresher.refresh(snapshot);
+    }
+
+    @Benchmark
+    public OrgTreeSnapshot fullCrawl() {
+        return builder.build();
+    }
+}
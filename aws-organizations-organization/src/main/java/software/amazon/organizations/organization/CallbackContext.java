@@ -14,6 +14,8 @@ public class CallbackContext extends StdCallbackContext {
 
     // Used to set Propagation Delay in the CreateHandler call chain.
     public boolean propagationDelay = false;
+    // Number of callbacks the CreateHandler has already spent waiting for the new organization to become visible.
+    private int propagationProbeCallbacks = 0;
     // used in CREATE handler re-invoking
     private boolean isOrgCreated = false;
 
@@ -12,8 +12,19 @@ import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private final OrganizationMetadataCache organizationMetadataCache;
+    private final OrganizationPropagationProbe propagationProbe;
     private OrgsLoggerWrapper log;
 
+    public CreateHandler() {
+        this(OrganizationMetadataCache.shared(), new OrganizationPropagationProbe());
+    }
+
+    CreateHandler(final OrganizationMetadataCache organizationMetadataCache, final OrganizationPropagationProbe propagationProbe) {
+        this.organizationMetadataCache = organizationMetadataCache;
+        this.propagationProbe = propagationProbe;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy awsClientProxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -43,6 +54,8 @@ public class CreateHandler extends BaseHandlerStd {
                                     .done(createOrganizationResponse -> {
                                         logger.log(String.format("Created Organization with Id: [%s].", createOrganizationResponse.organization().id()));
                                         model.setId(createOrganizationResponse.organization().id());
+                                        // anything cached for this account describes an organization that no longer exists
+                                        organizationMetadataCache.invalidate(request.getAwsAccountId());
                                         progress.getCallbackContext().setOrgCreated(true);
                                         return ProgressEvent.progress(model, callbackContext);
                                     });
@@ -50,16 +63,52 @@ public class CreateHandler extends BaseHandlerStd {
                 )
                 // After the create succeeds, Read calls which immediately follow are failing intermittently due
                 // to Propagation Delays.
-                // Hence, introducing a wait of 1 second.
+                // Hence, probe for the organization within this invocation first, and only fall back to callback
+                // delays while it is still not visible.
                 .then(progress -> {
                     if (progress.getCallbackContext().isPropagationDelay()) {
                         return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                     }
-                    progress.getCallbackContext().setPropagationDelay(true);
-                    return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(),
-                            EVENTUAL_CONSISTENCY_DELAY_SECONDS, progress.getResourceModel());
+                    return awaitPropagation(request, progress.getResourceModel(), progress.getCallbackContext(), orgsClient, logger);
                 })
-                .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+                .then(progress -> new ReadHandler(organizationMetadataCache).handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> awaitPropagation(
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final ProxyClient<OrganizationsClient> orgsClient,
+            final OrgsLoggerWrapper logger) {
+        final ResourceModel visibleModel;
+        try {
+            // a callback delay has just been waited out, so a single probe is enough
+            visibleModel = callbackContext.getPropagationProbeCallbacks() > 0
+                ? propagationProbe.checkVisible(model.getId(), orgsClient, logger)
+                : propagationProbe.awaitVisible(model.getId(), orgsClient, logger);
+        } catch (Exception e) {
+            // the Read below reports the failure with the usual error translation
+            logger.log(String.format("Propagation probe for organization [%s] failed with %s, continuing with Read.", model.getId(), e.getClass().getSimpleName()));
+            callbackContext.setPropagationDelay(true);
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        if (visibleModel != null) {
+            logger.log(String.format("Organization [%s] is visible, skipping callback delay.", visibleModel.getId()));
+            callbackContext.setPropagationDelay(true);
+            organizationMetadataCache.put(request.getAwsAccountId(), visibleModel);
+            return ProgressEvent.defaultSuccessHandler(visibleModel);
+        }
+
+        final int probeCallbacks = callbackContext.getPropagationProbeCallbacks();
+        if (probeCallbacks >= OrganizationConstants.MAX_PROPAGATION_PROBE_CALLBACKS) {
+            logger.log(String.format("Organization [%s] is still not visible after %d callbacks, continuing with Read.", model.getId(), probeCallbacks));
+            callbackContext.setPropagationDelay(true);
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        callbackContext.setPropagationProbeCallbacks(probeCallbacks + 1);
+        final int callbackDelaySeconds = EVENTUAL_CONSISTENCY_DELAY_SECONDS << probeCallbacks;
+        logger.log(String.format("Organization [%s] is not visible yet, retrying with callback delay %d seconds.", model.getId(), callbackDelaySeconds));
+        return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds, model);
     }
 
     protected CreateOrganizationResponse createOrganization(final CreateOrganizationRequest createOrganizationRequest, final ProxyClient<OrganizationsClient> orgsClient) {
@@ -14,6 +14,15 @@ import software.amazon.organizations.utils.OrgsLoggerWrapper;
 public class DeleteHandler extends BaseHandlerStd {
 
     private OrgsLoggerWrapper log;
+    private final OrganizationMetadataCache organizationMetadataCache;
+
+    public DeleteHandler() {
+        this(OrganizationMetadataCache.shared());
+    }
+
+    public DeleteHandler(final OrganizationMetadataCache organizationMetadataCache) {
+        this.organizationMetadataCache = organizationMetadataCache;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy awsClientProxy,
@@ -31,9 +40,15 @@ public class DeleteHandler extends BaseHandlerStd {
                         awsClientProxy.initiate("AWS-Organizations-Organization::DeleteOrganization", orgsClient, model, progress.getCallbackContext())
                                 .translateToServiceRequest(t -> Translator.translateToDeleteRequest())
                                 .makeServiceCall(this::deleteOrganization)
-                                .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(
-                                        organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.DELETE_ORG, OrganizationConstants.Handler.DELETE))
-                                .done((deleteRequest) -> ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).build()));
+                                .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                                    organizationMetadataCache.invalidateOn(request.getAwsAccountId(), e);
+                                    return handleErrorInGeneral(
+                                        organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.DELETE_ORG, OrganizationConstants.Handler.DELETE);
+                                })
+                                .done((deleteRequest) -> {
+                                    organizationMetadataCache.invalidate(request.getAwsAccountId());
+                                    return ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).build();
+                                }));
     }
 
     protected DeleteOrganizationResponse deleteOrganization(final DeleteOrganizationRequest deleteOrganizationRequest, final ProxyClient<OrganizationsClient> orgsClient) {
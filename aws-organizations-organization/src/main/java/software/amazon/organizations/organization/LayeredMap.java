@@ -0,0 +1,238 @@
+package software.amazon.organizations.organization;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only map made of a base map and layers of entries put or removed on top of it, so a refreshed
+ * {@link OrgTreeSnapshot} shares everything that did not change with the snapshot it came from. A new layer is merged
+ * into the ones below while they are not much larger, which keeps the number of layers logarithmic in the changes,
+ * and all layers are folded into a new base once they hold a quarter as many entries as the base. Applying a layer
+ * therefore costs time proportional to its own size, amortised; only iterating the map visits every entry.
+ */
+final class LayeredMap<K, V> extends AbstractMap<K, V> {
+    // the layers are folded into the base once they hold this fraction of its size
+    private static final int COMPACTION_DIVISOR = 4;
+    // maps smaller than this are copied outright rather than layered
+    private static final int MIN_COMPACTION_SIZE = 64;
+
+    private final Map<K, V> base;
+    // newest first
+    private final List<Layer<K, V>> layers;
+    private final int size;
+
+    private LayeredMap(final Map<K, V> base, final List<Layer<K, V>> layers, final int size) {
+        this.base = base;
+        this.layers = layers;
+        this.size = size;
+    }
+
+    /**
+     * Takes ownership of the given map, which must not be modified afterwards.
+     */
+    static <K, V> LayeredMap<K, V> of(final Map<K, V> base) {
+        return new LayeredMap<>(Collections.unmodifiableMap(base), Collections.emptyList(), base.size());
+    }
+
+    /**
+     * @return an editor whose changes are only visible through it until {@link Editor#commit} turns them into a new map
+     */
+    Editor<K, V> edit() {
+        return new Editor<>(this);
+    }
+
+    @Override
+    public V get(final Object key) {
+        for (final Layer<K, V> layer : layers) {
+            if (layer.puts.containsKey(key)) {
+                return layer.puts.get(key);
+            }
+            if (layer.removes.contains(key)) {
+                return null;
+            }
+        }
+        return base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        for (final Layer<K, V> layer : layers) {
+            if (layer.puts.containsKey(key)) {
+                return true;
+            }
+            if (layer.removes.contains(key)) {
+                return false;
+            }
+        }
+        return base.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (layers.isEmpty()) {
+            return base.entrySet();
+        }
+        final List<Map.Entry<K, V>> entries = new ArrayList<>(size);
+        final Set<K> shadowedKeys = new HashSet<>();
+        for (final Layer<K, V> layer : layers) {
+            for (final Map.Entry<K, V> entry : layer.puts.entrySet()) {
+                if (shadowedKeys.add(entry.getKey())) {
+                    entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+                }
+            }
+            shadowedKeys.addAll(layer.removes);
+        }
+        for (final Map.Entry<K, V> entry : base.entrySet()) {
+            if (!shadowedKeys.contains(entry.getKey())) {
+                entries.add(entry);
+            }
+        }
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return Collections.unmodifiableList(entries).iterator();
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    private LayeredMap<K, V> withLayer(final Layer<K, V> layer, final int newSize) {
+        if (layer.isEmpty()) {
+            return new LayeredMap<>(base, layers, newSize);
+        }
+        final List<Layer<K, V>> newLayers = new ArrayList<>(layers.size() + 1);
+        newLayers.add(layer);
+        newLayers.addAll(layers);
+        // like a binary counter: merge the newest layer down while the one below it is at most twice as large
+        while (newLayers.size() > 1 && newLayers.get(1).size() <= 2 * newLayers.get(0).size()) {
+            final Layer<K, V> merged = newLayers.get(1).overlaidWith(newLayers.get(0));
+            newLayers.remove(0);
+            newLayers.set(0, merged);
+        }
+        int layeredEntries = 0;
+        for (final Layer<K, V> newLayer : newLayers) {
+            layeredEntries += newLayer.size();
+        }
+        final LayeredMap<K, V> layered = new LayeredMap<>(base, Collections.unmodifiableList(newLayers), newSize);
+        if (layeredEntries >= Math.max(MIN_COMPACTION_SIZE, base.size() / COMPACTION_DIVISOR) || base.size() < MIN_COMPACTION_SIZE) {
+            return of(new HashMap<>(layered));
+        }
+        return layered;
+    }
+
+    /**
+     * Mutable view of a {@link LayeredMap} that records puts and removes in a new layer.
+     */
+    static final class Editor<K, V> {
+        private final LayeredMap<K, V> original;
+        private final Map<K, V> puts = new HashMap<>();
+        private final Set<K> removes = new HashSet<>();
+        private int size;
+
+        private Editor(final LayeredMap<K, V> original) {
+            this.original = original;
+            this.size = original.size;
+        }
+
+        V get(final K key) {
+            if (puts.containsKey(key)) {
+                return puts.get(key);
+            }
+            return removes.contains(key) ? null : original.get(key);
+        }
+
+        V getOrDefault(final K key, final V defaultValue) {
+            final V value = get(key);
+            return value != null ? value : defaultValue;
+        }
+
+        boolean containsKey(final K key) {
+            return puts.containsKey(key) || (!removes.contains(key) && original.containsKey(key));
+        }
+
+        /**
+         * @return the previous value, or null when there was none
+         */
+        V put(final K key, final V value) {
+            final V previous = get(key);
+            if (!containsKey(key)) {
+                size++;
+            }
+            removes.remove(key);
+            puts.put(key, value);
+            return previous;
+        }
+
+        void putIfAbsent(final K key, final V value) {
+            if (!containsKey(key)) {
+                put(key, value);
+            }
+        }
+
+        /**
+         * @return the removed value, or null when there was none
+         */
+        V remove(final K key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            final V previous = get(key);
+            size--;
+            puts.remove(key);
+            if (original.containsKey(key)) {
+                removes.add(key);
+            }
+            return previous;
+        }
+
+        LayeredMap<K, V> commit() {
+            return original.withLayer(new Layer<>(new HashMap<>(puts), new HashSet<>(removes)), size);
+        }
+    }
+
+    // entries put or removed on top of the layers below; a key is never both put and removed in the same layer
+    private static final class Layer<K, V> {
+        private final Map<K, V> puts;
+        private final Set<K> removes;
+
+        private Layer(final Map<K, V> puts, final Set<K> removes) {
+            this.puts = puts;
+            this.removes = removes;
+        }
+
+        private int size() {
+            return puts.size() + removes.size();
+        }
+
+        private boolean isEmpty() {
+            return puts.isEmpty() && removes.isEmpty();
+        }
+
+        private Layer<K, V> overlaidWith(final Layer<K, V> newer) {
+            final Map<K, V> mergedPuts = new HashMap<>(puts);
+            final Set<K> mergedRemoves = new HashSet<>(removes);
+            mergedPuts.keySet().removeAll(newer.removes);
+            mergedRemoves.addAll(newer.removes);
+            mergedRemoves.removeAll(newer.puts.keySet());
+            mergedPuts.putAll(newer.puts);
+            return new Layer<>(mergedPuts, mergedRemoves);
+        }
+    }
+}
@@ -18,6 +18,15 @@ import java.util.List;
 public class ListHandler extends BaseHandlerStd {
 
     private OrgsLoggerWrapper log;
+    private final OrganizationMetadataCache organizationMetadataCache;
+
+    public ListHandler() {
+        this(OrganizationMetadataCache.shared());
+    }
+
+    public ListHandler(final OrganizationMetadataCache organizationMetadataCache) {
+        this.organizationMetadataCache = organizationMetadataCache;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy awsClientProxy,
@@ -38,10 +47,22 @@ public class ListHandler extends BaseHandlerStd {
         final List<ResourceModel> models = new ArrayList<>();
         String nextToken = null;
 
+        final ResourceModel cachedModel = organizationMetadataCache.get(request.getAwsAccountId());
+        if (cachedModel != null) {
+            logger.log(String.format("Using cached Organization [%s] for management account Id [%s].", cachedModel.getId(), request.getAwsAccountId()));
+            models.add(cachedModel);
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModels(models)
+                    .nextToken(nextToken)
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
+
         return awsClientProxy.initiate("AWS-Organizations-Organization::Read::ListOrganization", orgsClient, model, callbackContext)
                 .translateToServiceRequest(t -> Translator.translateToReadRequest())
                 .makeServiceCall(this::describeOrganization)
                 .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                    organizationMetadataCache.invalidateOn(request.getAwsAccountId(), e);
                     if (e instanceof AwsOrganizationsNotInUseException) {
                         logger.log(String.format("Caught AwsOrganizationsNotInUseException for accountId [%s], continue to return model with null objects.", request.getAwsAccountId()));
 
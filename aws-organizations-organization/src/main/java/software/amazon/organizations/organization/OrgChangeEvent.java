@@ -0,0 +1,103 @@
+package software.amazon.organizations.organization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An Organizations API call as recorded by CloudTrail, either bare or wrapped in the "AWS API Call via CloudTrail"
+ * or "AWS Service Event via CloudTrail" EventBridge envelope. Only the parts a snapshot refresh needs are kept: the
+ * event id, name and time, whether the call failed, and the scalar values under userIdentity, requestParameters,
+ * responseElements and serviceEventDetails flattened to dotted paths such as {@code responseElements.organizationalUnit.id}.
+ */
+public final class OrgChangeEvent {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] PARAMETER_SECTIONS = {"userIdentity", "requestParameters", "responseElements", "serviceEventDetails"};
+
+    private final String eventId;
+    private final String eventName;
+    private final Instant eventTime;
+    private final boolean failed;
+    private final Map<String, String> parameters;
+
+    OrgChangeEvent(final String eventId, final String eventName, final Instant eventTime, final boolean failed, final Map<String, String> parameters) {
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.eventTime = eventTime;
+        this.failed = failed;
+        this.parameters = Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * @throws IllegalArgumentException when the record is not JSON or has no eventName or eventTime
+     */
+    public static OrgChangeEvent fromRecord(final String record) {
+        final JsonNode root;
+        try {
+            root = MAPPER.readTree(record);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Organizations change record is not valid JSON.", e);
+        }
+        final JsonNode detail = root != null && root.has("detail") ? root.get("detail") : root;
+        if (detail == null || !detail.path("eventName").isTextual() || !detail.path("eventTime").isTextual()) {
+            throw new IllegalArgumentException("Organizations change record has no eventName or eventTime.");
+        }
+        final Instant recordedAt;
+        try {
+            recordedAt = Instant.parse(detail.get("eventTime").asText());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Organizations change record has an invalid eventTime.", e);
+        }
+        final Map<String, String> values = new HashMap<>();
+        for (final String section : PARAMETER_SECTIONS) {
+            flatten(section, detail.path(section), values);
+        }
+        return new OrgChangeEvent(detail.path("eventID").asText(null), detail.get("eventName").asText(), recordedAt,
+            detail.hasNonNull("errorCode"), values);
+    }
+
+    private static void flatten(final String path, final JsonNode node, final Map<String, String> values) {
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                flatten(path + "." + field.getKey(), field.getValue(), values);
+            }
+        } else if (node.isValueNode() && !node.isNull()) {
+            values.put(path, node.asText());
+        }
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public Instant getEventTime() {
+        return eventTime;
+    }
+
+    /**
+     * @return true when CloudTrail recorded an errorCode, i.e. the call did not change anything
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * @return the value at a dotted path such as {@code requestParameters.accountId}, or null when absent
+     */
+    public String getParameter(final String path) {
+        return parameters.get(path);
+    }
+}
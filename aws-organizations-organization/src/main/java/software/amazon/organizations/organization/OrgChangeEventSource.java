@@ -0,0 +1,15 @@
+package software.amazon.organizations.organization;
+
+import java.util.List;
+
+/**
+ * Where {@link OrgTreeSnapshotRefresher} gets Organizations change events from, typically an SQS queue subscribed
+ * to an EventBridge rule on {@code aws.organizations}. Delivery may be late, duplicated, out of order or lossy;
+ * the refresher detects those cases and re-lists the affected parents instead of trusting the events.
+ */
+public interface OrgChangeEventSource {
+    /**
+     * @return the events received since the previous poll, in the order they were received; empty when there are none
+     */
+    List<OrgChangeEvent> poll();
+}
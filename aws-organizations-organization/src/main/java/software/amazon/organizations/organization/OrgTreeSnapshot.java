@@ -0,0 +1,244 @@
+package software.amazon.organizations.organization;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, indexed picture of an organization at one point in time: its roots, OUs and accounts, how they are
+ * nested, and which policies are attached directly to each of them. Built in one pass by {@link OrgTreeSnapshotBuilder}
+ * and kept current by {@link OrgTreeSnapshotRefresher}, whose snapshots share the indexes of the previous one and only add
+ * the changes on top. Lookups are constant time, plus a few layers of recent changes; nothing here calls Organizations.
+ */
+public final class OrgTreeSnapshot {
+    public enum NodeType {
+        ROOT,
+        ORGANIZATIONAL_UNIT,
+        ACCOUNT
+    }
+
+    private final List<String> rootIds;
+    private final LayeredMap<String, Node> nodesById;
+    private final LayeredMap<String, List<String>> childIdsByParent;
+    private final LayeredMap<String, Set<String>> policyIdsByTarget;
+    private final LayeredMap<String, Policy> policiesById;
+    private final Set<String> enabledPolicyTypes;
+    private final int organizationalUnitCount;
+    private final int accountCount;
+    private final Instant asOf;
+
+    /**
+     * Takes ownership of the given collections, which must not be modified afterwards.
+     */
+    OrgTreeSnapshot(final List<String> rootIds, final Map<String, Node> nodesById, final Map<String, List<String>> childIdsByParent,
+                    final Map<String, Set<String>> policyIdsByTarget, final Map<String, Policy> policiesById, final Set<String> enabledPolicyTypes,
+                    final Instant asOf) {
+        this(Collections.unmodifiableList(rootIds), LayeredMap.of(nodesById), LayeredMap.of(childIdsByParent), LayeredMap.of(policyIdsByTarget),
+            LayeredMap.of(policiesById), Collections.unmodifiableSet(enabledPolicyTypes),
+            countNodes(nodesById, NodeType.ORGANIZATIONAL_UNIT), countNodes(nodesById, NodeType.ACCOUNT), asOf);
+    }
+
+    /**
+     * Used by {@link OrgTreeSnapshotRefresher}, which shares the indexes, root ids and policy types of the previous snapshot
+     * and carries the counts forward.
+     */
+    OrgTreeSnapshot(final List<String> rootIds, final LayeredMap<String, Node> nodesById, final LayeredMap<String, List<String>> childIdsByParent,
+                    final LayeredMap<String, Set<String>> policyIdsByTarget, final LayeredMap<String, Policy> policiesById,
+                    final Set<String> enabledPolicyTypes, final int organizationalUnitCount, final int accountCount, final Instant asOf) {
+        this.rootIds = rootIds;
+        this.nodesById = nodesById;
+        this.childIdsByParent = childIdsByParent;
+        this.policyIdsByTarget = policyIdsByTarget;
+        this.policiesById = policiesById;
+        this.enabledPolicyTypes = enabledPolicyTypes;
+        this.organizationalUnitCount = organizationalUnitCount;
+        this.accountCount = accountCount;
+        this.asOf = asOf;
+    }
+
+    public List<String> getRootIds() {
+        return rootIds;
+    }
+
+    public Map<String, Node> getNodesById() {
+        return nodesById;
+    }
+
+    public Map<String, List<String>> getChildIdsByParent() {
+        return childIdsByParent;
+    }
+
+    public Map<String, Set<String>> getPolicyIdsByTarget() {
+        return policyIdsByTarget;
+    }
+
+    public Map<String, Policy> getPoliciesById() {
+        return policiesById;
+    }
+
+    /**
+     * @return the policy types enabled on a root when the organization was crawled, whether or not they have policies yet
+     */
+    public Set<String> getEnabledPolicyTypes() {
+        return enabledPolicyTypes;
+    }
+
+    /**
+     * @return the root, OU or account, or null when it is not part of the snapshot
+     */
+    public Node getNode(final String id) {
+        return nodesById.get(id);
+    }
+
+    /**
+     * @return child OUs first, then child accounts, each in the order Organizations listed them
+     */
+    public List<String> getChildIds(final String parentId) {
+        return childIdsByParent.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    /**
+     * @return ids of the policies attached directly to the target, not the ones it inherits
+     */
+    public Set<String> getPolicyIds(final String targetId) {
+        return policyIdsByTarget.getOrDefault(targetId, Collections.emptySet());
+    }
+
+    public Policy getPolicy(final String policyId) {
+        return policiesById.get(policyId);
+    }
+
+    /**
+     * @return ids from the node's parent up to its root, empty for a root
+     * @throws IllegalArgumentException when the node is not part of the snapshot
+     */
+    public List<String> getAncestorIds(final String id) {
+        Node node = nodesById.get(id);
+        if (node == null) {
+            throw new IllegalArgumentException(String.format("Node [%s] was not found in the organization snapshot.", id));
+        }
+        final List<String> ancestorIds = new ArrayList<>();
+        while (node.parentId != null) {
+            ancestorIds.add(node.parentId);
+            node = nodesById.get(node.parentId);
+        }
+        return ancestorIds;
+    }
+
+    LayeredMap<String, Node> nodes() {
+        return nodesById;
+    }
+
+    LayeredMap<String, List<String>> children() {
+        return childIdsByParent;
+    }
+
+    LayeredMap<String, Set<String>> attachedPolicies() {
+        return policyIdsByTarget;
+    }
+
+    LayeredMap<String, Policy> policies() {
+        return policiesById;
+    }
+
+    public int getOrganizationalUnitCount() {
+        return organizationalUnitCount;
+    }
+
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    /**
+     * @return when the crawl started, or the time of the latest change event applied since; later changes may be missing
+     */
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    private static int countNodes(final Map<String, Node> nodesById, final NodeType type) {
+        int count = 0;
+        for (final Node node : nodesById.values()) {
+            if (node.type == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A root, OU or account. Only the attributes the listing calls return are kept.
+     */
+    public static final class Node {
+        private final String id;
+        private final NodeType type;
+        private final String name;
+        private final String arn;
+        // null for roots
+        private final String parentId;
+
+        Node(final String id, final NodeType type, final String name, final String arn, final String parentId) {
+            this.id = id;
+            this.type = type;
+            this.name = name;
+            this.arn = arn;
+            this.parentId = parentId;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public NodeType getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getArn() {
+            return arn;
+        }
+
+        public String getParentId() {
+            return parentId;
+        }
+    }
+
+    /**
+     * Summary of a policy attached somewhere in the tree; the content is not part of the snapshot.
+     */
+    public static final class Policy {
+        private final String id;
+        private final String name;
+        private final String type;
+        private final boolean awsManaged;
+
+        Policy(final String id, final String name, final String type, final boolean awsManaged) {
+            this.id = id;
+            this.name = name;
+            this.type = type;
+            this.awsManaged = awsManaged;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public boolean isAwsManaged() {
+            return awsManaged;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package software.amazon.organizations.organization;
+
+import com.google.common.util.concurrent.RateLimiter;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeStatus;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeSummary;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.organization.OrgTreeSnapshot.Node;
+import software.amazon.organizations.organization.OrgTreeSnapshot.NodeType;
+import software.amazon.organizations.organization.OrgTreeSnapshot.Policy;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds an {@link OrgTreeSnapshot} in one pass. The tree is walked level by level, with the child OUs and child
+ * accounts of every parent of a level listed concurrently. Policy attachments are crawled at the same time, per
+ * policy with ListTargetsForPolicy rather than per target, so their cost grows with the number of policies and
+ * attachments instead of the number of accounts. All calls of one builder draw from the same rate limiter.
+ * Exceptions from Organizations are propagated to the caller of {@link #build}.
+ */
+public class OrgTreeSnapshotBuilder {
+    private final ProxyClient<OrganizationsClient> orgsClient;
+    private final OrgsLoggerWrapper logger;
+    private final RateLimiter rateLimiter;
+
+    public OrgTreeSnapshotBuilder(final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger) {
+        this(orgsClient, logger, OrganizationConstants.SNAPSHOT_CRAWL_PER_SECOND);
+    }
+
+    /**
+     * @param callsPerSecond rate budget shared by every listing call of the crawl
+     */
+    public OrgTreeSnapshotBuilder(final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger, final double callsPerSecond) {
+        this.orgsClient = orgsClient;
+        this.logger = logger;
+        this.rateLimiter = RateLimiter.create(callsPerSecond);
+    }
+
+    public OrgTreeSnapshot build() {
+        final Instant asOf = Instant.now();
+        final long startNanos = System.nanoTime();
+        final List<Root> roots = listRoots();
+
+        // attachments do not depend on the tree, so they are listed while the tree is walked
+        final Set<String> enabledPolicyTypes = enabledPolicyTypes(roots);
+        final Map<String, Policy> policiesById = listPolicies(enabledPolicyTypes);
+        final Map<String, CompletableFuture<List<String>>> targetFutures = new LinkedHashMap<>();
+        for (final String policyId : policiesById.keySet()) {
+            targetFutures.put(policyId, OrgsConcurrentExecutor.supplyAsync(() -> listTargetIds(policyId)));
+        }
+
+        final List<String> rootIds = new ArrayList<>(roots.size());
+        final Map<String, Node> nodesById = new HashMap<>();
+        final Map<String, List<String>> childIdsByParent = new HashMap<>();
+        for (final Root root : roots) {
+            rootIds.add(root.id());
+            nodesById.put(root.id(), new Node(root.id(), NodeType.ROOT, root.name(), root.arn(), null));
+        }
+
+        List<String> frontier = rootIds;
+        while (!frontier.isEmpty()) {
+            final Map<String, CompletableFuture<List<Node>>> ouFutures = new LinkedHashMap<>();
+            final Map<String, CompletableFuture<List<Node>>> accountFutures = new LinkedHashMap<>();
+            for (final String parentId : frontier) {
+                ouFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> listChildOrganizationalUnits(parentId)));
+                accountFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> listChildAccounts(parentId)));
+            }
+
+            final List<String> nextFrontier = new ArrayList<>();
+            for (final String parentId : frontier) {
+                final List<Node> children = new ArrayList<>(OrgsConcurrentExecutor.join(ouFutures.get(parentId)));
+                children.addAll(OrgsConcurrentExecutor.join(accountFutures.get(parentId)));
+                if (children.isEmpty()) {
+                    continue;
+                }
+                final List<String> childIds = new ArrayList<>(children.size());
+                for (final Node child : children) {
+                    nodesById.put(child.getId(), child);
+                    childIds.add(child.getId());
+                    if (child.getType() == NodeType.ORGANIZATIONAL_UNIT) {
+                        nextFrontier.add(child.getId());
+                    }
+                }
+                childIdsByParent.put(parentId, Collections.unmodifiableList(childIds));
+            }
+            frontier = nextFrontier;
+        }
+
+        final Map<String, Set<String>> policyIdsByTarget = new HashMap<>();
+        targetFutures.forEach((policyId, future) -> {
+            for (final String targetId : OrgsConcurrentExecutor.join(future)) {
+                policyIdsByTarget.computeIfAbsent(targetId, id -> new LinkedHashSet<>()).add(policyId);
+            }
+        });
+        policyIdsByTarget.replaceAll((targetId, policyIds) -> sealPolicyIds(policyIds));
+
+        final OrgTreeSnapshot snapshot = new OrgTreeSnapshot(rootIds, nodesById, childIdsByParent, policyIdsByTarget, policiesById, enabledPolicyTypes, asOf);
+        logger.log(String.format("Built organization snapshot with %d OUs, %d accounts and %d policies attached to %d targets in %d ms.",
+            snapshot.getOrganizationalUnitCount(), snapshot.getAccountCount(), policiesById.size(), policyIdsByTarget.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        return snapshot;
+    }
+
+    private List<Root> listRoots() {
+        final List<Root> roots = new ArrayList<>();
+        String nextToken = null;
+        do {
+            rateLimiter.acquire();
+            final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListRootsRequest(nextToken), orgsClient.client()::listRoots);
+            roots.addAll(listRootsResponse.roots());
+            nextToken = listRootsResponse.nextToken();
+        } while (nextToken != null);
+        return roots;
+    }
+
+    // the policy types enabled on any root
+    private static Set<String> enabledPolicyTypes(final List<Root> roots) {
+        final Set<String> policyTypes = new LinkedHashSet<>();
+        for (final Root root : roots) {
+            for (final PolicyTypeSummary policyTypeSummary : root.policyTypes()) {
+                if (policyTypeSummary.status() == PolicyTypeStatus.ENABLED) {
+                    policyTypes.add(policyTypeSummary.typeAsString());
+                }
+            }
+        }
+        return policyTypes;
+    }
+
+    // lists every policy of the given types, one type per concurrent call
+    private Map<String, Policy> listPolicies(final Set<String> policyTypes) {
+        final List<CompletableFuture<List<Policy>>> policyFutures = new ArrayList<>(policyTypes.size());
+        for (final String policyType : policyTypes) {
+            policyFutures.add(OrgsConcurrentExecutor.supplyAsync(() -> listPolicies(policyType)));
+        }
+        final Map<String, Policy> policiesById = new LinkedHashMap<>();
+        for (final CompletableFuture<List<Policy>> future : policyFutures) {
+            for (final Policy policy : OrgsConcurrentExecutor.join(future)) {
+                policiesById.put(policy.getId(), policy);
+            }
+        }
+        return policiesById;
+    }
+
+    private List<Policy> listPolicies(final String policyType) {
+        final List<Policy> policies = new ArrayList<>();
+        String nextToken = null;
+        do {
+            rateLimiter.acquire();
+            final ListPoliciesResponse listPoliciesResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListPoliciesRequest(policyType, nextToken), orgsClient.client()::listPolicies);
+            for (final PolicySummary policySummary : listPoliciesResponse.policies()) {
+                policies.add(toPolicy(policySummary));
+            }
+            nextToken = listPoliciesResponse.nextToken();
+        } while (nextToken != null);
+        return policies;
+    }
+
+    private List<String> listTargetIds(final String policyId) {
+        final List<String> targetIds = new ArrayList<>();
+        String nextToken = null;
+        do {
+            rateLimiter.acquire();
+            final ListTargetsForPolicyResponse listTargetsForPolicyResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListTargetsForPolicyRequest(policyId, nextToken), orgsClient.client()::listTargetsForPolicy);
+            for (final PolicyTargetSummary policyTargetSummary : listTargetsForPolicyResponse.targets()) {
+                targetIds.add(policyTargetSummary.targetId());
+            }
+            nextToken = listTargetsForPolicyResponse.nextToken();
+        } while (nextToken != null);
+        return targetIds;
+    }
+
+    List<Node> listChildOrganizationalUnits(final String parentId) {
+        final List<Node> organizationalUnits = new ArrayList<>();
+        String nextToken = null;
+        do {
+            rateLimiter.acquire();
+            final ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParentResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListOrganizationalUnitsForParentRequest(parentId, nextToken), orgsClient.client()::listOrganizationalUnitsForParent);
+            for (final OrganizationalUnit organizationalUnit : listOrganizationalUnitsForParentResponse.organizationalUnits()) {
+                organizationalUnits.add(new Node(organizationalUnit.id(), NodeType.ORGANIZATIONAL_UNIT, organizationalUnit.name(), organizationalUnit.arn(), parentId));
+            }
+            nextToken = listOrganizationalUnitsForParentResponse.nextToken();
+        } while (nextToken != null);
+        return organizationalUnits;
+    }
+
+    List<Node> listChildAccounts(final String parentId) {
+        final List<Node> accounts = new ArrayList<>();
+        String nextToken = null;
+        do {
+            rateLimiter.acquire();
+            final ListAccountsForParentResponse listAccountsForParentResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListAccountsForParentRequest(parentId, nextToken), orgsClient.client()::listAccountsForParent);
+            for (final Account account : listAccountsForParentResponse.accounts()) {
+                accounts.add(new Node(account.id(), NodeType.ACCOUNT, account.name(), account.arn(), parentId));
+            }
+            nextToken = listAccountsForParentResponse.nextToken();
+        } while (nextToken != null);
+        return accounts;
+    }
+
+    /**
+     * @return the id of the child's parent
+     * @throws software.amazon.awssdk.services.organizations.model.ChildNotFoundException when the child is no longer in the organization
+     */
+    String getParentId(final String childId) {
+        rateLimiter.acquire();
+        final ListParentsResponse listParentsResponse = orgsClient.injectCredentialsAndInvokeV2(
+            Translator.translateToListParentsRequest(childId), orgsClient.client()::listParents);
+        return listParentsResponse.parents().isEmpty() ? null : listParentsResponse.parents().get(0).id();
+    }
+
+    List<Policy> listAttachedPolicies(final String targetId, final String policyType) {
+        final List<Policy> policies = new ArrayList<>();
+        String nextToken = null;
+        do {
+            rateLimiter.acquire();
+            final ListPoliciesForTargetResponse listPoliciesForTargetResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListPoliciesForTargetRequest(targetId, policyType, nextToken), orgsClient.client()::listPoliciesForTarget);
+            for (final PolicySummary policySummary : listPoliciesForTargetResponse.policies()) {
+                policies.add(toPolicy(policySummary));
+            }
+            nextToken = listPoliciesForTargetResponse.nextToken();
+        } while (nextToken != null);
+        return policies;
+    }
+
+    // most targets have a single attachment, which a singleton set holds in a fraction of the space
+    static Set<String> sealPolicyIds(final Set<String> policyIds) {
+        return policyIds.size() == 1 ? Collections.singleton(policyIds.iterator().next()) : Collections.unmodifiableSet(policyIds);
+    }
+
+    static Policy toPolicy(final PolicySummary policySummary) {
+        return new Policy(policySummary.id(), policySummary.name(), policySummary.typeAsString(), Boolean.TRUE.equals(policySummary.awsManaged()));
+    }
+}
@@ -0,0 +1,612 @@
+package software.amazon.organizations.organization;
+
+import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
+import software.amazon.organizations.organization.OrgTreeSnapshot.Node;
+import software.amazon.organizations.organization.OrgTreeSnapshot.NodeType;
+import software.amazon.organizations.organization.OrgTreeSnapshot.Policy;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Brings an {@link OrgTreeSnapshot} up to date from Organizations change events instead of crawling the whole tree
+ * again. An event newer than the snapshot is applied directly when it agrees with the snapshot. When it does not,
+ * because an earlier event was lost, or when it is not newer, because it arrived late, out of order or twice, the
+ * parents and policy targets it touches are listed again once all events are applied, and accounts or OUs that are
+ * no longer where the snapshot has them are located with ListParents. Only policy type changes fall back to a full
+ * crawl, so the calls a refresh makes grow with the number of changes rather than with the size of the organization.
+ * All calls go through the builder and share its rate budget.
+ */
+public class OrgTreeSnapshotRefresher {
+    private static final String MOVE_ACCOUNT = "MoveAccount";
+    private static final String CREATE_ACCOUNT_RESULT = "CreateAccountResult";
+    private static final String REMOVE_ACCOUNT = "RemoveAccountFromOrganization";
+    private static final String LEAVE_ORGANIZATION = "LeaveOrganization";
+    private static final String ACCEPT_HANDSHAKE = "AcceptHandshake";
+    private static final String CREATE_ORGANIZATIONAL_UNIT = "CreateOrganizationalUnit";
+    private static final String DELETE_ORGANIZATIONAL_UNIT = "DeleteOrganizationalUnit";
+    private static final String UPDATE_ORGANIZATIONAL_UNIT = "UpdateOrganizationalUnit";
+    private static final String ATTACH_POLICY = "AttachPolicy";
+    private static final String DETACH_POLICY = "DetachPolicy";
+    private static final String CREATE_POLICY = "CreatePolicy";
+    private static final String UPDATE_POLICY = "UpdatePolicy";
+    private static final String DELETE_POLICY = "DeletePolicy";
+    private static final String ENABLE_POLICY_TYPE = "EnablePolicyType";
+    private static final String DISABLE_POLICY_TYPE = "DisablePolicyType";
+
+    private static final String ACCOUNT_ID = "requestParameters.accountId";
+    // LeaveOrganization has no parameters; the account leaving is the one that made the call
+    private static final String CALLER_ACCOUNT_ID = "userIdentity.accountId";
+    private static final String SOURCE_PARENT_ID = "requestParameters.sourceParentId";
+    private static final String DESTINATION_PARENT_ID = "requestParameters.destinationParentId";
+    private static final String PARENT_ID = "requestParameters.parentId";
+    private static final String ORGANIZATIONAL_UNIT_ID = "requestParameters.organizationalUnitId";
+    private static final String NAME = "requestParameters.name";
+    private static final String POLICY_ID = "requestParameters.policyId";
+    private static final String TARGET_ID = "requestParameters.targetId";
+    private static final String CREATED_ACCOUNT_STATE = "serviceEventDetails.createAccountStatus.state";
+    private static final String CREATED_ACCOUNT_ID = "serviceEventDetails.createAccountStatus.accountId";
+    private static final String CREATED_ACCOUNT_NAME = "serviceEventDetails.createAccountStatus.accountName";
+    private static final String CREATED_ORGANIZATIONAL_UNIT = "responseElements.organizationalUnit.";
+    private static final String POLICY_SUMMARY = "responseElements.policy.policySummary.";
+
+    private final OrgTreeSnapshotBuilder snapshotBuilder;
+    private final OrgChangeEventSource eventSource;
+    private final OrgsLoggerWrapper logger;
+
+    public OrgTreeSnapshotRefresher(final OrgTreeSnapshotBuilder snapshotBuilder, final OrgChangeEventSource eventSource, final OrgsLoggerWrapper logger) {
+        this.snapshotBuilder = snapshotBuilder;
+        this.eventSource = eventSource;
+        this.logger = logger;
+    }
+
+    /**
+     * @return a new snapshot with the events received since the last refresh, or the given one when there are none
+     */
+    public OrgTreeSnapshot refresh(final OrgTreeSnapshot snapshot) {
+        final List<OrgChangeEvent> events = eventSource.poll();
+        if (events.isEmpty()) {
+            return snapshot;
+        }
+        final long startNanos = System.nanoTime();
+        final TreeUpdate update = new TreeUpdate(snapshot);
+        final Set<String> seenEventIds = new HashSet<>();
+        for (final OrgChangeEvent event : events) {
+            if (event.isFailed() || (event.getEventId() != null && !seenEventIds.add(event.getEventId()))) {
+                continue;
+            }
+            if (!event.getEventTime().isAfter(update.asOf)) {
+                // the snapshot may or may not reflect it already, so only the listings can tell
+                relist(update, event);
+            } else {
+                if (!apply(update, event)) {
+                    relist(update, event);
+                }
+                update.asOf = event.getEventTime();
+            }
+            if (update.fullRebuild) {
+                break;
+            }
+        }
+
+        if (update.fullRebuild) {
+            logger.log(String.format("Policy types changed in %d organization change events, crawling the organization again.", events.size()));
+            return snapshotBuilder.build();
+        }
+        relistParents(update);
+        relistTargets(update);
+
+        final OrgTreeSnapshot refreshed = update.toSnapshot();
+        logger.log(String.format("Refreshed organization snapshot from %d change events, listing %d parents, %d children and %d targets again, in %d ms.",
+            events.size(), update.listedParents.size(), update.locatedChildren.size(), update.targetsToList.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        return refreshed;
+    }
+
+    /**
+     * Applies an event that is newer than the snapshot.
+     *
+     * @return false when the event does not agree with the snapshot, which means an earlier event was missed
+     */
+    private boolean apply(final TreeUpdate update, final OrgChangeEvent event) {
+        switch (event.getEventName()) {
+            case MOVE_ACCOUNT: {
+                final Node account = update.nodesById.get(event.getParameter(ACCOUNT_ID));
+                if (account == null || account.getType() != NodeType.ACCOUNT || !account.getParentId().equals(event.getParameter(SOURCE_PARENT_ID))
+                    || !update.isParent(event.getParameter(DESTINATION_PARENT_ID))) {
+                    return false;
+                }
+                update.move(account.getId(), event.getParameter(DESTINATION_PARENT_ID));
+                return true;
+            }
+            case CREATE_ACCOUNT_RESULT: {
+                final String accountId = event.getParameter(CREATED_ACCOUNT_ID);
+                if (!"SUCCEEDED".equals(event.getParameter(CREATED_ACCOUNT_STATE)) || update.nodesById.containsKey(accountId)) {
+                    return true;
+                }
+                if (accountId == null || update.rootIds.size() != 1) {
+                    return false;
+                }
+                // new accounts are placed in the root, with the default policies attached without an AttachPolicy event
+                final Node root = update.nodesById.get(update.rootIds.get(0));
+                update.attach(new Node(accountId, NodeType.ACCOUNT, event.getParameter(CREATED_ACCOUNT_NAME), accountArn(root.getArn(), accountId), root.getId()));
+                update.targetsToList.add(accountId);
+                return true;
+            }
+            case REMOVE_ACCOUNT:
+            case LEAVE_ORGANIZATION: {
+                final Node account = update.nodesById.get(removedAccountIdOf(event));
+                if (account == null) {
+                    return true;
+                }
+                if (account.getType() != NodeType.ACCOUNT) {
+                    return false;
+                }
+                update.remove(account.getId());
+                return true;
+            }
+            case ACCEPT_HANDSHAKE:
+                // an invited account joins the root, but the handshake does not say which one
+                return false;
+            case CREATE_ORGANIZATIONAL_UNIT: {
+                final String organizationalUnitId = event.getParameter(CREATED_ORGANIZATIONAL_UNIT + "id");
+                if (update.nodesById.containsKey(organizationalUnitId)) {
+                    return true;
+                }
+                if (organizationalUnitId == null || !update.isParent(event.getParameter(PARENT_ID))) {
+                    return false;
+                }
+                update.attach(new Node(organizationalUnitId, NodeType.ORGANIZATIONAL_UNIT, event.getParameter(CREATED_ORGANIZATIONAL_UNIT + "name"),
+                    event.getParameter(CREATED_ORGANIZATIONAL_UNIT + "arn"), event.getParameter(PARENT_ID)));
+                update.targetsToList.add(organizationalUnitId);
+                return true;
+            }
+            case DELETE_ORGANIZATIONAL_UNIT: {
+                final Node organizationalUnit = update.nodesById.get(event.getParameter(ORGANIZATIONAL_UNIT_ID));
+                if (organizationalUnit == null) {
+                    return true;
+                }
+                // only empty OUs can be deleted, so children here were moved or removed by events we did not get
+                if (organizationalUnit.getType() != NodeType.ORGANIZATIONAL_UNIT || !update.childIds(organizationalUnit.getId()).isEmpty()) {
+                    return false;
+                }
+                update.remove(organizationalUnit.getId());
+                return true;
+            }
+            case UPDATE_ORGANIZATIONAL_UNIT: {
+                final Node organizationalUnit = update.nodesById.get(event.getParameter(ORGANIZATIONAL_UNIT_ID));
+                if (organizationalUnit == null || event.getParameter(NAME) == null) {
+                    return organizationalUnit != null;
+                }
+                update.putNode(new Node(organizationalUnit.getId(), organizationalUnit.getType(), event.getParameter(NAME),
+                    organizationalUnit.getArn(), organizationalUnit.getParentId()));
+                return true;
+            }
+            case ATTACH_POLICY: {
+                final String targetId = event.getParameter(TARGET_ID);
+                if (!update.nodesById.containsKey(targetId) || !update.policiesById.containsKey(event.getParameter(POLICY_ID))) {
+                    return false;
+                }
+                update.editPolicyIds(targetId).add(event.getParameter(POLICY_ID));
+                return true;
+            }
+            case DETACH_POLICY: {
+                final String targetId = event.getParameter(TARGET_ID);
+                if (update.nodesById.containsKey(targetId)) {
+                    update.editPolicyIds(targetId).remove(event.getParameter(POLICY_ID));
+                }
+                return true;
+            }
+            case CREATE_POLICY:
+            case UPDATE_POLICY: {
+                final Policy policy = policyOf(event);
+                if (policy != null) {
+                    update.policiesById.put(policy.getId(), policy);
+                }
+                return true;
+            }
+            case DELETE_POLICY:
+                update.policiesById.remove(event.getParameter(POLICY_ID));
+                return true;
+            case ENABLE_POLICY_TYPE:
+            case DISABLE_POLICY_TYPE:
+                update.fullRebuild = true;
+                return true;
+            default:
+                logUnrecognised(event);
+                return true;
+        }
+    }
+
+    /**
+     * Marks what an event touched to be listed again, for events that are late or do not agree with the snapshot.
+     */
+    private void relist(final TreeUpdate update, final OrgChangeEvent event) {
+        switch (event.getEventName()) {
+            case MOVE_ACCOUNT:
+                update.relistParent(event.getParameter(SOURCE_PARENT_ID));
+                update.relistParent(event.getParameter(DESTINATION_PARENT_ID));
+                update.relistParentOf(event.getParameter(ACCOUNT_ID));
+                break;
+            case CREATE_ACCOUNT_RESULT:
+                if ("SUCCEEDED".equals(event.getParameter(CREATED_ACCOUNT_STATE))) {
+                    update.rootIds.forEach(update::relistParent);
+                }
+                break;
+            case ACCEPT_HANDSHAKE:
+                update.rootIds.forEach(update::relistParent);
+                break;
+            case REMOVE_ACCOUNT:
+            case LEAVE_ORGANIZATION:
+                update.relistParentOf(removedAccountIdOf(event));
+                break;
+            case CREATE_ORGANIZATIONAL_UNIT:
+                update.relistParent(event.getParameter(PARENT_ID));
+                break;
+            case DELETE_ORGANIZATIONAL_UNIT:
+            case UPDATE_ORGANIZATIONAL_UNIT:
+                update.relistParentOf(event.getParameter(ORGANIZATIONAL_UNIT_ID));
+                break;
+            case ATTACH_POLICY:
+            case DETACH_POLICY: {
+                final String targetId = event.getParameter(TARGET_ID);
+                if (targetId != null) {
+                    update.targetsToList.add(targetId);
+                    if (!update.nodesById.containsKey(targetId)) {
+                        update.childrenToLocate.add(targetId);
+                    }
+                }
+                break;
+            }
+            case CREATE_POLICY: {
+                // a late UpdatePolicy could revert a newer name, so only policies not known yet are taken
+                final Policy policy = policyOf(event);
+                if (policy != null) {
+                    update.policiesById.putIfAbsent(policy.getId(), policy);
+                }
+                break;
+            }
+            case DELETE_POLICY:
+                update.policiesById.remove(event.getParameter(POLICY_ID));
+                break;
+            case ENABLE_POLICY_TYPE:
+            case DISABLE_POLICY_TYPE:
+                update.fullRebuild = true;
+                break;
+            default:
+                logUnrecognised(event);
+                break;
+        }
+    }
+
+    // read-only calls and changes that do not affect the tree, such as tagging, end up here as well
+    private void logUnrecognised(final OrgChangeEvent event) {
+        logger.log(String.format("Ignoring organization change event [%s] with id [%s], which does not change the snapshot.",
+            event.getEventName(), event.getEventId()));
+    }
+
+    private static String removedAccountIdOf(final OrgChangeEvent event) {
+        return LEAVE_ORGANIZATION.equals(event.getEventName()) ? event.getParameter(CALLER_ACCOUNT_ID) : event.getParameter(ACCOUNT_ID);
+    }
+
+    /**
+     * Lists the marked parents level by level, then locates the children that left them with ListParents, until
+     * every moved, new or missing node has been placed. New OUs found on the way are listed as well.
+     */
+    private void relistParents(final TreeUpdate update) {
+        List<String> pending = new ArrayList<>(update.parentsToList);
+        do {
+            while (!pending.isEmpty()) {
+                pending = listChildren(update, pending);
+            }
+            pending = locateChildren(update);
+        } while (!pending.isEmpty());
+    }
+
+    // lists one level of parents concurrently and returns the new OUs found among their children
+    private List<String> listChildren(final TreeUpdate update, final List<String> parentIds) {
+        final Map<String, CompletableFuture<List<Node>>> ouFutures = new LinkedHashMap<>();
+        final Map<String, CompletableFuture<List<Node>>> accountFutures = new LinkedHashMap<>();
+        for (final String parentId : parentIds) {
+            if (update.nodesById.containsKey(parentId) && update.listedParents.add(parentId)) {
+                ouFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> snapshotBuilder.listChildOrganizationalUnits(parentId)));
+                accountFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> snapshotBuilder.listChildAccounts(parentId)));
+            }
+        }
+
+        final List<String> newOrganizationalUnitIds = new ArrayList<>();
+        for (final String parentId : ouFutures.keySet()) {
+            final List<Node> children = new ArrayList<>(OrgsConcurrentExecutor.join(ouFutures.get(parentId)));
+            children.addAll(OrgsConcurrentExecutor.join(accountFutures.get(parentId)));
+            final List<String> childIds = new ArrayList<>(children.size());
+            for (final Node child : children) {
+                childIds.add(child.getId());
+            }
+            final Set<String> listedIds = new HashSet<>(childIds);
+            for (final String previousChildId : update.childIds(parentId)) {
+                if (!listedIds.contains(previousChildId)) {
+                    update.childrenToLocate.add(previousChildId);
+                }
+            }
+            for (final Node child : children) {
+                final Node previous = update.nodesById.get(child.getId());
+                if (previous == null) {
+                    update.targetsToList.add(child.getId());
+                    if (child.getType() == NodeType.ORGANIZATIONAL_UNIT) {
+                        newOrganizationalUnitIds.add(child.getId());
+                    }
+                } else if (!parentId.equals(previous.getParentId())) {
+                    update.detach(previous.getId());
+                }
+                update.putNode(child);
+            }
+            update.replaceChildIds(parentId, childIds);
+            update.childrenToLocate.removeAll(listedIds);
+        }
+        return newOrganizationalUnitIds;
+    }
+
+    // looks up the parents of the children that left a listed parent or could not be placed, and returns the parents to list
+    private List<String> locateChildren(final TreeUpdate update) {
+        final Map<String, CompletableFuture<String>> parentFutures = new LinkedHashMap<>();
+        for (final String childId : update.childrenToLocate) {
+            if (update.locatedChildren.add(childId)) {
+                parentFutures.put(childId, OrgsConcurrentExecutor.supplyAsync(() -> lookUpParentId(childId)));
+            }
+        }
+        update.childrenToLocate.clear();
+
+        final Set<String> parentIds = new LinkedHashSet<>();
+        parentFutures.forEach((childId, future) -> {
+            final String parentId = OrgsConcurrentExecutor.join(future);
+            final Node child = update.nodesById.get(childId);
+            if (parentId == null) {
+                // gone from the organization; whatever it still held in the snapshot has to be located too
+                if (child != null) {
+                    update.childrenToLocate.addAll(update.remove(childId));
+                }
+            } else if (!update.nodesById.containsKey(parentId)) {
+                // under an OU created by an event we did not get, which has to be placed first
+                update.childrenToLocate.add(parentId);
+            } else if (!update.listedParents.contains(parentId)) {
+                parentIds.add(parentId);
+            } else if (child != null && !parentId.equals(child.getParentId())) {
+                // moved after its new parent was listed
+                update.move(childId, parentId);
+            }
+        });
+        if (parentIds.isEmpty() && !update.childrenToLocate.isEmpty()) {
+            return locateChildren(update);
+        }
+        return new ArrayList<>(parentIds);
+    }
+
+    private String lookUpParentId(final String childId) {
+        try {
+            return snapshotBuilder.getParentId(childId);
+        } catch (ChildNotFoundException e) {
+            return null;
+        }
+    }
+
+    // lists the policies attached to the marked targets, for every policy type enabled when the organization was crawled;
+    // enabling or disabling a type triggers a new crawl, so the set stays current
+    private void relistTargets(final TreeUpdate update) {
+        final Set<String> policyTypes = update.enabledPolicyTypes;
+        final Map<String, List<CompletableFuture<List<Policy>>>> policyFutures = new LinkedHashMap<>();
+        for (final String targetId : update.targetsToList) {
+            if (!update.nodesById.containsKey(targetId)) {
+                continue;
+            }
+            final List<CompletableFuture<List<Policy>>> futures = new ArrayList<>(policyTypes.size());
+            for (final String policyType : policyTypes) {
+                futures.add(OrgsConcurrentExecutor.supplyAsync(() -> snapshotBuilder.listAttachedPolicies(targetId, policyType)));
+            }
+            policyFutures.put(targetId, futures);
+        }
+        policyFutures.forEach((targetId, futures) -> {
+            final Set<String> policyIds = update.editPolicyIds(targetId);
+            policyIds.clear();
+            for (final CompletableFuture<List<Policy>> future : futures) {
+                for (final Policy policy : OrgsConcurrentExecutor.join(future)) {
+                    policyIds.add(policy.getId());
+                    update.policiesById.put(policy.getId(), policy);
+                }
+            }
+        });
+    }
+
+    private static Policy policyOf(final OrgChangeEvent event) {
+        final String policyId = event.getParameter(POLICY_SUMMARY + "id");
+        if (policyId == null) {
+            return null;
+        }
+        return new Policy(policyId, event.getParameter(POLICY_SUMMARY + "name"), event.getParameter(POLICY_SUMMARY + "type"),
+            Boolean.parseBoolean(event.getParameter(POLICY_SUMMARY + "awsManaged")));
+    }
+
+    // arn:aws:organizations::<management account>:root/<organization id>/<root id> gives the account ARN prefix
+    static String accountArn(final String rootArn, final String accountId) {
+        final String rootMarker = ":root/";
+        final int rootIndex = rootArn == null ? -1 : rootArn.indexOf(rootMarker);
+        final int organizationEnd = rootIndex < 0 ? -1 : rootArn.indexOf('/', rootIndex + rootMarker.length());
+        if (organizationEnd < 0) {
+            return null;
+        }
+        return rootArn.substring(0, rootIndex) + ":account/" + rootArn.substring(rootIndex + rootMarker.length(), organizationEnd) + "/" + accountId;
+    }
+
+    /**
+     * Working copy of a snapshot. The maps record their changes on top of the snapshot's instead of copying it, and the
+     * node counts are adjusted as nodes come and go; child lists and policy sets are copied only when they change, and
+     * sealed again by {@link #toSnapshot}.
+     */
+    private static final class TreeUpdate {
+        private final List<String> rootIds;
+        private final LayeredMap.Editor<String, Node> nodesById;
+        private final LayeredMap.Editor<String, List<String>> childIdsByParent;
+        private final LayeredMap.Editor<String, Set<String>> policyIdsByTarget;
+        private final LayeredMap.Editor<String, Policy> policiesById;
+        private final Set<String> enabledPolicyTypes;
+        private final Set<String> editedParents = new HashSet<>();
+        private final Set<String> editedTargets = new HashSet<>();
+        private final Set<String> parentsToList = new LinkedHashSet<>();
+        private final Set<String> listedParents = new HashSet<>();
+        private final Set<String> childrenToLocate = new LinkedHashSet<>();
+        private final Set<String> locatedChildren = new HashSet<>();
+        private final Set<String> targetsToList = new LinkedHashSet<>();
+        private int organizationalUnitCount;
+        private int accountCount;
+        private Instant asOf;
+        private boolean fullRebuild;
+
+        private TreeUpdate(final OrgTreeSnapshot snapshot) {
+            this.rootIds = snapshot.getRootIds();
+            this.nodesById = snapshot.nodes().edit();
+            this.childIdsByParent = snapshot.children().edit();
+            this.policyIdsByTarget = snapshot.attachedPolicies().edit();
+            this.policiesById = snapshot.policies().edit();
+            this.enabledPolicyTypes = snapshot.getEnabledPolicyTypes();
+            this.organizationalUnitCount = snapshot.getOrganizationalUnitCount();
+            this.accountCount = snapshot.getAccountCount();
+            this.asOf = snapshot.getAsOf();
+        }
+
+        private boolean isParent(final String id) {
+            final Node node = id == null ? null : nodesById.get(id);
+            return node != null && node.getType() != NodeType.ACCOUNT;
+        }
+
+        private void relistParent(final String parentId) {
+            if (isParent(parentId)) {
+                parentsToList.add(parentId);
+            } else if (parentId != null) {
+                childrenToLocate.add(parentId);
+            }
+        }
+
+        private void relistParentOf(final String childId) {
+            final Node child = childId == null ? null : nodesById.get(childId);
+            if (child != null && child.getParentId() != null) {
+                parentsToList.add(child.getParentId());
+            } else if (child == null && childId != null) {
+                childrenToLocate.add(childId);
+            }
+        }
+
+        private List<String> childIds(final String parentId) {
+            return childIdsByParent.getOrDefault(parentId, Collections.emptyList());
+        }
+
+        private List<String> editChildIds(final String parentId) {
+            if (editedParents.add(parentId)) {
+                childIdsByParent.put(parentId, new ArrayList<>(childIds(parentId)));
+            }
+            return childIdsByParent.get(parentId);
+        }
+
+        private void replaceChildIds(final String parentId, final List<String> childIds) {
+            editedParents.add(parentId);
+            childIdsByParent.put(parentId, childIds);
+        }
+
+        private Set<String> editPolicyIds(final String targetId) {
+            if (editedTargets.add(targetId)) {
+                policyIdsByTarget.put(targetId, new LinkedHashSet<>(policyIdsByTarget.getOrDefault(targetId, Collections.emptySet())));
+            }
+            return policyIdsByTarget.get(targetId);
+        }
+
+        private void putNode(final Node node) {
+            countNode(nodesById.put(node.getId(), node), -1);
+            countNode(node, 1);
+        }
+
+        private void countNode(final Node node, final int delta) {
+            if (node == null) {
+                return;
+            }
+            if (node.getType() == NodeType.ORGANIZATIONAL_UNIT) {
+                organizationalUnitCount += delta;
+            } else if (node.getType() == NodeType.ACCOUNT) {
+                accountCount += delta;
+            }
+        }
+
+        // adds the node to its parent, keeping child OUs ahead of child accounts as the listings return them
+        private void attach(final Node node) {
+            putNode(node);
+            final List<String> siblingIds = editChildIds(node.getParentId());
+            int index = siblingIds.size();
+            if (node.getType() == NodeType.ORGANIZATIONAL_UNIT) {
+                index = 0;
+                while (index < siblingIds.size() && isParent(siblingIds.get(index))) {
+                    index++;
+                }
+            }
+            siblingIds.add(index, node.getId());
+        }
+
+        private void detach(final String id) {
+            final Node node = nodesById.get(id);
+            if (node != null && node.getParentId() != null) {
+                editChildIds(node.getParentId()).remove(id);
+            }
+        }
+
+        private void move(final String id, final String parentId) {
+            detach(id);
+            final Node node = nodesById.get(id);
+            attach(new Node(id, node.getType(), node.getName(), node.getArn(), parentId));
+        }
+
+        /**
+         * @return the ids of the node's children in the snapshot, which stay in place until they are located
+         */
+        private List<String> remove(final String id) {
+            detach(id);
+            countNode(nodesById.remove(id), -1);
+            policyIdsByTarget.remove(id);
+            final List<String> childIds = childIdsByParent.remove(id);
+            return childIds == null ? Collections.emptyList() : childIds;
+        }
+
+        private OrgTreeSnapshot toSnapshot() {
+            for (final String parentId : editedParents) {
+                final List<String> childIds = childIdsByParent.get(parentId);
+                if (childIds == null) {
+                    continue;
+                }
+                if (childIds.isEmpty() || !nodesById.containsKey(parentId)) {
+                    childIdsByParent.remove(parentId);
+                } else {
+                    childIdsByParent.put(parentId, Collections.unmodifiableList(childIds));
+                }
+            }
+            for (final String targetId : editedTargets) {
+                final Set<String> policyIds = policyIdsByTarget.get(targetId);
+                if (policyIds == null) {
+                    continue;
+                }
+                if (policyIds.isEmpty() || !nodesById.containsKey(targetId)) {
+                    policyIdsByTarget.remove(targetId);
+                } else {
+                    policyIdsByTarget.put(targetId, OrgTreeSnapshotBuilder.sealPolicyIds(policyIds));
+                }
+            }
+            return new OrgTreeSnapshot(rootIds, nodesById.commit(), childIdsByParent.commit(), policyIdsByTarget.commit(), policiesById.commit(),
+                enabledPolicyTypes, organizationalUnitCount, accountCount, asOf);
+        }
+    }
+}
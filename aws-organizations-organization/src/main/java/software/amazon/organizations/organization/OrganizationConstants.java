@@ -1,6 +1,21 @@
 package software.amazon.organizations.organization;
 
 public class OrganizationConstants {
+    // in-invocation wait for a new organization to become visible before falling back to callback delays;
+    // only the first invocation waits, later ones probe once after their callback delay
+    public static final long PROPAGATION_PROBE_BUDGET_MILLIS = 5000L;
+    public static final long PROPAGATION_PROBE_INITIAL_DELAY_MILLIS = 250L;
+    public static final long PROPAGATION_PROBE_MAX_DELAY_MILLIS = 2000L;
+    public static final int MAX_PROPAGATION_PROBE_CALLBACKS = 3;
+
+    // how long a warm container trusts the organization metadata it last read; 0 disables the cache
+    public static final String METADATA_CACHE_TTL_SECONDS_ENV = "ORGANIZATION_METADATA_CACHE_TTL_SECONDS";
+    public static final long DEFAULT_METADATA_CACHE_TTL_SECONDS = 300;
+
+    // default rate limit (calls per second) of one OrgTreeSnapshotBuilder, shared by all calls of its crawl;
+    // the same as the OU module's BULK_CREATE_PER_SECOND, as both draw on the account's Organizations API throttle
+    public static final double SNAPSHOT_CRAWL_PER_SECOND = 5.0;
+
     // constants used for handleRetriableException
     public enum Action {
         CREATE_ORG,
@@ -0,0 +1,122 @@
+package software.amazon.organizations.organization;
+
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-level cache of the organization as returned by Read, keyed by management account id since an account
+ * manages at most one organization. The id, arn, root and management account never change for the life of an
+ * organization, so entries are only dropped by this resource's own DeleteOrganization, by
+ * AwsOrganizationsNotInUseException, or after a TTL that bounds how long a feature set change goes unnoticed.
+ */
+public class OrganizationMetadataCache {
+    private static final OrganizationMetadataCache SHARED =
+        new OrganizationMetadataCache(Clock.systemUTC(), parseTtl(System.getenv(OrganizationConstants.METADATA_CACHE_TTL_SECONDS_ENV)));
+
+    private final Map<String, CachedOrganization> organizationByAccount = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration ttl;
+
+    OrganizationMetadataCache(final Clock clock, final Duration ttl) {
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    public static OrganizationMetadataCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return a new model of the account's organization, or null when there is no live entry
+     */
+    ResourceModel get(final String accountId) {
+        final CachedOrganization cached = organizationByAccount.get(toKey(accountId));
+        if (cached != null && clock.instant().isBefore(cached.expiresAt)) {
+            return cached.toResourceModel();
+        }
+        return null;
+    }
+
+    /**
+     * Caches a model read from DescribeOrganization and ListRoots. A model without an id or root id is not cached.
+     */
+    void put(final String accountId, final ResourceModel model) {
+        if (model == null || model.getId() == null || model.getRootId() == null) {
+            invalidate(accountId);
+            return;
+        }
+        organizationByAccount.put(toKey(accountId), new CachedOrganization(model, clock.instant().plus(ttl)));
+    }
+
+    void invalidate(final String accountId) {
+        organizationByAccount.remove(toKey(accountId));
+    }
+
+    /**
+     * Drops the account's entry when the exception shows the organization no longer exists.
+     */
+    void invalidateOn(final String accountId, final Exception e) {
+        if (e instanceof AwsOrganizationsNotInUseException) {
+            invalidate(accountId);
+        }
+    }
+
+    // falls back to the default TTL when the configured value is missing or not a non-negative number of seconds
+    static Duration parseTtl(final String ttlSeconds) {
+        final Duration defaultTtl = Duration.ofSeconds(OrganizationConstants.DEFAULT_METADATA_CACHE_TTL_SECONDS);
+        if (ttlSeconds == null) {
+            return defaultTtl;
+        }
+        try {
+            final long seconds = Long.parseLong(ttlSeconds.trim());
+            return seconds < 0 ? defaultTtl : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException e) {
+            return defaultTtl;
+        }
+    }
+
+    private static String toKey(final String accountId) {
+        return Objects.toString(accountId, "");
+    }
+
+    // ResourceModel is mutable, so only its values are kept and every reader gets its own copy
+    private static final class CachedOrganization {
+        private final String id;
+        private final String arn;
+        private final String featureSet;
+        private final String managementAccountArn;
+        private final String managementAccountId;
+        private final String managementAccountEmail;
+        private final String rootId;
+        private final Instant expiresAt;
+
+        private CachedOrganization(final ResourceModel model, final Instant expiresAt) {
+            this.id = model.getId();
+            this.arn = model.getArn();
+            this.featureSet = model.getFeatureSet();
+            this.managementAccountArn = model.getManagementAccountArn();
+            this.managementAccountId = model.getManagementAccountId();
+            this.managementAccountEmail = model.getManagementAccountEmail();
+            this.rootId = model.getRootId();
+            this.expiresAt = expiresAt;
+        }
+
+        private ResourceModel toResourceModel() {
+            return ResourceModel.builder()
+                .id(id)
+                .arn(arn)
+                .featureSet(featureSet)
+                .managementAccountArn(managementAccountArn)
+                .managementAccountId(managementAccountId)
+                .managementAccountEmail(managementAccountEmail)
+                .rootId(rootId)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package software.amazon.organizations.organization;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.ServiceException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Waits for a newly created organization to become visible to DescribeOrganization and ListRoots, retrying with a
+ * short exponential backoff inside the current invocation until a time budget is spent.
+ * Not-yet-propagated and retriable errors are retried; any other exception is propagated to the caller.
+ */
+public class OrganizationPropagationProbe {
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private final Clock clock;
+    private final Duration budget;
+    private final Sleeper sleeper;
+
+    public OrganizationPropagationProbe() {
+        this(Clock.systemUTC(), Duration.ofMillis(OrganizationConstants.PROPAGATION_PROBE_BUDGET_MILLIS), Thread::sleep);
+    }
+
+    OrganizationPropagationProbe(final Clock clock, final Duration budget, final Sleeper sleeper) {
+        this.clock = clock;
+        this.budget = budget;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * @param organizationId id returned by CreateOrganization, or null when it is not known
+     * @return the organization as Read would return it, or null if it did not become visible within the budget
+     */
+    ResourceModel awaitVisible(final String organizationId, final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger) {
+        final Instant deadline = clock.instant().plus(budget);
+        long delayMillis = OrganizationConstants.PROPAGATION_PROBE_INITIAL_DELAY_MILLIS;
+        int attempt = 1;
+        while (true) {
+            final ResourceModel visibleModel = probeOnce(organizationId, orgsClient, logger, attempt);
+            if (visibleModel != null) {
+                return visibleModel;
+            }
+            final long remainingMillis = Duration.between(clock.instant(), deadline).toMillis();
+            if (remainingMillis <= 0) {
+                logger.log(String.format("Organization [%s] was not visible after %d probe attempts within %d ms.", organizationId, attempt, budget.toMillis()));
+                return null;
+            }
+            try {
+                sleeper.sleep(Math.min(delayMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.log(String.format("Interrupted while waiting for organization [%s] to propagate.", organizationId));
+                return null;
+            }
+            delayMillis = Math.min(delayMillis * 2, OrganizationConstants.PROPAGATION_PROBE_MAX_DELAY_MILLIS);
+            attempt++;
+        }
+    }
+
+    /**
+     * Probes once without waiting, for invocations that already waited out a callback delay.
+     *
+     * @return the organization as Read would return it, or null if it is not visible yet
+     */
+    ResourceModel checkVisible(final String organizationId, final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger) {
+        return probeOnce(organizationId, orgsClient, logger, 1);
+    }
+
+    // returns null when the organization or its root is not visible yet
+    private ResourceModel probeOnce(final String organizationId, final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger, final int attempt) {
+        try {
+            final DescribeOrganizationResponse describeOrganizationResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToReadRequest(), orgsClient.client()::describeOrganization);
+            if (organizationId != null && !organizationId.equals(describeOrganizationResponse.organization().id())) {
+                logger.log(String.format("Probe attempt %d: DescribeOrganization returned [%s] instead of [%s].",
+                    attempt, describeOrganizationResponse.organization().id(), organizationId));
+                return null;
+            }
+            final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListRootsRequest(), orgsClient.client()::listRoots);
+            if (listRootsResponse.roots().isEmpty()) {
+                logger.log(String.format("Probe attempt %d: organization [%s] has no root yet.", attempt, organizationId));
+                return null;
+            }
+            final ResourceModel rootModel = ResourceModel.builder().rootId(listRootsResponse.roots().get(0).id()).build();
+            return Translator.translateFromReadResponse(describeOrganizationResponse, rootModel);
+        } catch (AwsOrganizationsNotInUseException | ConcurrentModificationException | TooManyRequestsException | ServiceException e) {
+            logger.log(String.format("Probe attempt %d: organization [%s] not visible yet, got %s.", attempt, organizationId, e.getClass().getSimpleName()));
+            return null;
+        }
+    }
+}
@@ -10,12 +10,23 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class ReadHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final OrganizationMetadataCache organizationMetadataCache;
+
+    public ReadHandler() {
+        this(OrganizationMetadataCache.shared());
+    }
+
+    public ReadHandler(final OrganizationMetadataCache organizationMetadataCache) {
+        this.organizationMetadataCache = organizationMetadataCache;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy awsClientProxy,
@@ -27,13 +38,28 @@ public class ReadHandler extends BaseHandlerStd {
         this.log = logger;
         logger.log(String.format("Entered %s read handler for Organization resource type with account Id [%s].", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
 
+        final ResourceModel cachedModel = organizationMetadataCache.get(request.getAwsAccountId());
+        if (cachedModel != null) {
+            logger.log(String.format("Using cached Organization [%s] for management account Id [%s].", cachedModel.getId(), request.getAwsAccountId()));
+            return ProgressEvent.defaultSuccessHandler(cachedModel);
+        }
+
+        // DescribeOrganization does not depend on ListRoots, so it is in flight while the root id is retrieved
+        final CompletableFuture<DescribeOrganizationResponse> describeOrganizationFuture =
+                OrgsConcurrentExecutor.supplyAsync(() -> describeOrganization(Translator.translateToReadRequest(), orgsClient));
+
         final ResourceModel model = request.getDesiredResourceState();
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> awsClientProxy.initiate("AWS-Organizations-Organization::Read::GetRootId", orgsClient, model, callbackContext)
                         .translateToServiceRequest(t -> Translator.translateToListRootsRequest())
                         .makeServiceCall(this::listRoots)
-                        .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(
-                                organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.GETROOT_ID, OrganizationConstants.Handler.READ))
+                        .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                            // do not leave DescribeOrganization running once the handler has returned
+                            awaitQuietly(describeOrganizationFuture);
+                            organizationMetadataCache.invalidateOn(request.getAwsAccountId(), e);
+                            return handleErrorInGeneral(
+                                organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.GETROOT_ID, OrganizationConstants.Handler.READ);
+                        })
                         .done(listRootsResponse -> {
                             model.setRootId(listRootsResponse.roots().stream().map(Root::id).collect(Collectors.toList()).get(0));
                             return ProgressEvent.progress(model, callbackContext);
@@ -41,13 +67,28 @@ public class ReadHandler extends BaseHandlerStd {
                 )
                 .then(progress -> awsClientProxy.initiate("AWS-Organizations-Organization::Read::DescribeOrganization", orgsClient, model, callbackContext)
                         .translateToServiceRequest(t -> Translator.translateToReadRequest())
-                        .makeServiceCall(this::describeOrganization)
-                        .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(
-                                organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.DESCRIBE_ORG, OrganizationConstants.Handler.READ))
-                        .done(describeOrganizationResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(describeOrganizationResponse, model)))
+                        .makeServiceCall((describeOrganizationRequest, proxyClient) -> OrgsConcurrentExecutor.join(describeOrganizationFuture))
+                        .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                            organizationMetadataCache.invalidateOn(request.getAwsAccountId(), e);
+                            return handleErrorInGeneral(
+                                organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.DESCRIBE_ORG, OrganizationConstants.Handler.READ);
+                        })
+                        .done(describeOrganizationResponse -> {
+                            final ResourceModel readModel = Translator.translateFromReadResponse(describeOrganizationResponse, model);
+                            organizationMetadataCache.put(request.getAwsAccountId(), readModel);
+                            return ProgressEvent.defaultSuccessHandler(readModel);
+                        })
                 );
     }
 
+    private static void awaitQuietly(final CompletableFuture<?> future) {
+        try {
+            OrgsConcurrentExecutor.join(future);
+        } catch (RuntimeException e) {
+            // the failure that is reported is the one already being handled
+        }
+    }
+
     protected DescribeOrganizationResponse describeOrganization(final DescribeOrganizationRequest describeOrganizationRequest, final ProxyClient<OrganizationsClient> orgsClient) {
         log.log(String.format("Retrieving organization details."));
         final DescribeOrganizationResponse response = orgsClient.injectCredentialsAndInvokeV2(describeOrganizationRequest, orgsClient.client()::describeOrganization);
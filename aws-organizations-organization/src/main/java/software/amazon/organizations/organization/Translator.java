@@ -5,6 +5,12 @@ import software.amazon.awssdk.services.organizations.model.DescribeOrganizationR
 import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
 import software.amazon.awssdk.services.organizations.model.DeleteOrganizationRequest;
 import software.amazon.awssdk.services.organizations.model.DescribeOrganizationResponse;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
 import software.amazon.awssdk.services.organizations.model.Organization;
 
 import java.util.List;
@@ -22,6 +28,47 @@ public class Translator {
         return ListRootsRequest.builder().build();
     }
 
+    static ListRootsRequest translateToListRootsRequest(final String nextToken) {
+        return ListRootsRequest.builder().nextToken(nextToken).build();
+    }
+
+    static ListOrganizationalUnitsForParentRequest translateToListOrganizationalUnitsForParentRequest(final String parentId, final String nextToken) {
+        return ListOrganizationalUnitsForParentRequest.builder()
+                .parentId(parentId)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static ListAccountsForParentRequest translateToListAccountsForParentRequest(final String parentId, final String nextToken) {
+        return ListAccountsForParentRequest.builder()
+                .parentId(parentId)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static ListPoliciesRequest translateToListPoliciesRequest(final String policyType, final String nextToken) {
+        return ListPoliciesRequest.builder().filter(policyType).nextToken(nextToken).build();
+    }
+
+    static ListTargetsForPolicyRequest translateToListTargetsForPolicyRequest(final String policyId, final String nextToken) {
+        return ListTargetsForPolicyRequest.builder()
+                .policyId(policyId)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static ListParentsRequest translateToListParentsRequest(final String childId) {
+        return ListParentsRequest.builder().childId(childId).build();
+    }
+
+    static ListPoliciesForTargetRequest translateToListPoliciesForTargetRequest(final String targetId, final String policyType, final String nextToken) {
+        return ListPoliciesForTargetRequest.builder()
+                .targetId(targetId)
+                .filter(policyType)
+                .nextToken(nextToken)
+                .build();
+    }
+
     static ResourceModel translateFromReadResponse(final DescribeOrganizationResponse describeOrganizationResponse, final ResourceModel model) {
         Organization organization = describeOrganizationResponse.organization();
         return ResourceModel.builder()
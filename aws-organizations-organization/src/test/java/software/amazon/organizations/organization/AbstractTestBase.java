@@ -2,6 +2,8 @@ package software.amazon.organizations.organization;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -81,6 +83,10 @@ public class AbstractTestBase {
         };
     }
 
+    static OrganizationMetadataCache generateEmptyOrganizationMetadataCache() {
+        return new OrganizationMetadataCache(Clock.systemUTC(), Duration.ofSeconds(OrganizationConstants.DEFAULT_METADATA_CACHE_TTL_SECONDS));
+    }
+
     protected ResourceModel generateResourceModel() {
         ResourceModel model = ResourceModel.builder()
                 .featureSet(TEST_FEATURE_SET)
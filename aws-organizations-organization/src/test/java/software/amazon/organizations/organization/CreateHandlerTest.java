@@ -3,6 +3,7 @@ package software.amazon.organizations.organization;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.*;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -22,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -36,10 +38,12 @@ public class CreateHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<OrganizationsClient> mockProxyClient;
     private CreateHandler createHandler;
+    private OrganizationMetadataCache organizationMetadataCache;
 
     @BeforeEach
     public void setup() {
-        createHandler = new CreateHandler();
+        organizationMetadataCache = generateEmptyOrganizationMetadataCache();
+        createHandler = new CreateHandler(organizationMetadataCache, new OrganizationPropagationProbe());
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -51,6 +55,24 @@ public class CreateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(mockOrgsClient);
     }
 
+    // a single probe attempt, so tests never sleep
+    private static OrganizationPropagationProbe generatePropagationProbe() {
+        return new OrganizationPropagationProbe(Clock.systemUTC(), Duration.ZERO, millis -> {
+            throw new AssertionError("Probe is not expected to sleep with an empty budget.");
+        });
+    }
+
+    private static Organization generateOrganization() {
+        return Organization.builder()
+                .id(TEST_ORG_ID)
+                .arn(TEST_ORG_ARN)
+                .featureSet(TEST_FEATURE_SET)
+                .masterAccountArn(TEST_MANAGEMENT_ACCOUNT_ARN)
+                .masterAccountId(TEST_MANAGEMENT_ACCOUNT_ID)
+                .masterAccountEmail(TEST_MANAGEMENT_ACCOUNT_EMAIL)
+                .build();
+    }
+
     @Test
     public void handleRequest_SimpleSuccess() {
         final ResourceModel model = ResourceModel.builder()
@@ -113,6 +135,133 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).createOrganization(any(CreateOrganizationRequest.class));
     }
 
+    @Test
+    public void handleRequest_OrganizationVisible_SucceedsWithoutCallback() {
+        createHandler = new CreateHandler(organizationMetadataCache, generatePropagationProbe());
+        final ResourceModel model = ResourceModel.builder()
+                .featureSet(TEST_FEATURE_SET)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().createOrganization(any(CreateOrganizationRequest.class))).thenReturn(CreateOrganizationResponse.builder()
+                .organization(generateOrganization())
+                .build());
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder().roots(
+                software.amazon.awssdk.services.organizations.model.Root.builder()
+                        .id(TEST_ROOT_ID)
+                        .build()).build());
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenReturn(DescribeOrganizationResponse.builder()
+                .organization(generateOrganization())
+                .build());
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(generateResourceModel());
+        assertThat(context.getPropagationProbeCallbacks()).isEqualTo(0);
+        assertThat(organizationMetadataCache.get(null)).isEqualTo(generateResourceModel());
+
+        verify(mockProxyClient.client()).createOrganization(any(CreateOrganizationRequest.class));
+        verify(mockProxyClient.client(), times(1)).describeOrganization(any(DescribeOrganizationRequest.class));
+        verify(mockProxyClient.client(), times(1)).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OrganizationNotVisible_FallsBackToCallbackDelay() {
+        createHandler = new CreateHandler(organizationMetadataCache, generatePropagationProbe());
+        final ResourceModel model = ResourceModel.builder()
+                .featureSet(TEST_FEATURE_SET)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().createOrganization(any(CreateOrganizationRequest.class))).thenReturn(CreateOrganizationResponse.builder()
+                .organization(generateOrganization())
+                .build());
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AwsOrganizationsNotInUseException.class);
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(1);
+        assertThat(context.isOrgCreated()).isTrue();
+        assertThat(context.isPropagationDelay()).isFalse();
+        assertThat(context.getPropagationProbeCallbacks()).isEqualTo(1);
+
+        verify(mockProxyClient.client()).createOrganization(any(CreateOrganizationRequest.class));
+        verify(mockProxyClient.client()).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OrganizationNotVisibleOnCallback_ProbesOnceWithoutSleeping() {
+        createHandler = new CreateHandler(organizationMetadataCache, new OrganizationPropagationProbe(Clock.systemUTC(),
+            Duration.ofMillis(OrganizationConstants.PROPAGATION_PROBE_BUDGET_MILLIS), millis -> {
+                throw new AssertionError("Probe is not expected to sleep after a callback delay.");
+            }));
+        final ResourceModel model = ResourceModel.builder()
+                .featureSet(TEST_FEATURE_SET)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AwsOrganizationsNotInUseException.class);
+
+        final CallbackContext context = new CallbackContext();
+        context.setOrgCreated(true);
+        context.setPropagationProbeCallbacks(1);
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(2);
+        assertThat(context.getPropagationProbeCallbacks()).isEqualTo(2);
+
+        verify(mockProxyClient.client()).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OrganizationNotVisibleAfterMaxCallbacks_ContinuesWithRead() {
+        createHandler = new CreateHandler(organizationMetadataCache, generatePropagationProbe());
+        final ResourceModel model = ResourceModel.builder()
+                .featureSet(TEST_FEATURE_SET)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder().roots(
+                software.amazon.awssdk.services.organizations.model.Root.builder()
+                        .id(TEST_ROOT_ID)
+                        .build()).build());
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AwsOrganizationsNotInUseException.class);
+
+        final CallbackContext context = new CallbackContext();
+        context.setOrgCreated(true);
+        context.setPropagationProbeCallbacks(OrganizationConstants.MAX_PROPAGATION_PROBE_CALLBACKS);
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(context.isPropagationDelay()).isTrue();
+
+        verify(mockProxyClient.client(), times(2)).describeOrganization(any(DescribeOrganizationRequest.class));
+        verify(mockProxyClient.client()).listRoots(any(ListRootsRequest.class));
+    }
+
     @Test
     public void handleRequest_Fails_With_CfnAlreadyExistsException() {
         final ResourceModel model = ResourceModel.builder().build();
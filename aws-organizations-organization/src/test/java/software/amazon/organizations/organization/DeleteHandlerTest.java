@@ -39,10 +39,13 @@ public class DeleteHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<OrganizationsClient> mockProxyClient;
     private DeleteHandler deleteHandler;
+    private OrganizationMetadataCache organizationMetadataCache;
 
     @BeforeEach
     public void setup() {
-        deleteHandler = new DeleteHandler();
+        organizationMetadataCache = generateEmptyOrganizationMetadataCache();
+        organizationMetadataCache.put(null, generateResourceModel());
+        deleteHandler = new DeleteHandler(organizationMetadataCache);
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -75,6 +78,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        assertThat(organizationMetadataCache.get(null)).isNull();
 
         verify(mockProxyClient.client()).deleteOrganization(any(DeleteOrganizationRequest.class));
     }
@@ -93,6 +97,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(organizationMetadataCache.get(null)).isNull();
     }
 
     @Test
@@ -109,5 +114,6 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(organizationMetadataCache.get(null)).isEqualTo(generateResourceModel());
     }
 }
@@ -0,0 +1,366 @@
+package software.amazon.organizations.organization;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Parent;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
+import software.amazon.awssdk.services.organizations.model.PolicyType;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeStatus;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeSummary;
+import software.amazon.awssdk.services.organizations.model.Root;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-memory organization for crawl tests and benchmarks. The root has {@code breadth} OUs, each of which has
+ * {@code breadth} child OUs down to {@code depth} levels, and the root and every OU hold {@code accountsPerParent}
+ * accounts. The AWS managed FullAWSAccess SCP is attached to every root, OU and account, and every top-level OU has
+ * one more SCP of its own. Pages hold 20 entries and every call sleeps for a fixed latency first. The tree can be
+ * changed between calls, the way the matching Organizations calls would change it, to exercise snapshot refreshes.
+ */
+final class FakeOrganizationTreeClient implements OrganizationsClient {
+    static final String ROOT_ID = "r-root";
+    static final String FULL_AWS_ACCESS_POLICY_ID = "p-FullAWSAccess";
+    static final int PAGE_SIZE = 20;
+
+    private final long latencyMillis;
+    // parent id -> child OU ids, and parent id -> child account ids
+    private final Map<String, List<String>> organizationalUnitIdsByParent = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> accountIdsByParent = new ConcurrentHashMap<>();
+    private final Map<String, String> parentIdByChild = new ConcurrentHashMap<>();
+    private final Map<String, String> nameById = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> targetIdsByPolicy = new ConcurrentHashMap<>();
+    private final Map<String, String> typeByPolicy = new ConcurrentHashMap<>();
+    private final Set<String> enabledPolicyTypes = new CopyOnWriteArraySet<>(Collections.singleton(PolicyType.SERVICE_CONTROL_POLICY.toString()));
+    private final Map<String, RuntimeException> failuresByParent = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> callCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private int nextOrganizationalUnit;
+    private int nextAccount;
+
+    FakeOrganizationTreeClient(final int breadth, final int depth, final int accountsPerParent, final long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        final List<String> fullAwsAccessTargets = new ArrayList<>();
+        fullAwsAccessTargets.add(ROOT_ID);
+        populate(ROOT_ID, breadth, depth, accountsPerParent, fullAwsAccessTargets);
+        targetIdsByPolicy.put(FULL_AWS_ACCESS_POLICY_ID, fullAwsAccessTargets);
+        for (final String topLevelId : organizationalUnitIdsByParent.get(ROOT_ID)) {
+            targetIdsByPolicy.put(policyIdOf(topLevelId), new ArrayList<>(Collections.singletonList(topLevelId)));
+        }
+    }
+
+    static String policyIdOf(final String organizationalUnitId) {
+        return "p-" + organizationalUnitId;
+    }
+
+    /**
+     * Makes every listing of the parent's children fail with the given exception.
+     */
+    void failListingsOf(final String parentId, final RuntimeException failure) {
+        failuresByParent.put(parentId, failure);
+    }
+
+    List<String> getOrganizationalUnitIds(final String parentId) {
+        return organizationalUnitIdsByParent.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    List<String> getAccountIds(final String parentId) {
+        return accountIdsByParent.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    int getCallCount(final String operation) {
+        return callCounts.getOrDefault(operation, new AtomicInteger()).get();
+    }
+
+    int getMaxConcurrentCalls() {
+        return maxInFlight.get();
+    }
+
+    String getParentId(final String childId) {
+        return parentIdByChild.get(childId);
+    }
+
+    /**
+     * Creates an empty OU with FullAWSAccess attached, as CreateOrganizationalUnit does.
+     */
+    String createOrganizationalUnit(final String parentId) {
+        final String organizationalUnitId = String.format("ou-root-%08d", ++nextOrganizationalUnit);
+        organizationalUnitIdsByParent.put(organizationalUnitId, new ArrayList<>());
+        accountIdsByParent.put(organizationalUnitId, new ArrayList<>());
+        organizationalUnitIdsByParent.get(parentId).add(organizationalUnitId);
+        parentIdByChild.put(organizationalUnitId, parentId);
+        targetIdsByPolicy.get(FULL_AWS_ACCESS_POLICY_ID).add(organizationalUnitId);
+        return organizationalUnitId;
+    }
+
+    /**
+     * Creates an account in the root with FullAWSAccess attached, as CreateAccount does.
+     */
+    String createAccount() {
+        final String accountId = String.format("%012d", ++nextAccount);
+        accountIdsByParent.get(ROOT_ID).add(accountId);
+        parentIdByChild.put(accountId, ROOT_ID);
+        targetIdsByPolicy.get(FULL_AWS_ACCESS_POLICY_ID).add(accountId);
+        return accountId;
+    }
+
+    void moveAccount(final String accountId, final String destinationParentId) {
+        accountIdsByParent.get(parentIdByChild.get(accountId)).remove(accountId);
+        accountIdsByParent.get(destinationParentId).add(accountId);
+        parentIdByChild.put(accountId, destinationParentId);
+    }
+
+    void removeAccount(final String accountId) {
+        accountIdsByParent.get(parentIdByChild.remove(accountId)).remove(accountId);
+        targetIdsByPolicy.values().forEach(targetIds -> targetIds.remove(accountId));
+    }
+
+    void deleteOrganizationalUnit(final String organizationalUnitId) {
+        if (!getOrganizationalUnitIds(organizationalUnitId).isEmpty() || !getAccountIds(organizationalUnitId).isEmpty()) {
+            throw new IllegalStateException(organizationalUnitId + " is not empty");
+        }
+        organizationalUnitIdsByParent.get(parentIdByChild.remove(organizationalUnitId)).remove(organizationalUnitId);
+        organizationalUnitIdsByParent.remove(organizationalUnitId);
+        accountIdsByParent.remove(organizationalUnitId);
+        targetIdsByPolicy.values().forEach(targetIds -> targetIds.remove(organizationalUnitId));
+    }
+
+    void renameOrganizationalUnit(final String organizationalUnitId, final String name) {
+        nameById.put(organizationalUnitId, name);
+    }
+
+    String getName(final String id) {
+        return nameById.getOrDefault(id, "name-" + id);
+    }
+
+    void enablePolicyType(final String policyType) {
+        enabledPolicyTypes.add(policyType);
+    }
+
+    /**
+     * Creates a policy of the given type that is not attached anywhere yet.
+     */
+    void createPolicy(final String policyId, final String policyType) {
+        typeByPolicy.put(policyId, policyType);
+        targetIdsByPolicy.put(policyId, new ArrayList<>());
+    }
+
+    void attachPolicy(final String policyId, final String targetId) {
+        targetIdsByPolicy.get(policyId).add(targetId);
+    }
+
+    @Override
+    public ListRootsResponse listRoots(final ListRootsRequest listRootsRequest) {
+        return call("ListRoots", () -> {
+            final List<PolicyTypeSummary> policyTypes = new ArrayList<>();
+            for (final String policyType : enabledPolicyTypes) {
+                policyTypes.add(PolicyTypeSummary.builder().type(policyType).status(PolicyTypeStatus.ENABLED).build());
+            }
+            return ListRootsResponse.builder()
+                .roots(Root.builder()
+                    .id(ROOT_ID)
+                    .arn("arn:aws:organizations::000000000000:root/o-fake/" + ROOT_ID)
+                    .name("Root")
+                    .policyTypes(policyTypes)
+                    .build())
+                .build();
+        });
+    }
+
+    @Override
+    public ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParent(final ListOrganizationalUnitsForParentRequest listRequest) {
+        return call("ListOrganizationalUnitsForParent", () -> {
+            checkFailure(listRequest.parentId());
+            final Page page = page(getOrganizationalUnitIds(listRequest.parentId()), listRequest.nextToken());
+            final List<OrganizationalUnit> organizationalUnits = new ArrayList<>();
+            for (final String id : page.ids) {
+                organizationalUnits.add(OrganizationalUnit.builder().id(id).name(getName(id)).arn("arn:aws:organizations::000000000000:ou/o-fake/" + id).build());
+            }
+            return ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(organizationalUnits).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public ListAccountsForParentResponse listAccountsForParent(final ListAccountsForParentRequest listRequest) {
+        return call("ListAccountsForParent", () -> {
+            checkFailure(listRequest.parentId());
+            final Page page = page(getAccountIds(listRequest.parentId()), listRequest.nextToken());
+            final List<Account> accounts = new ArrayList<>();
+            for (final String id : page.ids) {
+                accounts.add(Account.builder().id(id).name(getName(id)).arn("arn:aws:organizations::000000000000:account/o-fake/" + id).build());
+            }
+            return ListAccountsForParentResponse.builder().accounts(accounts).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public ListParentsResponse listParents(final ListParentsRequest listParentsRequest) {
+        return call("ListParents", () -> {
+            final String parentId = parentIdByChild.get(listParentsRequest.childId());
+            if (parentId == null) {
+                throw ChildNotFoundException.builder().message(listParentsRequest.childId() + " not found").build();
+            }
+            return ListParentsResponse.builder().parents(Parent.builder().id(parentId).build()).build();
+        });
+    }
+
+    @Override
+    public ListPoliciesForTargetResponse listPoliciesForTarget(final ListPoliciesForTargetRequest listRequest) {
+        return call("ListPoliciesForTarget", () -> {
+            final List<String> policyIds = new ArrayList<>();
+            targetIdsByPolicy.forEach((policyId, targetIds) -> {
+                if (targetIds.contains(listRequest.targetId()) && typeOf(policyId).equals(listRequest.filterAsString())) {
+                    policyIds.add(policyId);
+                }
+            });
+            Collections.sort(policyIds);
+            final Page page = page(policyIds, listRequest.nextToken());
+            final List<PolicySummary> policies = new ArrayList<>();
+            for (final String id : page.ids) {
+                policies.add(policySummary(id));
+            }
+            return ListPoliciesForTargetResponse.builder().policies(policies).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public ListPoliciesResponse listPolicies(final ListPoliciesRequest listRequest) {
+        return call("ListPolicies", () -> {
+            final List<String> policyIds = new ArrayList<>();
+            for (final String policyId : targetIdsByPolicy.keySet()) {
+                if (typeOf(policyId).equals(listRequest.filterAsString())) {
+                    policyIds.add(policyId);
+                }
+            }
+            Collections.sort(policyIds);
+            final Page page = page(policyIds, listRequest.nextToken());
+            final List<PolicySummary> policies = new ArrayList<>();
+            for (final String id : page.ids) {
+                policies.add(policySummary(id));
+            }
+            return ListPoliciesResponse.builder().policies(policies).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public ListTargetsForPolicyResponse listTargetsForPolicy(final ListTargetsForPolicyRequest listRequest) {
+        return call("ListTargetsForPolicy", () -> {
+            final Page page = page(targetIdsByPolicy.getOrDefault(listRequest.policyId(), Collections.emptyList()), listRequest.nextToken());
+            final List<PolicyTargetSummary> targets = new ArrayList<>();
+            for (final String id : page.ids) {
+                targets.add(PolicyTargetSummary.builder().targetId(id).build());
+            }
+            return ListTargetsForPolicyResponse.builder().targets(targets).nextToken(page.nextToken).build();
+        });
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private String typeOf(final String policyId) {
+        return typeByPolicy.getOrDefault(policyId, PolicyType.SERVICE_CONTROL_POLICY.toString());
+    }
+
+    private PolicySummary policySummary(final String policyId) {
+        return PolicySummary.builder()
+            .id(policyId)
+            .name("name-" + policyId)
+            .type(typeOf(policyId))
+            .awsManaged(FULL_AWS_ACCESS_POLICY_ID.equals(policyId))
+            .build();
+    }
+
+    private void populate(final String parentId, final int breadth, final int depth, final int accountsPerParent, final List<String> allIds) {
+        final List<String> accountIds = new ArrayList<>(accountsPerParent);
+        for (int i = 0; i < accountsPerParent; i++) {
+            final String accountId = String.format("%012d", ++nextAccount);
+            accountIds.add(accountId);
+            allIds.add(accountId);
+            parentIdByChild.put(accountId, parentId);
+        }
+        accountIdsByParent.put(parentId, accountIds);
+        final List<String> organizationalUnitIds = new ArrayList<>(depth > 0 ? breadth : 0);
+        organizationalUnitIdsByParent.put(parentId, organizationalUnitIds);
+        if (depth == 0) {
+            return;
+        }
+        for (int i = 0; i < breadth; i++) {
+            final String organizationalUnitId = String.format("ou-root-%08d", ++nextOrganizationalUnit);
+            organizationalUnitIds.add(organizationalUnitId);
+            allIds.add(organizationalUnitId);
+            parentIdByChild.put(organizationalUnitId, parentId);
+            populate(organizationalUnitId, breadth, depth - 1, accountsPerParent, allIds);
+        }
+    }
+
+    private void checkFailure(final String parentId) {
+        final RuntimeException failure = failuresByParent.get(parentId);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <T> T call(final String operation, final Supplier<T> response) {
+        callCounts.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static Page page(final List<String> ids, final String nextToken) {
+        final int from = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        final int to = Math.min(from + PAGE_SIZE, ids.size());
+        return new Page(new ArrayList<>(ids.subList(from, to)), to < ids.size() ? String.valueOf(to) : null);
+    }
+
+    private static final class Page {
+        private final List<String> ids;
+        private final String nextToken;
+
+        private Page(final List<String> ids, final String nextToken) {
+            this.ids = ids;
+            this.nextToken = nextToken;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LayeredMapTest {
+    @Test
+    public void edit_PutsAndRemoves_LeaveOriginalUnchanged() {
+        final LayeredMap<String, Integer> original = LayeredMap.of(numbers(1000));
+        final LayeredMap.Editor<String, Integer> editor = original.edit();
+
+        assertThat(editor.put("k-1", -1)).isEqualTo(1);
+        assertThat(editor.put("k-new", 5)).isNull();
+        assertThat(editor.remove("k-2")).isEqualTo(2);
+        assertThat(editor.remove("k-missing")).isNull();
+        assertThat(editor.remove("k-new")).isEqualTo(5);
+        editor.putIfAbsent("k-3", -3);
+        editor.putIfAbsent("k-2", -2);
+        final LayeredMap<String, Integer> edited = editor.commit();
+
+        assertThat(original).isEqualTo(numbers(1000));
+        final Map<String, Integer> expected = numbers(1000);
+        expected.put("k-1", -1);
+        expected.put("k-2", -2);
+        assertThat(edited).isEqualTo(expected);
+        assertThat(edited).hasSize(1000);
+        assertThat(edited.containsKey("k-new")).isFalse();
+    }
+
+    @Test
+    public void commit_ManyEdits_MatchesPlainMap() {
+        LayeredMap<String, Integer> layered = LayeredMap.of(numbers(1000));
+        final Map<String, Integer> expected = numbers(1000);
+        for (int round = 0; round < 200; round++) {
+            final LayeredMap.Editor<String, Integer> editor = layered.edit();
+            final String removed = "k-" + (round * 7 % 1000);
+            final String added = "k-" + (1000 + round);
+            editor.remove(removed);
+            expected.remove(removed);
+            editor.put(added, round);
+            expected.put(added, round);
+            editor.put("k-999", round);
+            expected.put("k-999", round);
+            layered = editor.commit();
+
+            assertThat(layered).hasSize(expected.size());
+            assertThat(layered.get(removed)).isEqualTo(expected.get(removed));
+            assertThat(layered.get(added)).isEqualTo(round);
+        }
+        assertThat(layered).isEqualTo(expected);
+        assertThat(new HashMap<>(layered)).isEqualTo(expected);
+    }
+
+    @Test
+    public void put_Throws() {
+        final LayeredMap.Editor<String, Integer> editor = LayeredMap.of(numbers(1000)).edit();
+        editor.put("k-new", 1);
+        final LayeredMap<String, Integer> layered = editor.commit();
+
+        assertThrows(UnsupportedOperationException.class, () -> layered.put("k-0", 1));
+        assertThrows(UnsupportedOperationException.class, () -> layered.clear());
+    }
+
+    private static Map<String, Integer> numbers(final int count) {
+        final Map<String, Integer> numbers = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            numbers.put("k-" + i, i);
+        }
+        return numbers;
+    }
+}
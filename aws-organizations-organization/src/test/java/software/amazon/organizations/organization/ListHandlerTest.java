@@ -37,10 +37,12 @@ public class ListHandlerTest extends AbstractTestBase {
     OrganizationsClient mockOrgsClient;
 
     private ListHandler listHandler;
+    private OrganizationMetadataCache organizationMetadataCache;
 
     @BeforeEach
     public void setup() {
-        listHandler = new ListHandler();
+        organizationMetadataCache = generateEmptyOrganizationMetadataCache();
+        listHandler = new ListHandler(organizationMetadataCache);
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -89,6 +91,35 @@ public class ListHandlerTest extends AbstractTestBase {
 
     }
 
+    @Test
+    public void handleRequest_CachedOrganization_SkipsDescribeOrganization() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenReturn(DescribeOrganizationResponse.builder().organization(
+                        Organization.builder()
+                                .arn(TEST_ORG_ARN)
+                                .featureSet(TEST_FEATURE_SET)
+                                .id(TEST_ORG_ID)
+                                .masterAccountArn(TEST_MANAGEMENT_ACCOUNT_ARN)
+                                .masterAccountEmail(TEST_MANAGEMENT_ACCOUNT_EMAIL)
+                                .masterAccountId(TEST_MANAGEMENT_ACCOUNT_ID).build())
+                .build());
+        listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        // List does not know the root id, so only a Read fills the cache
+        organizationMetadataCache.put(null, generateResourceModel());
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(generateResourceModel());
+        assertThat(response.getNextToken()).isNull();
+
+        verify(mockProxyClient.client(), times(1)).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
+
     @Test
     protected void handleRequest_Fails_With_CfnNotFoundException() {
 
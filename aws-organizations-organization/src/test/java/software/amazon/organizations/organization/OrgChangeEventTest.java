@@ -0,0 +1,47 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OrgChangeEventTest {
+    @Test
+    public void fromRecord_EventBridgeEnvelope() {
+        final OrgChangeEvent event = OrgChangeEvent.fromRecord("{\"detail-type\":\"AWS API Call via CloudTrail\",\"source\":\"aws.organizations\","
+            + "\"detail\":{\"eventID\":\"e-1\",\"eventName\":\"CreateOrganizationalUnit\",\"eventTime\":\"2024-01-01T00:00:05Z\","
+            + "\"userIdentity\":{\"type\":\"AssumedRole\",\"accountId\":\"000000000000\"},"
+            + "\"requestParameters\":{\"parentId\":\"r-root\",\"name\":\"Sandbox\"},"
+            + "\"responseElements\":{\"organizationalUnit\":{\"id\":\"ou-root-1\",\"name\":\"Sandbox\",\"tags\":[\"a\"]}}}}");
+
+        assertThat(event.getEventId()).isEqualTo("e-1");
+        assertThat(event.getEventName()).isEqualTo("CreateOrganizationalUnit");
+        assertThat(event.getEventTime()).isEqualTo(Instant.parse("2024-01-01T00:00:05Z"));
+        assertThat(event.isFailed()).isFalse();
+        assertThat(event.getParameter("requestParameters.parentId")).isEqualTo("r-root");
+        assertThat(event.getParameter("responseElements.organizationalUnit.id")).isEqualTo("ou-root-1");
+        assertThat(event.getParameter("responseElements.organizationalUnit.tags")).isNull();
+        assertThat(event.getParameter("requestParameters.accountId")).isNull();
+        assertThat(event.getParameter("userIdentity.accountId")).isEqualTo("000000000000");
+    }
+
+    @Test
+    public void fromRecord_BareCloudTrailRecord() {
+        final OrgChangeEvent event = OrgChangeEvent.fromRecord("{\"eventName\":\"AttachPolicy\",\"eventTime\":\"2024-01-01T00:00:05Z\","
+            + "\"errorCode\":\"DuplicatePolicyAttachmentException\",\"requestParameters\":{\"policyId\":\"p-1\",\"targetId\":\"r-root\"},"
+            + "\"responseElements\":null}");
+
+        assertThat(event.getEventId()).isNull();
+        assertThat(event.isFailed()).isTrue();
+        assertThat(event.getParameter("requestParameters.targetId")).isEqualTo("r-root");
+    }
+
+    @Test
+    public void fromRecord_Malformed_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> OrgChangeEvent.fromRecord("{not json"));
+        assertThrows(IllegalArgumentException.class, () -> OrgChangeEvent.fromRecord("{\"detail\":{\"eventName\":\"MoveAccount\"}}"));
+        assertThrows(IllegalArgumentException.class, () -> OrgChangeEvent.fromRecord("{\"eventName\":\"MoveAccount\",\"eventTime\":\"yesterday\"}"));
+    }
+}
@@ -0,0 +1,133 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AccessDeniedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.organization.OrgTreeSnapshot.NodeType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OrgTreeSnapshotBuilderTest extends AbstractTestBase {
+    // high enough that the rate limiter does not slow the tests down
+    private static final double CALLS_PER_SECOND = 10000.0;
+
+    private static OrgTreeSnapshotBuilder builderFor(final FakeOrganizationTreeClient fakeClient) {
+        final AmazonWebServicesClientProxy awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ProxyClient<OrganizationsClient> proxyClient = MOCK_PROXY(awsClientProxy, fakeClient);
+        return new OrgTreeSnapshotBuilder(proxyClient, logger, CALLS_PER_SECOND);
+    }
+
+    @Test
+    public void build_IndexesTreeAndPolicyAttachments() {
+        final FakeOrganizationTreeClient fakeClient = new FakeOrganizationTreeClient(3, 2, 2, 0);
+
+        final OrgTreeSnapshot snapshot = builderFor(fakeClient).build();
+
+        assertThat(snapshot.getRootIds()).containsExactly(FakeOrganizationTreeClient.ROOT_ID);
+        assertThat(snapshot.getOrganizationalUnitCount()).isEqualTo(12);
+        assertThat(snapshot.getAccountCount()).isEqualTo(26);
+
+        final List<String> rootChildren = new ArrayList<>(fakeClient.getOrganizationalUnitIds(FakeOrganizationTreeClient.ROOT_ID));
+        rootChildren.addAll(fakeClient.getAccountIds(FakeOrganizationTreeClient.ROOT_ID));
+        assertThat(snapshot.getChildIds(FakeOrganizationTreeClient.ROOT_ID)).isEqualTo(rootChildren);
+
+        final String topLevelId = fakeClient.getOrganizationalUnitIds(FakeOrganizationTreeClient.ROOT_ID).get(0);
+        final String leafId = fakeClient.getOrganizationalUnitIds(topLevelId).get(0);
+        final String accountId = fakeClient.getAccountIds(leafId).get(0);
+        assertThat(snapshot.getNode(leafId).getType()).isEqualTo(NodeType.ORGANIZATIONAL_UNIT);
+        assertThat(snapshot.getNode(leafId).getName()).isEqualTo("name-" + leafId);
+        assertThat(snapshot.getNode(accountId).getType()).isEqualTo(NodeType.ACCOUNT);
+        assertThat(snapshot.getNode(accountId).getParentId()).isEqualTo(leafId);
+        assertThat(snapshot.getChildIds(leafId)).containsExactlyElementsOf(fakeClient.getAccountIds(leafId));
+        assertThat(snapshot.getAncestorIds(accountId)).containsExactly(leafId, topLevelId, FakeOrganizationTreeClient.ROOT_ID);
+        assertThat(snapshot.getAncestorIds(FakeOrganizationTreeClient.ROOT_ID)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getAncestorIds("ou-unknown"));
+
+        assertThat(snapshot.getPoliciesById()).hasSize(4);
+        assertThat(snapshot.getEnabledPolicyTypes()).containsExactly("SERVICE_CONTROL_POLICY");
+        assertThat(snapshot.getPolicy(FakeOrganizationTreeClient.FULL_AWS_ACCESS_POLICY_ID).isAwsManaged()).isTrue();
+        assertThat(snapshot.getPolicyIds(topLevelId))
+            .containsExactlyInAnyOrder(FakeOrganizationTreeClient.FULL_AWS_ACCESS_POLICY_ID, FakeOrganizationTreeClient.policyIdOf(topLevelId));
+        assertThat(snapshot.getPolicyIds(accountId)).containsExactly(FakeOrganizationTreeClient.FULL_AWS_ACCESS_POLICY_ID);
+        assertThat(snapshot.getPolicyIds("ou-unknown")).isEmpty();
+        // every root, OU and account has FullAWSAccess attached
+        assertThat(snapshot.getPolicyIdsByTarget()).hasSize(1 + 12 + 26);
+    }
+
+    @Test
+    public void build_ListsEveryParentOnceAcrossPages() {
+        // 45 accounts per parent take three pages of 20
+        final FakeOrganizationTreeClient fakeClient = new FakeOrganizationTreeClient(2, 2, 45, 0);
+
+        final OrgTreeSnapshot snapshot = builderFor(fakeClient).build();
+
+        assertThat(snapshot.getAccountCount()).isEqualTo(7 * 45);
+        assertThat(fakeClient.getCallCount("ListRoots")).isEqualTo(1);
+        assertThat(fakeClient.getCallCount("ListPolicies")).isEqualTo(1);
+        assertThat(fakeClient.getCallCount("ListOrganizationalUnitsForParent")).isEqualTo(7);
+        assertThat(fakeClient.getCallCount("ListAccountsForParent")).isEqualTo(7 * 3);
+        // FullAWSAccess has 322 targets in 17 pages, the two OU policies one page each
+        assertThat(fakeClient.getCallCount("ListTargetsForPolicy")).isEqualTo(17 + 2);
+    }
+
+    @Test
+    public void build_ListsParentsOfALevelConcurrently() {
+        final FakeOrganizationTreeClient fakeClient = new FakeOrganizationTreeClient(8, 1, 1, 20);
+
+        final OrgTreeSnapshot snapshot = builderFor(fakeClient).build();
+
+        assertThat(snapshot.getOrganizationalUnitCount()).isEqualTo(8);
+        assertThat(fakeClient.getMaxConcurrentCalls()).isGreaterThan(1);
+    }
+
+    @Test
+    public void build_SnapshotCannotBeModified() {
+        final OrgTreeSnapshot snapshot = builderFor(new FakeOrganizationTreeClient(2, 1, 1, 0)).build();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getRootIds().add("r-other"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getNodesById().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getChildIds(FakeOrganizationTreeClient.ROOT_ID).clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getChildIdsByParent().put("r-other", Collections.emptyList()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPolicyIds(FakeOrganizationTreeClient.ROOT_ID).add("p-other"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPoliciesById().clear());
+    }
+
+    @Test
+    public void build_PropagatesListingFailure() {
+        final FakeOrganizationTreeClient fakeClient = new FakeOrganizationTreeClient(2, 2, 1, 0);
+        final String topLevelId = fakeClient.getOrganizationalUnitIds(FakeOrganizationTreeClient.ROOT_ID).get(1);
+        fakeClient.failListingsOf(topLevelId, AccessDeniedException.builder().message("denied").build());
+
+        final OrgTreeSnapshotBuilder builder = builderFor(fakeClient);
+
+        assertThrows(AccessDeniedException.class, builder::build);
+    }
+
+    @Test
+    public void build_LargeOrganization() {
+        // 111 parents with 90 accounts each
+        final FakeOrganizationTreeClient fakeClient = new FakeOrganizationTreeClient(10, 2, 90, 0);
+
+        final OrgTreeSnapshot snapshot = builderFor(fakeClient).build();
+
+        assertThat(snapshot.getOrganizationalUnitCount()).isEqualTo(110);
+        assertThat(snapshot.getAccountCount()).isEqualTo(9990);
+        assertThat(snapshot.getNodesById()).hasSize(1 + 110 + 9990);
+        for (final String topLevelId : fakeClient.getOrganizationalUnitIds(FakeOrganizationTreeClient.ROOT_ID)) {
+            assertThat(snapshot.getPolicyIds(topLevelId)).hasSize(2);
+            assertThat(snapshot.getChildIds(topLevelId)).hasSize(10 + 90);
+        }
+        assertThat(snapshot.getChildIds(FakeOrganizationTreeClient.ROOT_ID).subList(0, 2))
+            .isEqualTo(Arrays.asList(fakeClient.getOrganizationalUnitIds(FakeOrganizationTreeClient.ROOT_ID).get(0),
+                fakeClient.getOrganizationalUnitIds(FakeOrganizationTreeClient.ROOT_ID).get(1)));
+    }
+}
@@ -0,0 +1,276 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.organization.OrgTreeSnapshot.Node;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrgTreeSnapshotRefresherTest extends AbstractTestBase {
+    private static final double CALLS_PER_SECOND = 10000.0;
+    private static final String ROOT_ID = FakeOrganizationTreeClient.ROOT_ID;
+    private static final String[] LISTING_CALLS = {"ListRoots", "ListOrganizationalUnitsForParent", "ListAccountsForParent", "ListParents", "ListPoliciesForTarget"};
+
+    private FakeOrganizationTreeClient fakeClient;
+    private OrgTreeSnapshotBuilder builder;
+    private QueueOrgChangeEventSource eventSource;
+    private OrgTreeSnapshotRefresher refresher;
+    private OrgTreeSnapshot snapshot;
+    private Map<String, Integer> callsBeforeRefresh;
+
+    @BeforeEach
+    public void setup() {
+        fakeClient = new FakeOrganizationTreeClient(3, 2, 2, 0);
+        final AmazonWebServicesClientProxy awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ProxyClient<OrganizationsClient> proxyClient = MOCK_PROXY(awsClientProxy, fakeClient);
+        builder = new OrgTreeSnapshotBuilder(proxyClient, logger, CALLS_PER_SECOND);
+        eventSource = new QueueOrgChangeEventSource();
+        refresher = new OrgTreeSnapshotRefresher(builder, eventSource, logger);
+        rebuildSnapshot();
+    }
+
+    @Test
+    public void refresh_WithoutEvents_ReturnsSameSnapshot() {
+        assertThat(refresher.refresh(snapshot)).isSameAs(snapshot);
+        assertCallsSinceBuild("ListOrganizationalUnitsForParent", 0);
+    }
+
+    @Test
+    public void refresh_AppliesEventsWithoutListingParents() {
+        final String topLevelId = topLevelId(0);
+        final String leafId = fakeClient.getOrganizationalUnitIds(topLevelId).get(0);
+        final String otherLeafId = fakeClient.getOrganizationalUnitIds(topLevelId).get(1);
+        final String movedAccountId = fakeClient.getAccountIds(leafId).get(0);
+        final String removedAccountId = fakeClient.getAccountIds(ROOT_ID).get(0);
+        final String policyId = FakeOrganizationTreeClient.policyIdOf(topLevelId(1));
+
+        fakeClient.moveAccount(movedAccountId, otherLeafId);
+        eventSource.offer(apiCall("MoveAccount", 1, params("accountId", movedAccountId, "sourceParentId", leafId, "destinationParentId", otherLeafId), "null"));
+        final String newOrganizationalUnitId = fakeClient.createOrganizationalUnit(topLevelId);
+        eventSource.offer(apiCall("CreateOrganizationalUnit", 2, params("parentId", topLevelId, "name", "name-" + newOrganizationalUnitId),
+            "{\"organizationalUnit\":" + params("id", newOrganizationalUnitId, "name", "name-" + newOrganizationalUnitId,
+                "arn", "arn:aws:organizations::000000000000:ou/o-fake/" + newOrganizationalUnitId) + "}"));
+        final String newAccountId = fakeClient.createAccount();
+        eventSource.offer(serviceEvent("CreateAccountResult", 3,
+            "{\"createAccountStatus\":" + params("state", "SUCCEEDED", "accountId", newAccountId, "accountName", "name-" + newAccountId) + "}"));
+        fakeClient.attachPolicy(policyId, movedAccountId);
+        eventSource.offer(apiCall("AttachPolicy", 4, params("policyId", policyId, "targetId", movedAccountId), "null"));
+        fakeClient.removeAccount(removedAccountId);
+        eventSource.offer(apiCall("RemoveAccountFromOrganization", 5, params("accountId", removedAccountId), "null"));
+        fakeClient.renameOrganizationalUnit(otherLeafId, "Renamed");
+        eventSource.offer(apiCall("UpdateOrganizationalUnit", 6, params("organizationalUnitId", otherLeafId, "name", "Renamed"), "null"));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        assertCallsSinceBuild("ListOrganizationalUnitsForParent", 0);
+        assertCallsSinceBuild("ListAccountsForParent", 0);
+        assertCallsSinceBuild("ListParents", 0);
+        // the default policies of the new OU and account
+        assertCallsSinceBuild("ListPoliciesForTarget", 2);
+        assertThat(refreshed.getAsOf()).isEqualTo(snapshot.getAsOf().plusSeconds(6));
+        assertThat(refreshed.getPolicyIds(movedAccountId)).contains(policyId);
+        assertSameTree(builder.build(), refreshed);
+    }
+
+    @Test
+    public void refresh_LateEvent_RelistsAffectedParents() {
+        final String leafId = fakeClient.getOrganizationalUnitIds(topLevelId(0)).get(0);
+        final String otherLeafId = fakeClient.getOrganizationalUnitIds(topLevelId(1)).get(0);
+        final String accountId = fakeClient.getAccountIds(leafId).get(0);
+        fakeClient.moveAccount(accountId, otherLeafId);
+        eventSource.offer(apiCall("MoveAccount", -1, params("accountId", accountId, "sourceParentId", leafId, "destinationParentId", otherLeafId), "null"));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        assertCallsSinceBuild("ListOrganizationalUnitsForParent", 2);
+        assertCallsSinceBuild("ListAccountsForParent", 2);
+        assertCallsSinceBuild("ListParents", 0);
+        assertThat(refreshed.getAsOf()).isEqualTo(snapshot.getAsOf());
+        assertSameTree(builder.build(), refreshed);
+    }
+
+    @Test
+    public void refresh_MissedEvents_LocatesMovedAccounts() {
+        final String leafId = fakeClient.getOrganizationalUnitIds(topLevelId(0)).get(0);
+        final String secondLeafId = fakeClient.getOrganizationalUnitIds(topLevelId(0)).get(1);
+        final String thirdLeafId = fakeClient.getOrganizationalUnitIds(topLevelId(1)).get(0);
+        final String fourthLeafId = fakeClient.getOrganizationalUnitIds(topLevelId(2)).get(0);
+        final String accountId = fakeClient.getAccountIds(leafId).get(0);
+        final String otherAccountId = fakeClient.getAccountIds(leafId).get(1);
+
+        // only the last of these moves arrives as an event
+        fakeClient.moveAccount(accountId, secondLeafId);
+        fakeClient.moveAccount(otherAccountId, fourthLeafId);
+        fakeClient.moveAccount(accountId, thirdLeafId);
+        eventSource.offer(apiCall("MoveAccount", 1, params("accountId", accountId, "sourceParentId", secondLeafId, "destinationParentId", thirdLeafId), "null"));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        // the event's two parents and the account's parent in the snapshot, then where the other account went
+        assertCallsSinceBuild("ListAccountsForParent", 4);
+        assertCallsSinceBuild("ListParents", 1);
+        assertThat(refreshed.getNode(otherAccountId).getParentId()).isEqualTo(fourthLeafId);
+        assertSameTree(builder.build(), refreshed);
+    }
+
+    @Test
+    public void refresh_DeletedOrganizationalUnit_LocatesItsFormerChildren() {
+        final String leafId = fakeClient.getOrganizationalUnitIds(topLevelId(0)).get(2);
+        final String movedAccountId = fakeClient.getAccountIds(leafId).get(0);
+        final String removedAccountId = fakeClient.getAccountIds(leafId).get(1);
+        fakeClient.moveAccount(movedAccountId, ROOT_ID);
+        fakeClient.removeAccount(removedAccountId);
+        fakeClient.deleteOrganizationalUnit(leafId);
+        eventSource.offer(apiCall("DeleteOrganizationalUnit", 1, params("organizationalUnitId", leafId), "null"));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        assertCallsSinceBuild("ListParents", 3);
+        assertThat(refreshed.getNode(leafId)).isNull();
+        assertThat(refreshed.getNode(removedAccountId)).isNull();
+        assertThat(refreshed.getNode(movedAccountId).getParentId()).isEqualTo(ROOT_ID);
+        assertSameTree(builder.build(), refreshed);
+    }
+
+    @Test
+    public void refresh_SkipsDuplicateAndFailedEvents() {
+        final String leafId = fakeClient.getOrganizationalUnitIds(topLevelId(0)).get(0);
+        final String otherLeafId = fakeClient.getOrganizationalUnitIds(topLevelId(0)).get(1);
+        final String accountId = fakeClient.getAccountIds(leafId).get(0);
+        fakeClient.moveAccount(accountId, otherLeafId);
+        final String moveAccount = apiCall("MoveAccount", 1, params("accountId", accountId, "sourceParentId", leafId, "destinationParentId", otherLeafId), "null");
+        eventSource.offer(moveAccount);
+        eventSource.offer(moveAccount);
+        eventSource.offer(String.format("{\"detail\":{\"eventID\":\"%s\",\"eventName\":\"AttachPolicy\",\"eventTime\":\"%s\",\"errorCode\":\"AccessDeniedException\","
+            + "\"requestParameters\":%s}}", UUID.randomUUID(), snapshot.getAsOf().plusSeconds(2), params("policyId", "p-other", "targetId", accountId)));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        for (final String operation : LISTING_CALLS) {
+            assertCallsSinceBuild(operation, 0);
+        }
+        assertSameTree(builder.build(), refreshed);
+    }
+
+    @Test
+    public void refresh_LeaveOrganization_RemovesCallerAccount() {
+        final String leavingAccountId = fakeClient.getAccountIds(fakeClient.getOrganizationalUnitIds(topLevelId(0)).get(0)).get(0);
+        fakeClient.removeAccount(leavingAccountId);
+        eventSource.offer(String.format("{\"detail\":{\"eventID\":\"%s\",\"eventName\":\"LeaveOrganization\",\"eventTime\":\"%s\","
+            + "\"userIdentity\":{\"type\":\"Root\",\"accountId\":\"%s\"},\"requestParameters\":null,\"responseElements\":null}}",
+            UUID.randomUUID(), snapshot.getAsOf().plusSeconds(1), leavingAccountId));
+        // unrecognised events are skipped without listing anything
+        eventSource.offer(apiCall("TagResource", 2, params("resourceId", leavingAccountId), "null"));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        assertCallsSinceBuild("ListOrganizationalUnitsForParent", 0);
+        assertCallsSinceBuild("ListAccountsForParent", 0);
+        assertCallsSinceBuild("ListParents", 0);
+        assertThat(refreshed.getNode(leavingAccountId)).isNull();
+        assertSameTree(builder.build(), refreshed);
+    }
+
+    @Test
+    public void refresh_AttachmentOfPolicyTypeWithoutPoliciesAtBuild_IsListed() {
+        fakeClient.enablePolicyType("TAG_POLICY");
+        rebuildSnapshot();
+        final String accountId = fakeClient.getAccountIds(ROOT_ID).get(0);
+        // the CreatePolicy event was missed, so the AttachPolicy names a policy the snapshot does not know
+        fakeClient.createPolicy("p-tag", "TAG_POLICY");
+        fakeClient.attachPolicy("p-tag", accountId);
+        eventSource.offer(apiCall("AttachPolicy", 1, params("policyId", "p-tag", "targetId", accountId), "null"));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        assertThat(snapshot.getEnabledPolicyTypes()).containsExactlyInAnyOrder("SERVICE_CONTROL_POLICY", "TAG_POLICY");
+        // one listing per enabled type, though the snapshot had no tag policies
+        assertCallsSinceBuild("ListPoliciesForTarget", 2);
+        assertThat(refreshed.getPolicyIds(accountId)).contains("p-tag");
+        assertThat(refreshed.getPolicy("p-tag").getType()).isEqualTo("TAG_POLICY");
+        assertSameTree(builder.build(), refreshed);
+    }
+
+    @Test
+    public void refresh_PolicyTypeChange_CrawlsAgain() {
+        eventSource.offer(apiCall("EnablePolicyType", 1, params("rootId", ROOT_ID, "policyType", "TAG_POLICY"), "null"));
+
+        final OrgTreeSnapshot refreshed = refresher.refresh(snapshot);
+
+        assertCallsSinceBuild("ListRoots", 1);
+        assertThat(refreshed).isNotSameAs(snapshot);
+        assertSameTree(snapshot, refreshed);
+    }
+
+    @Test
+    public void accountArn_FollowsRootArn() {
+        assertThat(OrgTreeSnapshotRefresher.accountArn("arn:aws:organizations::000000000000:root/o-fake/r-root", "111111111111"))
+            .isEqualTo("arn:aws:organizations::000000000000:account/o-fake/111111111111");
+        assertThat(OrgTreeSnapshotRefresher.accountArn("not-an-arn", "111111111111")).isNull();
+        assertThat(OrgTreeSnapshotRefresher.accountArn(null, "111111111111")).isNull();
+    }
+
+    private void rebuildSnapshot() {
+        snapshot = builder.build();
+        callsBeforeRefresh = new HashMap<>();
+        for (final String operation : LISTING_CALLS) {
+            callsBeforeRefresh.put(operation, fakeClient.getCallCount(operation));
+        }
+    }
+
+    private String topLevelId(final int index) {
+        return fakeClient.getOrganizationalUnitIds(ROOT_ID).get(index);
+    }
+
+    private void assertCallsSinceBuild(final String operation, final int expected) {
+        assertThat(fakeClient.getCallCount(operation) - callsBeforeRefresh.get(operation)).as(operation).isEqualTo(expected);
+    }
+
+    private String apiCall(final String eventName, final long secondsAfterSnapshot, final String requestParameters, final String responseElements) {
+        return String.format("{\"detail-type\":\"AWS API Call via CloudTrail\",\"source\":\"aws.organizations\",\"detail\":{\"eventID\":\"%s\","
+            + "\"eventName\":\"%s\",\"eventTime\":\"%s\",\"requestParameters\":%s,\"responseElements\":%s}}",
+            UUID.randomUUID(), eventName, snapshot.getAsOf().plusSeconds(secondsAfterSnapshot), requestParameters, responseElements);
+    }
+
+    private String serviceEvent(final String eventName, final long secondsAfterSnapshot, final String serviceEventDetails) {
+        return String.format("{\"detail-type\":\"AWS Service Event via CloudTrail\",\"source\":\"aws.organizations\",\"detail\":{\"eventID\":\"%s\","
+            + "\"eventName\":\"%s\",\"eventTime\":\"%s\",\"serviceEventDetails\":%s}}",
+            UUID.randomUUID(), eventName, snapshot.getAsOf().plusSeconds(secondsAfterSnapshot), serviceEventDetails);
+    }
+
+    // {"key":"value",...} from alternating keys and values
+    private static String params(final String... keysAndValues) {
+        final StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            json.append(i == 0 ? "" : ",").append('"').append(keysAndValues[i]).append("\":\"").append(keysAndValues[i + 1]).append('"');
+        }
+        return json.append('}').toString();
+    }
+
+    private static void assertSameTree(final OrgTreeSnapshot expected, final OrgTreeSnapshot actual) {
+        assertThat(describe(actual.getNodesById())).isEqualTo(describe(expected.getNodesById()));
+        assertThat(actual.getChildIdsByParent()).isEqualTo(expected.getChildIdsByParent());
+        assertThat(actual.getPolicyIdsByTarget()).isEqualTo(expected.getPolicyIdsByTarget());
+        assertThat(actual.getPoliciesById().keySet()).isEqualTo(expected.getPoliciesById().keySet());
+        assertThat(actual.getRootIds()).isEqualTo(expected.getRootIds());
+        assertThat(actual.getOrganizationalUnitCount()).isEqualTo(expected.getOrganizationalUnitCount());
+        assertThat(actual.getAccountCount()).isEqualTo(expected.getAccountCount());
+    }
+
+    private static Map<String, List<String>> describe(final Map<String, Node> nodesById) {
+        final Map<String, List<String>> described = new HashMap<>();
+        nodesById.forEach((id, node) -> described.put(id,
+            Arrays.asList(node.getType().name(), node.getName(), node.getArn(), node.getParentId())));
+        return described;
+    }
+}
@@ -0,0 +1,110 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.model.AccessDeniedException;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrganizationMetadataCacheTest extends AbstractTestBase {
+    private static final String ACCOUNT_ID = "111111111111";
+    private static final Duration TTL = Duration.ofSeconds(OrganizationConstants.DEFAULT_METADATA_CACHE_TTL_SECONDS);
+
+    private MutableClock clock;
+    private OrganizationMetadataCache cache;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new OrganizationMetadataCache(clock, TTL);
+    }
+
+    @Test
+    public void get_ReturnsCopyOfCachedModel() {
+        final ResourceModel model = generateResourceModel();
+        cache.put(ACCOUNT_ID, model);
+        model.setFeatureSet(CONSOLIDATED_BILLING);
+
+        final ResourceModel cached = cache.get(ACCOUNT_ID);
+        assertThat(cached).isEqualTo(generateResourceModel());
+        cached.setRootId("r-other");
+        assertThat(cache.get(ACCOUNT_ID)).isEqualTo(generateResourceModel());
+        assertThat(cache.get("222222222222")).isNull();
+    }
+
+    @Test
+    public void get_ExpiresAfterTtl() {
+        cache.put(ACCOUNT_ID, generateResourceModel());
+
+        clock.advance(TTL.minusSeconds(1));
+        assertThat(cache.get(ACCOUNT_ID)).isNotNull();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(ACCOUNT_ID)).isNull();
+    }
+
+    @Test
+    public void put_IncompleteModel_IsNotCached() {
+        cache.put(ACCOUNT_ID, generateResourceModel());
+
+        final ResourceModel withoutRoot = generateResourceModel();
+        withoutRoot.setRootId(null);
+        cache.put(ACCOUNT_ID, withoutRoot);
+
+        assertThat(cache.get(ACCOUNT_ID)).isNull();
+    }
+
+    @Test
+    public void invalidateOn_OnlyDropsEntryWhenOrganizationIsGone() {
+        cache.put(ACCOUNT_ID, generateResourceModel());
+
+        cache.invalidateOn(ACCOUNT_ID, AccessDeniedException.builder().build());
+        assertThat(cache.get(ACCOUNT_ID)).isNotNull();
+
+        cache.invalidateOn(ACCOUNT_ID, AwsOrganizationsNotInUseException.builder().build());
+        assertThat(cache.get(ACCOUNT_ID)).isNull();
+    }
+
+    @Test
+    public void parseTtl_FallsBackToDefault() {
+        assertThat(OrganizationMetadataCache.parseTtl(null)).isEqualTo(TTL);
+        assertThat(OrganizationMetadataCache.parseTtl("abc")).isEqualTo(TTL);
+        assertThat(OrganizationMetadataCache.parseTtl("-1")).isEqualTo(TTL);
+        assertThat(OrganizationMetadataCache.parseTtl(" 30 ")).isEqualTo(Duration.ofSeconds(30));
+        assertThat(OrganizationMetadataCache.parseTtl("0")).isEqualTo(Duration.ZERO);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AccessDeniedException;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.Organization;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OrganizationPropagationProbeTest extends AbstractTestBase {
+    private static final Duration BUDGET = Duration.ofMillis(1000);
+
+    private OrganizationsClient mockOrgsClient;
+    private ProxyClient<OrganizationsClient> mockProxyClient;
+    private MutableClock clock;
+    private List<Long> sleeps;
+    private OrganizationPropagationProbe probe;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        sleeps = new ArrayList<>();
+        probe = new OrganizationPropagationProbe(clock, BUDGET, millis -> {
+            sleeps.add(millis);
+            clock.advance(Duration.ofMillis(millis));
+        });
+    }
+
+    @AfterEach
+    public void tear_down() {
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void awaitVisible_VisibleOnFirstAttempt_DoesNotSleep() {
+        when(mockOrgsClient.describeOrganization(any(DescribeOrganizationRequest.class))).thenReturn(describeOrganizationResponse(TEST_ORG_ID));
+        when(mockOrgsClient.listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse(TEST_ROOT_ID));
+
+        final ResourceModel model = probe.awaitVisible(TEST_ORG_ID, mockProxyClient, logger);
+
+        assertThat(model).isEqualTo(generateResourceModel());
+        assertThat(sleeps).isEmpty();
+        verify(mockOrgsClient).describeOrganization(any(DescribeOrganizationRequest.class));
+        verify(mockOrgsClient).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void awaitVisible_NotPropagatedYet_RetriesWithBackoff() {
+        when(mockOrgsClient.describeOrganization(any(DescribeOrganizationRequest.class)))
+            .thenThrow(AwsOrganizationsNotInUseException.class)
+            .thenThrow(TooManyRequestsException.class)
+            .thenReturn(describeOrganizationResponse("o-stale"))
+            .thenReturn(describeOrganizationResponse(TEST_ORG_ID));
+        when(mockOrgsClient.listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse(TEST_ROOT_ID));
+
+        final ResourceModel model = probe.awaitVisible(TEST_ORG_ID, mockProxyClient, logger);
+
+        assertThat(model).isEqualTo(generateResourceModel());
+        // the last sleep is cut short by the budget
+        assertThat(sleeps).isEqualTo(Arrays.asList(250L, 500L, 250L));
+        verify(mockOrgsClient, times(4)).describeOrganization(any(DescribeOrganizationRequest.class));
+        verify(mockOrgsClient).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void awaitVisible_NoRootYet_KeepsProbing() {
+        when(mockOrgsClient.describeOrganization(any(DescribeOrganizationRequest.class))).thenReturn(describeOrganizationResponse(TEST_ORG_ID));
+        when(mockOrgsClient.listRoots(any(ListRootsRequest.class)))
+            .thenReturn(ListRootsResponse.builder().build())
+            .thenReturn(listRootsResponse(TEST_ROOT_ID));
+
+        final ResourceModel model = probe.awaitVisible(TEST_ORG_ID, mockProxyClient, logger);
+
+        assertThat(model.getRootId()).isEqualTo(TEST_ROOT_ID);
+        assertThat(sleeps).isEqualTo(Arrays.asList(250L));
+        verify(mockOrgsClient, times(2)).describeOrganization(any(DescribeOrganizationRequest.class));
+        verify(mockOrgsClient, times(2)).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void awaitVisible_BudgetExhausted_ReturnsNull() {
+        when(mockOrgsClient.describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AwsOrganizationsNotInUseException.class);
+
+        final ResourceModel model = probe.awaitVisible(TEST_ORG_ID, mockProxyClient, logger);
+
+        assertThat(model).isNull();
+        assertThat(sleeps.stream().mapToLong(Long::longValue).sum()).isEqualTo(BUDGET.toMillis());
+        verify(mockOrgsClient, times(4)).describeOrganization(any(DescribeOrganizationRequest.class));
+        verify(mockOrgsClient, never()).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void awaitVisible_NonRetriableException_IsPropagated() {
+        when(mockOrgsClient.describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AccessDeniedException.class);
+
+        assertThrows(AccessDeniedException.class, () -> probe.awaitVisible(TEST_ORG_ID, mockProxyClient, logger));
+
+        assertThat(sleeps).isEmpty();
+        verify(mockOrgsClient).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
+
+    @Test
+    public void checkVisible_NotPropagatedYet_ReturnsNullWithoutSleeping() {
+        when(mockOrgsClient.describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AwsOrganizationsNotInUseException.class);
+
+        final ResourceModel model = probe.checkVisible(TEST_ORG_ID, mockProxyClient, logger);
+
+        assertThat(model).isNull();
+        assertThat(sleeps).isEmpty();
+        verify(mockOrgsClient).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
+
+    private static DescribeOrganizationResponse describeOrganizationResponse(final String organizationId) {
+        return DescribeOrganizationResponse.builder()
+            .organization(Organization.builder()
+                .id(organizationId)
+                .arn(TEST_ORG_ARN)
+                .featureSet(TEST_FEATURE_SET)
+                .masterAccountArn(TEST_MANAGEMENT_ACCOUNT_ARN)
+                .masterAccountId(TEST_MANAGEMENT_ACCOUNT_ID)
+                .masterAccountEmail(TEST_MANAGEMENT_ACCOUNT_EMAIL)
+                .build())
+            .build();
+    }
+
+    private static ListRootsResponse listRootsResponse(final String rootId) {
+        return ListRootsResponse.builder().roots(Root.builder().id(rootId).build()).build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package software.amazon.organizations.organization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * In-memory stand-in for the queue an EventBridge rule delivers Organizations change records to.
+ */
+final class QueueOrgChangeEventSource implements OrgChangeEventSource {
+    private final Queue<OrgChangeEvent> events = new ConcurrentLinkedQueue<>();
+
+    void offer(final String record) {
+        events.add(OrgChangeEvent.fromRecord(record));
+    }
+
+    @Override
+    public List<OrgChangeEvent> poll() {
+        final List<OrgChangeEvent> received = new ArrayList<>();
+        OrgChangeEvent event = events.poll();
+        while (event != null) {
+            received.add(event);
+            event = events.poll();
+        }
+        return received;
+    }
+}
@@ -32,10 +32,12 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<OrganizationsClient> mockProxyClient;
     private ReadHandler readHandler;
+    private OrganizationMetadataCache organizationMetadataCache;
 
     @BeforeEach
     public void setup() {
-        readHandler = new ReadHandler();
+        organizationMetadataCache = generateEmptyOrganizationMetadataCache();
+        readHandler = new ReadHandler(organizationMetadataCache);
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -145,4 +147,55 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).describeOrganization(any(DescribeOrganizationRequest.class));
     }
 
+    @Test
+    public void handleRequest_CachedOrganization_SkipsApiCalls() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder().roots(
+                software.amazon.awssdk.services.organizations.model.Root.builder()
+                        .id(TEST_ROOT_ID)
+                        .build()).build());
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenReturn(DescribeOrganizationResponse.builder().organization(
+                        Organization.builder()
+                                .arn(TEST_ORG_ARN)
+                                .featureSet(TEST_FEATURE_SET)
+                                .id(TEST_ORG_ID)
+                                .masterAccountArn(TEST_MANAGEMENT_ACCOUNT_ARN)
+                                .masterAccountEmail(TEST_MANAGEMENT_ACCOUNT_EMAIL)
+                                .masterAccountId(TEST_MANAGEMENT_ACCOUNT_ID).build())
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getResourceModel()).isEqualTo(generateResourceModel());
+        // every Read gets its own copy of the cached model
+        assertThat(secondResponse.getResourceModel()).isNotSameAs(firstResponse.getResourceModel());
+
+        verify(mockProxyClient.client(), times(1)).listRoots(any(ListRootsRequest.class));
+        verify(mockProxyClient.client(), times(1)).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ListRootsFails_WaitsForDescribeOrganization() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenThrow(AccessDeniedException.class);
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AccessDeniedException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+        assertThat(organizationMetadataCache.get(null)).isNull();
+
+        verify(mockProxyClient.client()).listRoots(any(ListRootsRequest.class));
+        verify(mockProxyClient.client()).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
 }
@@ -0,0 +1,168 @@
+package software.amazon.organizations.organizationalunit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicateOrganizationalUnitException;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.organizationalunit.OrganizationalUnitTreePlanner.Checkpoint;
+import software.amazon.organizations.organizationalunit.OrganizationalUnitTreePlanner.OrganizationalUnitSpec;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares creating a two-level OU tree with {@link OrganizationalUnitTreePlanner} against creating the same OUs one
+ * at a time through {@link CreateHandler}, as CloudFormation does with one resource per OU. Both run against an
+ * in-memory Organizations fake that adds a fixed latency to every call; the planner's rate budget is set high enough
+ * that only the latency counts. A breadth of 10 is a 110 OU landing zone.
+ * mvn -Pjmh test-compile exec:exec -Dexec.args="-classpath %classpath org.openjdk.jmh.Main -prof gc OrganizationalUnitTreePlannerBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrganizationalUnitTreePlannerBenchmark extends AbstractTestBase {
+    private static final String ROOT_ID = "r-abcd";
+    private static final long CALL_LATENCY_MILLIS = 10;
+
+    @Param({"4", "10"})
+    private int breadth;
+
+    private List<OrganizationalUnitSpec> tree;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        tree = new ArrayList<>();
+        for (int i = 0; i < breadth; i++) {
+            final List<OrganizationalUnitSpec> children = new ArrayList<>();
+            for (int j = 0; j < breadth; j++) {
+                children.add(new OrganizationalUnitSpec("ou-" + i + "-" + j, null, null));
+            }
+            tree.add(new OrganizationalUnitSpec("ou-" + i, null, children));
+        }
+        fakeOrgsClient = new FakeOrganizationsClient();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofMinutes(10).toMillis());
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Benchmark
+    public Checkpoint planner() {
+        return new OrganizationalUnitTreePlanner(proxyClient, logger, 1000.0).apply(ROOT_ID, tree, null, checkpoint -> { });
+    }
+
+    @Benchmark
+    public int sequentialCreateHandlers() {
+        int created = 0;
+        for (final OrganizationalUnitSpec parent : tree) {
+            final String parentId = create(ROOT_ID, parent.getName());
+            created++;
+            for (final OrganizationalUnitSpec child : parent.getChildren()) {
+                create(parentId, child.getName());
+                created++;
+            }
+        }
+        return created;
+    }
+
+    // every resource is created by its own handler invocation, with nothing cached from its siblings
+    private String create(final String parentId, final String name) {
+        final CreateHandler createHandler = new CreateHandler(
+            new OrganizationalUnitChildNameCache(Clock.systemUTC(), Duration.ofSeconds(Constants.CHILD_NAME_CACHE_TTL_SECONDS)),
+            new OrganizationalUnitPathCache(Clock.systemUTC(), Duration.ofSeconds(Constants.PATH_CACHE_TTL_SECONDS)));
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().name(name).parentId(parentId).build())
+            .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            createHandler.handleRequest(awsClientProxy, request, new CallbackContext(), proxyClient, logger);
+        return response.getResourceModel().getId();
+    }
+
+    /**
+     * In-memory OU tree supporting only the calls the two create paths make.
+     */
+    private static final class FakeOrganizationsClient implements OrganizationsClient {
+        private static final int PAGE_SIZE = 20;
+
+        private final Map<String, Map<String, String>> childIdsByParent = new ConcurrentHashMap<>();
+        private final AtomicInteger idCounter = new AtomicInteger();
+
+        @Override
+        public ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParent(final ListOrganizationalUnitsForParentRequest listRequest) {
+            pause();
+            final List<OrganizationalUnit> children = new ArrayList<>();
+            childIdsByParent.getOrDefault(listRequest.parentId(), new ConcurrentHashMap<>())
+                .forEach((name, id) -> children.add(OrganizationalUnit.builder().name(name).id(id).build()));
+            final int from = listRequest.nextToken() == null ? 0 : Integer.parseInt(listRequest.nextToken());
+            final int to = Math.min(from + PAGE_SIZE, children.size());
+            return ListOrganizationalUnitsForParentResponse.builder()
+                .organizationalUnits(children.subList(from, to))
+                .nextToken(to < children.size() ? String.valueOf(to) : null)
+                .build();
+        }
+
+        @Override
+        public CreateOrganizationalUnitResponse createOrganizationalUnit(final CreateOrganizationalUnitRequest createRequest) {
+            pause();
+            final String id = String.format("ou-abcd-%08d", idCounter.incrementAndGet());
+            final String existingId = childIdsByParent.computeIfAbsent(createRequest.parentId(), parentId -> new ConcurrentHashMap<>())
+                .putIfAbsent(createRequest.name(), id);
+            if (existingId != null) {
+                throw DuplicateOrganizationalUnitException.builder().message("An OU with the same name already exists.").build();
+            }
+            return CreateOrganizationalUnitResponse.builder()
+                .organizationalUnit(OrganizationalUnit.builder()
+                    .id(id)
+                    .arn("arn:aws:organizations::111111111111:ou/o-abcd/" + id)
+                    .name(createRequest.name())
+                    .build())
+                .build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static void pause() {
+            try {
+                Thread.sleep(CALL_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
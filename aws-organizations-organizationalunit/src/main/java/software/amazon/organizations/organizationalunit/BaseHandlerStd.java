@@ -28,6 +28,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 
+import java.util.List;
 import java.util.Random;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -121,6 +122,46 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return handleError(request, e, proxyClient, resourceModel, callbackContext, logger);
     }
 
+    /**
+     * Sets ParentId to the id a ParentPath such as "Root/Workloads/Prod" resolves to. ParentPath itself is left as
+     * given, and models without one are untouched; the schema lets a model name only one of ParentId and ParentPath.
+     * Fails with InvalidRequest when the path is malformed, and with NotFound when a segment of the path does not exist.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> resolveParentPath(
+        final OrganizationalUnitPathCache pathCache,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final OrgsLoggerWrapper logger,
+        final Constants.Handler handlerName
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final String parentPath = model.getParentPath();
+        if (parentPath == null) {
+            return progress;
+        }
+        final List<String> names = OrganizationalUnitPathCache.splitPath(parentPath);
+        if (names == null) {
+            return ProgressEvent.failed(model, progress.getCallbackContext(), HandlerErrorCode.InvalidRequest,
+                String.format("Parent path [%s] must start with [%s] and escape \"/\" and \"\\\" inside OU names with \"\\\".",
+                    parentPath, OrganizationalUnitPathCache.ROOT_SEGMENT));
+        }
+        final String parentId;
+        try {
+            parentId = pathCache.resolve(request.getAwsAccountId(), names, proxyClient);
+        } catch (Exception e) {
+            return handleErrorInGeneral(Translator.translateToListOrganizationalUnitsForParentRequest(null, model), e, proxyClient, model,
+                progress.getCallbackContext(), logger, Constants.Action.LIST_OU_FOR_PARENT, handlerName);
+        }
+        if (parentId == null) {
+            return ProgressEvent.failed(model, progress.getCallbackContext(), HandlerErrorCode.NotFound,
+                String.format("Parent path [%s] does not exist in the organization.", parentPath));
+        }
+        logger.log(String.format("Resolved parent path [%s] to [%s].", parentPath, parentId));
+        model.setParentId(parentId);
+        return progress;
+    }
+
     public final int computeDelayBeforeNextRetry(int retryAttempt) {
         Random random = new Random();
         int exponentialBackoff = (int) Math.pow(2, retryAttempt) * BASE_DELAY;
@@ -21,4 +21,9 @@ public class CallbackContext extends StdCallbackContext {
     }
     private boolean isPreExistenceCheckComplete = false;
     private boolean didResourceAlreadyExist = false;
+    // ListOrganizationalUnitsForParent page to resume the pre-existence check from after a retriable error
+    private String existenceCheckNextToken;
+    private boolean isEmptinessCheckComplete = false;
+    // callbacks DeleteHandler has already deferred for while the OU still had children
+    private int emptinessCheckAttempt = 0;
 }
@@ -1,6 +1,26 @@
 package software.amazon.organizations.organizationalunit;
 
 public class Constants {
+    // how long a complete listing of a parent's child OU names is trusted by CreateHandler's pre-existence check
+    public static final int CHILD_NAME_CACHE_TTL_SECONDS = 30;
+
+    // how long the root id and child OU listings used to resolve path-style parent references are trusted
+    public static final int PATH_CACHE_TTL_SECONDS = 300;
+
+    // DeleteHandler waits for children that are still being moved out of an OU with callback delays
+    // starting at the base and doubling up to the max, for at most the given number of attempts (about 14 seconds)
+    public static final int EMPTINESS_CHECK_BASE_DELAY_SECONDS = 2;
+    public static final int EMPTINESS_CHECK_MAX_DELAY_SECONDS = 8;
+    public static final int EMPTINESS_CHECK_MAX_ATTEMPTS = 3;
+
+    // rate limit (calls per second) shared by all recursive listings in a container
+    public static final double LIST_DESCENDANTS_PER_SECOND = 5.0;
+    // parents whose children are listed concurrently by one recursive list invocation
+    public static final int LIST_DESCENDANTS_PARENTS_PER_PAGE = 20;
+
+    // default rate limit (calls per second) of one OrganizationalUnitTreePlanner, shared by its listings and creates
+    public static final double BULK_CREATE_PER_SECOND = 5.0;
+
     // constants used for handleRetriableException
     public enum Action {
         CREATE_OU,
@@ -11,7 +31,8 @@ public class Constants {
         DESCRIBE_OU,
         LIST_PARENTS,
         LIST_TAGS_FOR_OU,
-        LIST_OU_FOR_PARENT
+        LIST_OU_FOR_PARENT,
+        LIST_CHILDREN
     }
 
     public enum Handler {
@@ -4,8 +4,10 @@ import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
 import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicateOrganizationalUnitException;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -13,10 +15,22 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
-import java.util.Optional;
+import java.util.HashSet;
+import java.util.Set;
 
 public class CreateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final OrganizationalUnitChildNameCache childNameCache;
+    private final OrganizationalUnitPathCache pathCache;
+
+    public CreateHandler() {
+        this(OrganizationalUnitChildNameCache.shared(), OrganizationalUnitPathCache.shared());
+    }
+
+    public CreateHandler(final OrganizationalUnitChildNameCache childNameCache, final OrganizationalUnitPathCache pathCache) {
+        this.childNameCache = childNameCache;
+        this.pathCache = pathCache;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -30,53 +44,89 @@ public class CreateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         String name = model.getName();
-        String parentId = model.getParentId();
 
-        logger.log(String.format("Requesting CreateOrganizationalUnit w/ name: %s and parentId: %s.", name, parentId));
+        logger.log(String.format("Requesting CreateOrganizationalUnit w/ name: %s and parentId: %s.", name, model.getParentId()));
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress -> checkIfOrganizationalUnitExists(awsClientProxy, progress, orgsClient))
+                .then(progress -> resolveParentPath(pathCache, request, progress, orgsClient, logger, Constants.Handler.CREATE))
+                .then(progress -> checkIfOrganizationalUnitExists(request, progress, orgsClient))
                 .then(progress -> {
                     if (progress.getCallbackContext().isPreExistenceCheckComplete() && progress.getCallbackContext().isDidResourceAlreadyExist()) {
                         return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists,
-                                String.format("Failing PreExistenceCheck: OrganizationalUnit with name [%s] already exists in parent [%s].", name, parentId));
+                                String.format("Failing PreExistenceCheck: OrganizationalUnit with name [%s] already exists in parent [%s].", name, model.getParentId()));
                     }
                     return awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::CreateOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                             .translateToServiceRequest(x -> Translator.translateToCreateOrganizationalUnitRequest(x, request))
                             .makeServiceCall(this::createOrganizationalUnit)
                             .stabilize(this::stabilized)
-                            .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
-                                    handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, Constants.Action.CREATE_OU, Constants.Handler.CREATE))
-                            .progress();
+                            .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                                if (e instanceof DuplicateOrganizationalUnitException) {
+                                    childNameCache.invalidate(request.getAwsAccountId(), model.getParentId());
+                                }
+                                return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, Constants.Action.CREATE_OU, Constants.Handler.CREATE);
+                            })
+                            .done((createRequest, createResponse, proxyClient1, model1, context) -> {
+                                childNameCache.recordChild(request.getAwsAccountId(), model.getParentId(), name);
+                                pathCache.recordCreated(request.getAwsAccountId(), model.getParentId(), name, model.getId());
+                                // the response and the request already hold everything a read would return
+                                final ResourceModel createdModel = Translator.translateFromCreateResponse(createRequest, createResponse);
+                                if (createdModel == null) {
+                                    logger.log(String.format("CreateOrganizationalUnit response for OU [%s] is incomplete, reading it back.", model1.getId()));
+                                    return ProgressEvent.progress(model1, context);
+                                }
+                                return ProgressEvent.defaultSuccessHandler(createdModel);
+                            });
                 })
                 .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> checkIfOrganizationalUnitExists(
-            final AmazonWebServicesClientProxy awsClientProxy,
-            ProgressEvent<ResourceModel, CallbackContext> progress,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
             final ProxyClient<OrganizationsClient> orgsClient) {
 
-        ResourceModel model = progress.getResourceModel();
-
-        return awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::ListOrganizationalUnitsForParent", orgsClient, model, progress.getCallbackContext())
-                .translateToServiceRequest(resourceModel -> ListOrganizationalUnitsForParentRequest.builder()
-                        .parentId(resourceModel.getParentId())
-                        .build())
-                .makeServiceCall((listOURequest, proxyClient) -> proxyClient.injectCredentialsAndInvokeV2(listOURequest, proxyClient.client()::listOrganizationalUnitsForParent))
-                .done((listOURequest, listOUResponse, proxyClient, resourceModel, context) -> {
-                    Optional<OrganizationalUnit> existingOU = listOUResponse.organizationalUnits().stream()
-                            .filter(ou -> ou.name().equals(model.getName()))
-                            .findFirst();
-
-                    if (existingOU.isPresent()) {
-                        model.setId(existingOU.get().id());
-                        context.setDidResourceAlreadyExist(true);
-                        log.log(String.format("OrganizationalUnit [%s] already exists with Id: [%s]", model.getName(), model.getId()));
-                    }
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext context = progress.getCallbackContext();
+        if (context.isPreExistenceCheckComplete()) {
+            return progress;
+        }
+        if (childNameCache.isKnownAbsent(request.getAwsAccountId(), model.getParentId(), model.getName())) {
+            log.log(String.format("Parent [%s] was recently listed without an OrganizationalUnit named [%s], skipping ListOrganizationalUnitsForParent.",
+                model.getParentId(), model.getName()));
+            context.setPreExistenceCheckComplete(true);
+            return progress;
+        }
 
+        // names are only cached when this invocation saw every page, a scan resumed after a retry has lost the earlier pages
+        final boolean scanFromFirstPage = context.getExistenceCheckNextToken() == null;
+        final Set<String> childNames = new HashSet<>();
+        do {
+            final ListOrganizationalUnitsForParentRequest listOURequest =
+                Translator.translateToListOrganizationalUnitsForParentRequest(context.getExistenceCheckNextToken(), model);
+            final ListOrganizationalUnitsForParentResponse listOUResponse;
+            try {
+                listOUResponse = orgsClient.injectCredentialsAndInvokeV2(listOURequest, orgsClient.client()::listOrganizationalUnitsForParent);
+            } catch (Exception e) {
+                return handleErrorInGeneral(listOURequest, e, orgsClient, model, context, log, Constants.Action.LIST_OU_FOR_PARENT, Constants.Handler.CREATE);
+            }
+            for (OrganizationalUnit organizationalUnit : listOUResponse.organizationalUnits()) {
+                if (organizationalUnit.name().equals(model.getName())) {
+                    model.setId(organizationalUnit.id());
+                    context.setDidResourceAlreadyExist(true);
+                    context.setExistenceCheckNextToken(null);
                     context.setPreExistenceCheckComplete(true);
+                    log.log(String.format("OrganizationalUnit [%s] already exists with Id: [%s]", model.getName(), model.getId()));
                     return ProgressEvent.progress(model, context);
-                });
+                }
+                childNames.add(organizationalUnit.name());
+            }
+            context.setExistenceCheckNextToken(listOUResponse.nextToken());
+        } while (context.getExistenceCheckNextToken() != null);
+
+        if (scanFromFirstPage) {
+            childNameCache.putCompleteListing(request.getAwsAccountId(), model.getParentId(), childNames);
+        }
+        context.setPreExistenceCheckComplete(true);
+        return ProgressEvent.progress(model, context);
     }
 
     protected CreateOrganizationalUnitResponse createOrganizationalUnit(final CreateOrganizationalUnitRequest createOrganizationalUnitRequest, final ProxyClient<OrganizationsClient> orgsClient) {
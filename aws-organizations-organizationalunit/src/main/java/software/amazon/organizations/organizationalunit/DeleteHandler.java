@@ -1,8 +1,12 @@
 package software.amazon.organizations.organizationalunit;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ChildType;
 import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitRequest;
 import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.ListChildrenRequest;
+import software.amazon.awssdk.services.organizations.model.ListChildrenResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotEmptyException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -11,6 +15,15 @@ import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class DeleteHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final OrganizationalUnitPathCache pathCache;
+
+    public DeleteHandler() {
+        this(OrganizationalUnitPathCache.shared());
+    }
+
+    public DeleteHandler(final OrganizationalUnitPathCache pathCache) {
+        this.pathCache = pathCache;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -25,16 +38,86 @@ public class DeleteHandler extends BaseHandlerStd {
 
         String ouId = model.getId();
 
-        // Call DeleteOrganizationalUnit API
-        logger.log(String.format("Requesting DeleteOrganizationalUnit w/ id: %s.%n", ouId));
         return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::DeleteOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToDeleteOrganizationalUnitRequest)
-                .makeServiceCall(this::deleteOrganizationalUnit)
-                .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, Constants.Action.DELETE_OU, Constants.Handler.DELETE))
-                .done((deleteRequest) -> ProgressEvent.defaultSuccessHandler(null))
-            );
+            .then(progress -> checkIfOrganizationalUnitIsEmpty(progress, orgsClient, logger))
+            .then(progress -> {
+                // Call DeleteOrganizationalUnit API
+                logger.log(String.format("Requesting DeleteOrganizationalUnit w/ id: %s.%n", ouId));
+                return awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::DeleteOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(Translator::translateToDeleteOrganizationalUnitRequest)
+                    .makeServiceCall(this::deleteOrganizationalUnit)
+                    .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                        // ListChildren can report the OU empty before DeleteOrganizationalUnit sees the last move out of it
+                        if (e instanceof OrganizationalUnitNotEmptyException && context.getEmptinessCheckAttempt() < Constants.EMPTINESS_CHECK_MAX_ATTEMPTS) {
+                            context.setEmptinessCheckComplete(false);
+                            return deferUntilEmpty(model1, context, logger);
+                        }
+                        return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, Constants.Action.DELETE_OU, Constants.Handler.DELETE);
+                    })
+                    .done((deleteRequest) -> {
+                        pathCache.recordDeleted(request.getAwsAccountId(), ouId);
+                        return ProgressEvent.defaultSuccessHandler(null);
+                    });
+            });
+    }
+
+    /**
+     * Checks with ListChildren that no OU or account is left under the OU before deleting it. Children that are still
+     * being moved out are waited for with short, growing callback delays instead of failing the delete; once the
+     * attempts run out the delete is issued anyway and reports whatever the service says.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> checkIfOrganizationalUnitIsEmpty(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext context = progress.getCallbackContext();
+        if (context.isEmptinessCheckComplete()) {
+            return progress;
+        }
+        final ListChildrenRequest listChildrenRequest = Translator.translateToListChildrenRequest(model.getId(), ChildType.ORGANIZATIONAL_UNIT);
+        final boolean hasChildren;
+        try {
+            hasChildren = hasChildren(listChildrenRequest, orgsClient)
+                || hasChildren(Translator.translateToListChildrenRequest(model.getId(), ChildType.ACCOUNT), orgsClient);
+        } catch (Exception e) {
+            return handleErrorInGeneral(listChildrenRequest, e, orgsClient, model, context, logger, Constants.Action.LIST_CHILDREN, Constants.Handler.DELETE);
+        }
+        if (hasChildren && context.getEmptinessCheckAttempt() < Constants.EMPTINESS_CHECK_MAX_ATTEMPTS) {
+            return deferUntilEmpty(model, context, logger);
+        }
+        context.setEmptinessCheckComplete(true);
+        return progress;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> deferUntilEmpty(
+        final ResourceModel model,
+        final CallbackContext context,
+        final OrgsLoggerWrapper logger
+    ) {
+        final int attempt = context.getEmptinessCheckAttempt();
+        final int callbackDelaySeconds = Math.min(Constants.EMPTINESS_CHECK_BASE_DELAY_SECONDS << attempt, Constants.EMPTINESS_CHECK_MAX_DELAY_SECONDS);
+        context.setEmptinessCheckAttempt(attempt + 1);
+        logger.log(String.format("OrganizationalUnit [%s] still has children. Waiting %s of %s with callback delay %s seconds before deleting.",
+            model.getId(), attempt + 1, Constants.EMPTINESS_CHECK_MAX_ATTEMPTS, callbackDelaySeconds));
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+    }
+
+    // an empty page with a nextToken doesn't mean there are no children, so keep paging until a child or the last page
+    private boolean hasChildren(final ListChildrenRequest listChildrenRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.log(String.format("Calling listChildren API for %s children of OU [%s].", listChildrenRequest.childTypeAsString(), listChildrenRequest.parentId()));
+        ListChildrenRequest pageRequest = listChildrenRequest;
+        while (true) {
+            final ListChildrenResponse listChildrenResponse = orgsClient.injectCredentialsAndInvokeV2(pageRequest, orgsClient.client()::listChildren);
+            if (!listChildrenResponse.children().isEmpty()) {
+                return true;
+            }
+            if (listChildrenResponse.nextToken() == null) {
+                return false;
+            }
+            pageRequest = listChildrenRequest.toBuilder().nextToken(listChildrenResponse.nextToken()).build();
+        }
     }
 
     protected DeleteOrganizationalUnitResponse deleteOrganizationalUnit(final DeleteOrganizationalUnitRequest deleteOrganizationalUnitRequest, final ProxyClient<OrganizationsClient> orgsClient) {
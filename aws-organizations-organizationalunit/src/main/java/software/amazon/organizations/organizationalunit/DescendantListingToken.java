@@ -0,0 +1,61 @@
+package software.amazon.organizations.organizationalunit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Continuation token of a recursive list: the parents whose children have not been listed yet, in breadth-first order.
+ * OU ids of one organization share their "ou-{root}-" prefix, so the prefix is written once and each id is reduced
+ * to its suffix, e.g. "ou-ab12-:aaaaaaaa,bbbbbbbb".
+ */
+final class DescendantListingToken {
+    private static final String PREFIX_SEPARATOR = ":";
+    private static final String ID_SEPARATOR = ",";
+    private static final Pattern PARENT_ID_PATTERN = Pattern.compile("^(r-[0-9a-z]{4,32})|(ou-[0-9a-z]{4,32}-[a-z0-9]{8,32})$");
+
+    private DescendantListingToken() {
+    }
+
+    static String encode(final List<String> parentIds) {
+        final String prefix = commonPrefix(parentIds);
+        final List<String> suffixes = new ArrayList<>(parentIds.size());
+        parentIds.forEach(parentId -> suffixes.add(parentId.substring(prefix.length())));
+        return prefix + PREFIX_SEPARATOR + String.join(ID_SEPARATOR, suffixes);
+    }
+
+    /**
+     * @throws IllegalArgumentException when the token was not produced by {@link #encode}
+     */
+    static List<String> decode(final String token) {
+        final int separatorIndex = token.indexOf(PREFIX_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException(String.format("Invalid recursive list token [%s].", token));
+        }
+        final String prefix = token.substring(0, separatorIndex);
+        final List<String> parentIds = new ArrayList<>();
+        for (String suffix : token.substring(separatorIndex + 1).split(ID_SEPARATOR, -1)) {
+            final String parentId = prefix + suffix;
+            if (!PARENT_ID_PATTERN.matcher(parentId).matches()) {
+                throw new IllegalArgumentException(String.format("Invalid recursive list token [%s].", token));
+            }
+            parentIds.add(parentId);
+        }
+        return Collections.unmodifiableList(parentIds);
+    }
+
+    private static String commonPrefix(final List<String> parentIds) {
+        String prefix = parentIds.get(0);
+        for (String parentId : parentIds) {
+            int length = 0;
+            while (length < prefix.length() && length < parentId.length() && prefix.charAt(length) == parentId.charAt(length)) {
+                length++;
+            }
+            prefix = prefix.substring(0, length);
+        }
+        // keep at least one character per id so an empty suffix never appears between separators
+        final int shortest = parentIds.stream().mapToInt(String::length).min().orElse(0);
+        return prefix.length() < shortest ? prefix : prefix.substring(0, Math.max(0, shortest - 1));
+    }
+}
@@ -1,21 +1,39 @@
 package software.amazon.organizations.organizationalunit;
 
+import com.google.common.util.concurrent.RateLimiter;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class ListHandler extends BaseHandlerStd {
+    private static final RateLimiter LIST_DESCENDANTS_RATE_LIMITER = RateLimiter.create(Constants.LIST_DESCENDANTS_PER_SECOND);
+
     private OrgsLoggerWrapper log;
+    private final OrganizationalUnitPathCache pathCache;
+
+    public ListHandler() {
+        this(OrganizationalUnitPathCache.shared());
+    }
+
+    public ListHandler(final OrganizationalUnitPathCache pathCache) {
+        this.pathCache = pathCache;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -31,9 +49,20 @@ public class ListHandler extends BaseHandlerStd {
         logger.log("Requesting ListOrganizationalUnitsForParent");
 
         final ResourceModel model = request.getDesiredResourceState();
-        if (model == null || model.getParentId() == null) {
+        if (model == null) {
             return ProgressEvent.failed(ResourceModel.builder().build(), callbackContext, HandlerErrorCode.InvalidRequest,
-                "Organizational Units cannot be listed without specifying a ParentId in the provided resource model for the ListOrganizationalUnitsForParent request");
+                "Organizational Units cannot be listed without a resource model for the ListOrganizationalUnitsForParent request");
+        }
+
+        // without a parent, every OU in the organization is listed, breadth-first from the root
+        if (model.getParentId() == null && model.getParentPath() == null) {
+            return listDescendants(request, callbackContext, orgsClient, logger);
+        }
+
+        final ProgressEvent<ResourceModel, CallbackContext> resolvedProgress =
+            resolveParentPath(pathCache, request, ProgressEvent.progress(model, callbackContext), orgsClient, logger, Constants.Handler.LIST);
+        if (!resolvedProgress.isInProgress()) {
+            return resolvedProgress;
         }
 
         ListOrganizationalUnitsForParentRequest listOrganizationalUnitsForParentRequest =
@@ -56,6 +85,82 @@ public class ListHandler extends BaseHandlerStd {
 
     }
 
+    /**
+     * Lists the children of up to {@link Constants#LIST_DESCENDANTS_PARENTS_PER_PAGE} parents of the frontier concurrently.
+     * The first page starts from the root; every returned model has its ParentId set, and the children become the end
+     * of the frontier carried in nextToken.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listDescendants(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        final ResourceModel model = request.getDesiredResourceState();
+        final List<String> frontier;
+        if (request.getNextToken() == null) {
+            final String rootId;
+            try {
+                rootId = pathCache.resolve(request.getAwsAccountId(), Collections.emptyList(), orgsClient);
+            } catch (Exception e) {
+                return handleErrorInGeneral(Translator.translateToListOrganizationalUnitsForParentRequest(null, model), e, orgsClient, model, callbackContext,
+                    logger, Constants.Action.LIST_OU_FOR_PARENT, Constants.Handler.LIST);
+            }
+            frontier = rootId == null ? Collections.emptyList() : Collections.singletonList(rootId);
+        } else {
+            try {
+                frontier = DescendantListingToken.decode(request.getNextToken());
+            } catch (IllegalArgumentException e) {
+                return ProgressEvent.failed(ResourceModel.builder().build(), callbackContext, HandlerErrorCode.InvalidRequest, e.getMessage());
+            }
+        }
+
+        final int expandCount = Math.min(frontier.size(), Constants.LIST_DESCENDANTS_PARENTS_PER_PAGE);
+        final Map<String, CompletableFuture<List<OrganizationalUnit>>> childFutures = new LinkedHashMap<>();
+        for (String parentId : frontier.subList(0, expandCount)) {
+            childFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> listAllChildren(orgsClient, parentId)));
+        }
+
+        final List<ResourceModel> models = new ArrayList<>();
+        final List<String> remainingFrontier = new ArrayList<>(frontier.subList(expandCount, frontier.size()));
+        for (Map.Entry<String, CompletableFuture<List<OrganizationalUnit>>> entry : childFutures.entrySet()) {
+            final List<OrganizationalUnit> children;
+            try {
+                children = OrgsConcurrentExecutor.join(entry.getValue());
+            } catch (Exception e) {
+                return handleErrorInGeneral(Translator.translateToListOrganizationalUnitsForParentRequest(null, entry.getKey()), e, orgsClient, model, callbackContext,
+                    logger, Constants.Action.LIST_OU_FOR_PARENT, Constants.Handler.LIST);
+            }
+            for (OrganizationalUnit child : children) {
+                final ResourceModel childModel = Translator.getResourceModelFromOrganizationalUnit(child);
+                childModel.setParentId(entry.getKey());
+                models.add(childModel);
+                remainingFrontier.add(child.id());
+            }
+        }
+
+        logger.log(String.format("Listed %d descendant OrganizationalUnits of %d parents, %d parents left to list.",
+            models.size(), expandCount, remainingFrontier.size()));
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(remainingFrontier.isEmpty() ? null : DescendantListingToken.encode(remainingFrontier))
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    private static List<OrganizationalUnit> listAllChildren(final ProxyClient<OrganizationsClient> orgsClient, final String parentId) {
+        final List<OrganizationalUnit> children = new ArrayList<>();
+        String nextToken = null;
+        do {
+            LIST_DESCENDANTS_RATE_LIMITER.acquire();
+            final ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParentResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListOrganizationalUnitsForParentRequest(nextToken, parentId), orgsClient.client()::listOrganizationalUnitsForParent);
+            children.addAll(listOrganizationalUnitsForParentResponse.organizationalUnits());
+            nextToken = listOrganizationalUnitsForParentResponse.nextToken();
+        } while (nextToken != null);
+        return children;
+    }
+
     private ListOrganizationalUnitsForParentResponse listOrganizationalUnits(ListOrganizationalUnitsForParentRequest listOrganizationalUnitsForParentRequest, ProxyClient<OrganizationsClient> orgsClient) {
         log.log("Start calling listOrganizationalUnits");
         return orgsClient.injectCredentialsAndInvokeV2(
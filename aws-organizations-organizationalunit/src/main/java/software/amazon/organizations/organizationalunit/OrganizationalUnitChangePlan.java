@@ -0,0 +1,75 @@
+package software.amazon.organizations.organizationalunit;
+
+import software.amazon.awssdk.services.organizations.model.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Mutations an update has to make to bring an OU from its previous state to the desired one.
+ * Name and tags are compared separately, so a tag-only change never calls UpdateOrganizationalUnit and an unchanged
+ * model makes no calls at all.
+ */
+final class OrganizationalUnitChangePlan {
+    private final boolean renameNeeded;
+    private final Set<String> tagKeysToRemove;
+    private final Set<Tag> tagsToAddOrUpdate;
+    private final Set<Tag> desiredTags;
+
+    private OrganizationalUnitChangePlan(final boolean renameNeeded, final Set<String> tagKeysToRemove, final Set<Tag> tagsToAddOrUpdate, final Set<Tag> desiredTags) {
+        this.renameNeeded = renameNeeded;
+        this.tagKeysToRemove = tagKeysToRemove;
+        this.tagsToAddOrUpdate = tagsToAddOrUpdate;
+        this.desiredTags = desiredTags;
+    }
+
+    /**
+     * @param previousModel previous resource state, null when CloudFormation did not provide one
+     * @param previousTags resource and stack tags the OU had before the update
+     * @param desiredTags resource and stack tags the OU should have after the update
+     */
+    static OrganizationalUnitChangePlan plan(final ResourceModel previousModel, final ResourceModel desiredModel, final Set<Tag> previousTags, final Set<Tag> desiredTags) {
+        // without a previous state the current name is unknown, so the rename is always sent
+        final boolean renameNeeded = previousModel == null || !Objects.equals(previousModel.getName(), desiredModel.getName());
+        return new OrganizationalUnitChangePlan(renameNeeded,
+            Collections.unmodifiableSet(new HashSet<>(TagsHelper.getTagKeysToRemove(previousTags, desiredTags))),
+            Collections.unmodifiableSet(new HashSet<>(TagsHelper.getTagsToAddOrUpdate(previousTags, desiredTags))),
+            Collections.unmodifiableSet(new HashSet<>(desiredTags)));
+    }
+
+    boolean isRenameNeeded() {
+        return renameNeeded;
+    }
+
+    Set<String> getTagKeysToRemove() {
+        return tagKeysToRemove;
+    }
+
+    Set<Tag> getTagsToAddOrUpdate() {
+        return tagsToAddOrUpdate;
+    }
+
+    /**
+     * Builds the model a read would return once the plan has been applied, or returns null when the previous state
+     * does not carry the Arn and ParentId and the OU has to be read back.
+     */
+    ResourceModel buildFinalModel(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        if (previousModel == null || previousModel.getArn() == null) {
+            return null;
+        }
+        final String parentId = desiredModel.getParentId() != null ? desiredModel.getParentId() : previousModel.getParentId();
+        if (parentId == null) {
+            return null;
+        }
+        return ResourceModel.builder()
+            .arn(previousModel.getArn())
+            .id(desiredModel.getId())
+            .name(desiredModel.getName())
+            .parentId(parentId)
+            .tags(Translator.translateTagsFromSdkResponse(new ArrayList<>(desiredTags)))
+            .build();
+    }
+}
@@ -0,0 +1,80 @@
+package software.amazon.organizations.organizationalunit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-level cache of the child OU names of a parent, keyed by account id and parent id.
+ * An entry is only stored after a complete ListOrganizationalUnitsForParent scan and lives for a short TTL, so sibling
+ * OUs created from the same stack can skip rescanning a parent that was just shown not to contain their name.
+ * The cache is only trusted for negative answers; CreateOrganizationalUnit still rejects a duplicate name.
+ */
+public class OrganizationalUnitChildNameCache {
+    private static final OrganizationalUnitChildNameCache SHARED =
+        new OrganizationalUnitChildNameCache(Clock.systemUTC(), Duration.ofSeconds(Constants.CHILD_NAME_CACHE_TTL_SECONDS));
+
+    private final Map<String, CachedChildNames> childNamesByParent = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration ttl;
+
+    OrganizationalUnitChildNameCache(final Clock clock, final Duration ttl) {
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    public static OrganizationalUnitChildNameCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return true only when a live, complete listing of the parent is cached and contains no child with this name
+     */
+    boolean isKnownAbsent(final String accountId, final String parentId, final String name) {
+        final CachedChildNames cached = childNamesByParent.get(toKey(accountId, parentId));
+        return cached != null && clock.instant().isBefore(cached.expiresAt) && !cached.names.contains(name);
+    }
+
+    /**
+     * Stores the names found by a scan that covered every page of the parent.
+     */
+    void putCompleteListing(final String accountId, final String parentId, final Set<String> names) {
+        childNamesByParent.put(toKey(accountId, parentId),
+            new CachedChildNames(Collections.unmodifiableSet(new HashSet<>(names)), clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Adds an OU created by this container to a live entry of its parent, keeping the entry's expiry.
+     */
+    void recordChild(final String accountId, final String parentId, final String name) {
+        childNamesByParent.computeIfPresent(toKey(accountId, parentId), (key, cached) -> {
+            final Set<String> names = new HashSet<>(cached.names);
+            names.add(name);
+            return new CachedChildNames(Collections.unmodifiableSet(names), cached.expiresAt);
+        });
+    }
+
+    void invalidate(final String accountId, final String parentId) {
+        childNamesByParent.remove(toKey(accountId, parentId));
+    }
+
+    private static String toKey(final String accountId, final String parentId) {
+        return Objects.toString(accountId, "") + "/" + Objects.toString(parentId, "");
+    }
+
+    private static final class CachedChildNames {
+        private final Set<String> names;
+        private final Instant expiresAt;
+
+        private CachedChildNames(final Set<String> names, final Instant expiresAt) {
+            this.names = names;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
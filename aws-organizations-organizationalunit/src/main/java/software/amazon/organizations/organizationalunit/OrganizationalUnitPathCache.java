@@ -0,0 +1,174 @@
+package software.amazon.organizations.organizationalunit;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-level cache used to resolve ParentPath references such as "Root/Workloads/Prod" to an id.
+ * A "/" inside an OU name is written as "\/" and a backslash as "\\".
+ * The root id comes from ListRoots and each level from a full ListOrganizationalUnitsForParent listing of the parent,
+ * and both are kept per account for a TTL, so resolving the same path again makes no API calls.
+ * OUs created or deleted by this container are written through to the cached listings.
+ */
+public class OrganizationalUnitPathCache {
+    static final String ROOT_SEGMENT = "Root";
+    static final String PATH_SEPARATOR = "/";
+    private static final char SEPARATOR_CHAR = '/';
+    private static final char ESCAPE_CHAR = '\\';
+
+    private static final OrganizationalUnitPathCache SHARED =
+        new OrganizationalUnitPathCache(Clock.systemUTC(), Duration.ofSeconds(Constants.PATH_CACHE_TTL_SECONDS));
+
+    private final Map<String, CachedValue<String>> rootIdByAccount = new ConcurrentHashMap<>();
+    // account id/parent id -> child OU name -> child OU id
+    private final Map<String, CachedValue<Map<String, String>>> childIdsByParent = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration ttl;
+
+    OrganizationalUnitPathCache(final Clock clock, final Duration ttl) {
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    public static OrganizationalUnitPathCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Splits a path into the OU names below the root, unescaping "\/" and "\\" inside names.
+     * @return the OU names, empty for the root itself, or null when the path does not start at the root, has an empty
+     *         name or an escape that is not followed by "/" or "\"
+     */
+    static List<String> splitPath(final String path) {
+        if (path == null) {
+            return null;
+        }
+        final List<String> segments = new ArrayList<>();
+        final StringBuilder segment = new StringBuilder();
+        for (int i = 0; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if (c == ESCAPE_CHAR) {
+                i++;
+                if (i == path.length() || (path.charAt(i) != SEPARATOR_CHAR && path.charAt(i) != ESCAPE_CHAR)) {
+                    return null;
+                }
+                segment.append(path.charAt(i));
+            } else if (c == SEPARATOR_CHAR) {
+                segments.add(segment.toString());
+                segment.setLength(0);
+            } else {
+                segment.append(c);
+            }
+        }
+        segments.add(segment.toString());
+        if (!ROOT_SEGMENT.equals(segments.get(0)) || segments.contains("")) {
+            return null;
+        }
+        return segments.subList(1, segments.size());
+    }
+
+    /**
+     * Resolves the OU names below the root, as returned by splitPath, to the id of the root or OU they name.
+     * Exceptions from ListRoots and ListOrganizationalUnitsForParent are propagated to the caller.
+     * @return the id, or null when a segment of the path does not exist
+     */
+    String resolve(final String accountId, final List<String> names, final ProxyClient<OrganizationsClient> orgsClient) {
+        String currentId = getRootId(accountId, orgsClient);
+        for (int i = 0; i < names.size() && currentId != null; i++) {
+            currentId = getChildIds(accountId, currentId, orgsClient).get(names.get(i));
+        }
+        return currentId;
+    }
+
+    /**
+     * Adds an OU created by this container to the cached listing of its parent, if there is a live one.
+     */
+    void recordCreated(final String accountId, final String parentId, final String name, final String ouId) {
+        childIdsByParent.computeIfPresent(toKey(accountId, parentId), (key, cached) -> {
+            final Map<String, String> childIds = new HashMap<>(cached.value);
+            childIds.put(name, ouId);
+            return new CachedValue<>(Collections.unmodifiableMap(childIds), cached.expiresAt);
+        });
+    }
+
+    /**
+     * Removes an OU deleted by this container from every cached listing of the account, along with its own listing.
+     */
+    void recordDeleted(final String accountId, final String ouId) {
+        childIdsByParent.remove(toKey(accountId, ouId));
+        final String accountPrefix = toKey(accountId, "");
+        childIdsByParent.replaceAll((key, cached) -> {
+            if (!key.startsWith(accountPrefix) || !cached.value.containsValue(ouId)) {
+                return cached;
+            }
+            final Map<String, String> childIds = new HashMap<>(cached.value);
+            childIds.values().remove(ouId);
+            return new CachedValue<>(Collections.unmodifiableMap(childIds), cached.expiresAt);
+        });
+    }
+
+    private String getRootId(final String accountId, final ProxyClient<OrganizationsClient> orgsClient) {
+        final CachedValue<String> cached = rootIdByAccount.get(toKey(accountId, ""));
+        if (cached != null && clock.instant().isBefore(cached.expiresAt)) {
+            return cached.value;
+        }
+        final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(ListRootsRequest.builder().build(), orgsClient.client()::listRoots);
+        if (listRootsResponse.roots().isEmpty()) {
+            return null;
+        }
+        // an organization has exactly one root
+        final String rootId = listRootsResponse.roots().get(0).id();
+        rootIdByAccount.put(toKey(accountId, ""), new CachedValue<>(rootId, clock.instant().plus(ttl)));
+        return rootId;
+    }
+
+    private Map<String, String> getChildIds(final String accountId, final String parentId, final ProxyClient<OrganizationsClient> orgsClient) {
+        final String key = toKey(accountId, parentId);
+        final CachedValue<Map<String, String>> cached = childIdsByParent.get(key);
+        if (cached != null && clock.instant().isBefore(cached.expiresAt)) {
+            return cached.value;
+        }
+        final Map<String, String> childIds = new HashMap<>();
+        String nextToken = null;
+        do {
+            final ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParentResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListOrganizationalUnitsForParentRequest(nextToken, parentId), orgsClient.client()::listOrganizationalUnitsForParent);
+            for (OrganizationalUnit organizationalUnit : listOrganizationalUnitsForParentResponse.organizationalUnits()) {
+                childIds.put(organizationalUnit.name(), organizationalUnit.id());
+            }
+            nextToken = listOrganizationalUnitsForParentResponse.nextToken();
+        } while (nextToken != null);
+        final Map<String, String> unmodifiableChildIds = Collections.unmodifiableMap(childIds);
+        childIdsByParent.put(key, new CachedValue<>(unmodifiableChildIds, clock.instant().plus(ttl)));
+        return unmodifiableChildIds;
+    }
+
+    private static String toKey(final String accountId, final String parentId) {
+        return Objects.toString(accountId, "") + PATH_SEPARATOR + parentId;
+    }
+
+    private static final class CachedValue<T> {
+        private final T value;
+        private final Instant expiresAt;
+
+        private CachedValue(final T value, final Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
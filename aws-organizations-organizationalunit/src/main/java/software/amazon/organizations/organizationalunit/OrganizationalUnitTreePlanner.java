@@ -0,0 +1,249 @@
+package software.amazon.organizations.organizationalunit;
+
+import com.google.common.util.concurrent.RateLimiter;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicateOrganizationalUnitException;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Creates a whole tree of OUs under one parent, level by level, instead of one CreateHandler invocation per OU.
+ * Every parent of a level is listed once, concurrently, and that snapshot of its child names is used to detect
+ * OUs that already exist, which are adopted rather than created; adopted OUs get the spec's tags added with TagResource,
+ * while tags they already carry are kept. The OUs of a level are then created concurrently.
+ * All calls of one planner draw from the same rate limiter.
+ * A checkpoint is emitted after every level; passing it back to {@link #apply} resumes after the last completed level,
+ * and OUs created by a level that failed half way are adopted from the snapshot on the next run.
+ * OUs are identified by their path of names below the parent, e.g. "Workloads/Prod", so names must not contain "/".
+ * Exceptions from Organizations are propagated to the caller of {@link #apply}.
+ */
+public class OrganizationalUnitTreePlanner {
+    static final String PATH_SEPARATOR = "/";
+
+    private final ProxyClient<OrganizationsClient> orgsClient;
+    private final OrgsLoggerWrapper logger;
+    private final RateLimiter rateLimiter;
+
+    public OrganizationalUnitTreePlanner(final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger) {
+        this(orgsClient, logger, Constants.BULK_CREATE_PER_SECOND);
+    }
+
+    /**
+     * @param callsPerSecond rate budget shared by all ListOrganizationalUnitsForParent, CreateOrganizationalUnit and TagResource calls
+     */
+    public OrganizationalUnitTreePlanner(final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger, final double callsPerSecond) {
+        this.orgsClient = orgsClient;
+        this.logger = logger;
+        this.rateLimiter = RateLimiter.create(callsPerSecond);
+    }
+
+    /**
+     * Groups the tree into levels, top level first.
+     * @throws IllegalArgumentException when two siblings share a name or a name contains the path separator
+     */
+    static List<List<PlannedOrganizationalUnit>> computeLevels(final List<OrganizationalUnitSpec> topLevel) {
+        final List<List<PlannedOrganizationalUnit>> levels = new ArrayList<>();
+        List<PlannedOrganizationalUnit> level = plan(null, topLevel);
+        while (!level.isEmpty()) {
+            levels.add(level);
+            final List<PlannedOrganizationalUnit> nextLevel = new ArrayList<>();
+            for (final PlannedOrganizationalUnit planned : level) {
+                nextLevel.addAll(plan(planned.path, planned.spec.getChildren()));
+            }
+            level = nextLevel;
+        }
+        return levels;
+    }
+
+    /**
+     * Creates the tree under the parent, skipping the levels the checkpoint already completed.
+     * @param checkpoint checkpoint of an earlier run for the same parent and tree, or null to start from the top
+     * @param checkpointSink called with a new checkpoint after each completed level
+     * @return checkpoint of the completed tree, holding the id of every OU by path
+     */
+    public Checkpoint apply(final String parentId, final List<OrganizationalUnitSpec> topLevel, final Checkpoint checkpoint,
+                            final Consumer<Checkpoint> checkpointSink) {
+        final List<List<PlannedOrganizationalUnit>> levels = computeLevels(topLevel);
+        final Map<String, String> idsByPath = new LinkedHashMap<>();
+        int completedLevels = 0;
+        if (checkpoint != null) {
+            idsByPath.putAll(checkpoint.getIdsByPath());
+            completedLevels = checkpoint.getCompletedLevels();
+        }
+
+        Checkpoint current = new Checkpoint(completedLevels, idsByPath);
+        for (int i = completedLevels; i < levels.size(); i++) {
+            final List<PlannedOrganizationalUnit> level = levels.get(i);
+            logger.log(String.format("Creating level %d of %d with %d OrganizationalUnits.", i + 1, levels.size(), level.size()));
+
+            final Map<String, String> parentIdByPath = new LinkedHashMap<>();
+            for (final PlannedOrganizationalUnit planned : level) {
+                parentIdByPath.put(planned.parentPath, planned.parentPath == null ? parentId : idsByPath.get(planned.parentPath));
+            }
+            final Map<String, CompletableFuture<Map<String, String>>> snapshotFutures = new HashMap<>();
+            parentIdByPath.forEach((parentPath, levelParentId) ->
+                snapshotFutures.put(levelParentId, OrgsConcurrentExecutor.supplyAsync(() -> listChildIdsByName(levelParentId))));
+            final Map<String, Map<String, String>> snapshots = new HashMap<>();
+            snapshotFutures.forEach((levelParentId, future) -> snapshots.put(levelParentId, OrgsConcurrentExecutor.join(future)));
+
+            final Map<String, CompletableFuture<String>> idFutures = new LinkedHashMap<>();
+            for (final PlannedOrganizationalUnit planned : level) {
+                final String levelParentId = parentIdByPath.get(planned.parentPath);
+                final String existingId = snapshots.get(levelParentId).get(planned.spec.getName());
+                idFutures.put(planned.path, existingId != null
+                    ? OrgsConcurrentExecutor.supplyAsync(() -> adopt(existingId, planned.spec))
+                    : OrgsConcurrentExecutor.supplyAsync(() -> createOrAdopt(levelParentId, planned.spec)));
+            }
+            idFutures.forEach((path, future) -> idsByPath.put(path, OrgsConcurrentExecutor.join(future)));
+
+            current = new Checkpoint(i + 1, idsByPath);
+            checkpointSink.accept(current);
+        }
+        return current;
+    }
+
+    private static List<PlannedOrganizationalUnit> plan(final String parentPath, final List<OrganizationalUnitSpec> siblings) {
+        final List<PlannedOrganizationalUnit> planned = new ArrayList<>(siblings.size());
+        final Set<String> names = new HashSet<>();
+        for (final OrganizationalUnitSpec spec : siblings) {
+            if (spec.getName().contains(PATH_SEPARATOR) || !names.add(spec.getName())) {
+                throw new IllegalArgumentException(String.format("OrganizationalUnit name [%s] under [%s] is not unique among its siblings or contains [%s].",
+                    spec.getName(), parentPath == null ? "" : parentPath, PATH_SEPARATOR));
+            }
+            planned.add(new PlannedOrganizationalUnit(parentPath == null ? spec.getName() : parentPath + PATH_SEPARATOR + spec.getName(), parentPath, spec));
+        }
+        return planned;
+    }
+
+    // another writer can create the same OU between the snapshot and the create, in which case it is adopted
+    private String createOrAdopt(final String parentId, final OrganizationalUnitSpec spec) {
+        final CreateOrganizationalUnitRequest createOrganizationalUnitRequest = CreateOrganizationalUnitRequest.builder()
+            .name(spec.getName())
+            .parentId(parentId)
+            .tags(Translator.translateTagsForTagResourceRequest(null, spec.getTags()))
+            .build();
+        try {
+            rateLimiter.acquire();
+            final CreateOrganizationalUnitResponse createOrganizationalUnitResponse =
+                orgsClient.injectCredentialsAndInvokeV2(createOrganizationalUnitRequest, orgsClient.client()::createOrganizationalUnit);
+            return createOrganizationalUnitResponse.organizationalUnit().id();
+        } catch (DuplicateOrganizationalUnitException e) {
+            final String existingId = listChildIdsByName(parentId).get(spec.getName());
+            if (existingId == null) {
+                throw e;
+            }
+            logger.log(String.format("OrganizationalUnit [%s] was created in parent [%s] concurrently, adopting [%s].", spec.getName(), parentId, existingId));
+            return adopt(existingId, spec);
+        }
+    }
+
+    // an OU that already exists was not created with the spec's tags, so they are added to it
+    private String adopt(final String organizationalUnitId, final OrganizationalUnitSpec spec) {
+        if (!spec.getTags().isEmpty()) {
+            final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
+                .resourceId(organizationalUnitId)
+                .tags(Translator.translateTagsForTagResourceRequest(null, spec.getTags()))
+                .build();
+            rateLimiter.acquire();
+            orgsClient.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
+        }
+        return organizationalUnitId;
+    }
+
+    private Map<String, String> listChildIdsByName(final String parentId) {
+        final Map<String, String> childIdsByName = new HashMap<>();
+        String nextToken = null;
+        do {
+            rateLimiter.acquire();
+            final ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParentResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListOrganizationalUnitsForParentRequest(nextToken, parentId), orgsClient.client()::listOrganizationalUnitsForParent);
+            for (OrganizationalUnit organizationalUnit : listOrganizationalUnitsForParentResponse.organizationalUnits()) {
+                childIdsByName.put(organizationalUnit.name(), organizationalUnit.id());
+            }
+            nextToken = listOrganizationalUnitsForParentResponse.nextToken();
+        } while (nextToken != null);
+        return childIdsByName;
+    }
+
+    /**
+     * Desired OU: its name, tags and child OUs.
+     */
+    public static final class OrganizationalUnitSpec {
+        private final String name;
+        private final Map<String, String> tags;
+        private final List<OrganizationalUnitSpec> children;
+
+        public OrganizationalUnitSpec(final String name, final Map<String, String> tags, final List<OrganizationalUnitSpec> children) {
+            this.name = name;
+            this.tags = tags == null ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+            this.children = children == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(children));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        public List<OrganizationalUnitSpec> getChildren() {
+            return children;
+        }
+    }
+
+    /**
+     * Progress of a run: how many levels are complete and the id of every OU in them, by path.
+     */
+    public static final class Checkpoint {
+        private final int completedLevels;
+        private final Map<String, String> idsByPath;
+
+        public Checkpoint(final int completedLevels, final Map<String, String> idsByPath) {
+            this.completedLevels = completedLevels;
+            this.idsByPath = Collections.unmodifiableMap(new LinkedHashMap<>(idsByPath));
+        }
+
+        public int getCompletedLevels() {
+            return completedLevels;
+        }
+
+        public Map<String, String> getIdsByPath() {
+            return idsByPath;
+        }
+    }
+
+    static final class PlannedOrganizationalUnit {
+        private final String path;
+        // null for the top level
+        private final String parentPath;
+        private final OrganizationalUnitSpec spec;
+
+        private PlannedOrganizationalUnit(final String path, final String parentPath, final OrganizationalUnitSpec spec) {
+            this.path = path;
+            this.parentPath = parentPath;
+            this.spec = spec;
+        }
+
+        String getPath() {
+            return path;
+        }
+    }
+}
@@ -12,8 +12,11 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.concurrent.CompletableFuture;
+
 public class ReadHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
 
@@ -30,13 +33,25 @@ public class ReadHandler extends BaseHandlerStd {
 
         String ouId = model.getId();
 
-        // Call DescribeOrganizationalUnit API
-        logger.log(String.format("Requesting DescribeOrganizationalUnit w/ OU id: %s.%n", ouId));
+        final DescribeOrganizationalUnitRequest describeOrganizationalUnitRequest = Translator.translateToDescribeOrganizationalUnitRequest(model);
+        final ListParentsRequest listParentsRequest = Translator.translateToListParentsRequest(model);
+        final ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsForResourceRequest(ouId);
+
+        // DescribeOrganizationalUnit, ListParents and ListTagsForResource only need the OU id, so issue them together.
+        // Each response is then consumed in the original order so errors keep their per-call mapping.
+        logger.log(String.format("Requesting DescribeOrganizationalUnit, ListParents and ListTagsForResource w/ OU id: %s.%n", ouId));
+        final CompletableFuture<DescribeOrganizationalUnitResponse> describeFuture =
+            OrgsConcurrentExecutor.supplyAsync(() -> describeOrganizationalUnit(describeOrganizationalUnitRequest, orgsClient));
+        final CompletableFuture<ListParentsResponse> listParentsFuture =
+            OrgsConcurrentExecutor.supplyAsync(() -> listParents(listParentsRequest, orgsClient));
+        final CompletableFuture<ListTagsForResourceResponse> listTagsFuture =
+            OrgsConcurrentExecutor.supplyAsync(() -> listTagsForResource(listTagsForResourceRequest, orgsClient));
+
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
                 awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::DescribeOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToDescribeOrganizationalUnitRequest)
-                .makeServiceCall(this::describeOrganizationalUnit)
+                .translateToServiceRequest(t -> describeOrganizationalUnitRequest)
+                .makeServiceCall((describeRequest, proxyClient) -> OrgsConcurrentExecutor.join(describeFuture))
                 .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
                                  handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, Constants.Action.DESCRIBE_OU, Constants.Handler.READ))
                 .done(describeOrganizationalUnitResponse -> {
@@ -46,50 +61,26 @@ public class ReadHandler extends BaseHandlerStd {
                     return ProgressEvent.progress(model, callbackContext);
                 })
             )
-            .then(progress -> listParents(awsClientProxy, request, model, callbackContext, orgsClient, logger))
-            .then(progress -> listTagsForOrganizationalUnit(awsClientProxy, request, model, callbackContext, orgsClient, logger));
-    }
-
-    protected ProgressEvent<ResourceModel, CallbackContext> listTagsForOrganizationalUnit(
-        final AmazonWebServicesClientProxy awsClientProxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final ResourceModel model,
-        final CallbackContext callbackContext,
-        final ProxyClient<OrganizationsClient> orgsClient,
-        final OrgsLoggerWrapper logger) {
-
-            String ouId = model.getId();
-
-            logger.log(String.format("Listing tags for OU id: %s.%n", ouId));
-            return awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::ListTagsForResource", orgsClient, model, callbackContext)
-                .translateToServiceRequest(resourceModel -> Translator.translateToListTagsForResourceRequest(ouId))
-                .makeServiceCall(this::listTagsForResource)
-                .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
-                                 handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, Constants.Action.LIST_TAGS_FOR_OU, Constants.Handler.READ))
-                .done(listTagsForResourceResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromDescribeResponse(model, listTagsForResourceResponse)));
-    }
-
-    protected ProgressEvent<ResourceModel, CallbackContext> listParents(
-        final AmazonWebServicesClientProxy awsClientProxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final ResourceModel model,
-        final CallbackContext callbackContext,
-        final ProxyClient<OrganizationsClient> orgsClient,
-        final OrgsLoggerWrapper logger) {
-
-            String ouId = model.getId();
-
-            logger.log(String.format("Listing parents for OU id: %s.%n", ouId));
-            return awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::ListParents", orgsClient, model, callbackContext)
-                .translateToServiceRequest(Translator::translateToListParentsRequest)
-                .makeServiceCall(this::listParents)
+            .then(progress ->
+                awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::ListParents", orgsClient, model, callbackContext)
+                .translateToServiceRequest(t -> listParentsRequest)
+                .makeServiceCall((parentsRequest, proxyClient) -> OrgsConcurrentExecutor.join(listParentsFuture))
                 .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
                                  handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, Constants.Action.LIST_PARENTS, Constants.Handler.READ))
                 .done(listParentsResponse -> {
                     Parent parent = listParentsResponse.parents().get(0);
                     model.setParentId(parent.id());
                     return ProgressEvent.progress(model, callbackContext);
-                });
+                })
+            )
+            .then(progress ->
+                awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::ListTagsForResource", orgsClient, model, callbackContext)
+                .translateToServiceRequest(t -> listTagsForResourceRequest)
+                .makeServiceCall((tagsRequest, proxyClient) -> OrgsConcurrentExecutor.join(listTagsFuture))
+                .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
+                                 handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, Constants.Action.LIST_TAGS_FOR_OU, Constants.Handler.READ))
+                .done(listTagsForResourceResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromDescribeResponse(model, listTagsForResourceResponse)))
+            );
     }
 
     protected DescribeOrganizationalUnitResponse describeOrganizationalUnit(final DescribeOrganizationalUnitRequest describeOrganizationalUnitRequest, final ProxyClient<OrganizationsClient> orgsClient) {
@@ -1,8 +1,12 @@
 package software.amazon.organizations.organizationalunit;
 
+import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.organizations.model.ChildType;
 import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitResponse;
 import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitRequest;
 import software.amazon.awssdk.services.organizations.model.DescribeOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.ListChildrenRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
 import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
@@ -57,11 +61,24 @@ public class Translator {
     }
 
     static ListOrganizationalUnitsForParentRequest translateToListOrganizationalUnitsForParentRequest(String nextToken, final ResourceModel model) {
+        return translateToListOrganizationalUnitsForParentRequest(nextToken, model.getParentId());
+    }
+
+    static ListOrganizationalUnitsForParentRequest translateToListOrganizationalUnitsForParentRequest(final String nextToken, final String parentId) {
         // Max results set to 20 (the upper limit) to list out all items
         return ListOrganizationalUnitsForParentRequest.builder()
                 .maxResults(20)
                 .nextToken(nextToken)
-                .parentId(model.getParentId())
+                .parentId(parentId)
+                .build();
+    }
+
+    static ListChildrenRequest translateToListChildrenRequest(final String parentId, final ChildType childType) {
+        // a single result is enough to tell whether the parent is empty
+        return ListChildrenRequest.builder()
+                .parentId(parentId)
+                .childType(childType)
+                .maxResults(1)
                 .build();
     }
 
@@ -133,6 +150,26 @@ public class Translator {
             .build();
     }
 
+    /**
+     * Builds the model of a newly created OU from the CreateOrganizationalUnit response and the request that was sent.
+     * @return null when either is missing something the read handler would return, so the caller has to read it back
+     */
+    static ResourceModel translateFromCreateResponse(final CreateOrganizationalUnitRequest createOrganizationalUnitRequest,
+                                                     final CreateOrganizationalUnitResponse createOrganizationalUnitResponse) {
+        final OrganizationalUnit organizationalUnit = createOrganizationalUnitResponse.organizationalUnit();
+        if (organizationalUnit == null || StringUtils.isNullOrEmpty(organizationalUnit.id()) || StringUtils.isNullOrEmpty(organizationalUnit.arn())
+            || StringUtils.isNullOrEmpty(organizationalUnit.name()) || StringUtils.isNullOrEmpty(createOrganizationalUnitRequest.parentId())) {
+            return null;
+        }
+        return ResourceModel.builder()
+            .arn(organizationalUnit.arn())
+            .id(organizationalUnit.id())
+            .name(organizationalUnit.name())
+            .parentId(createOrganizationalUnitRequest.parentId())
+            .tags(translateTagsFromSdkResponse(createOrganizationalUnitRequest.tags()))
+            .build();
+    }
+
     static Set<software.amazon.organizations.organizationalunit.Tag> translateTagsFromSdkResponse(List<Tag> tags) {
         if (tags == null) return new HashSet<>();
 
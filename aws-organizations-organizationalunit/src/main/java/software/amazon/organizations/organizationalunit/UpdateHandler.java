@@ -58,18 +58,32 @@ public class UpdateHandler extends BaseHandlerStd {
                 TagsHelper.convertOrganizationalUnitTagToOrganizationTag(newTags),
                 request.getDesiredResourceTags());
 
-        // Call UpdateOrganizationalUnit API
-        logger.log(String.format("Requesting UpdateOrganizationalUnit w/ id: %s and name: %s.%n", ouId, name));
+        final OrganizationalUnitChangePlan changePlan = OrganizationalUnitChangePlan.plan(previousModel, model, allPreviousTags, allNewTags);
+        logger.log(String.format("Planned update for OU [%s]: rename [%s], %d tags to remove, %d tags to add or update.",
+            ouId, changePlan.isRenameNeeded(), changePlan.getTagKeysToRemove().size(), changePlan.getTagsToAddOrUpdate().size()));
+
         return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::UpdateOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateOrganizationalUnitRequest)
-                .makeServiceCall(this::updateOrganizationalUnit)
-                .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, Constants.Action.UPDATE_OU, Constants.Handler.UPDATE))
-                .progress()
-            )
-            .then(progress -> handleTagging(awsClientProxy, model, callbackContext, allNewTags, allPreviousTags, ouId, orgsClient, logger))
-            .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+            .then(progress -> {
+                if (!changePlan.isRenameNeeded()) {
+                    return progress;
+                }
+                // Call UpdateOrganizationalUnit API
+                logger.log(String.format("Requesting UpdateOrganizationalUnit w/ id: %s and name: %s.%n", ouId, name));
+                return awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::UpdateOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(Translator::translateToUpdateOrganizationalUnitRequest)
+                    .makeServiceCall(this::updateOrganizationalUnit)
+                    .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, Constants.Action.UPDATE_OU, Constants.Handler.UPDATE))
+                    .progress();
+            })
+            .then(progress -> handleTagging(awsClientProxy, model, callbackContext, changePlan, ouId, orgsClient, logger))
+            .then(progress -> {
+                final ResourceModel finalModel = changePlan.buildFinalModel(previousModel, model);
+                if (finalModel == null) {
+                    return new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger);
+                }
+                logger.log(String.format("Built final model of OU [%s] from the previous state and the applied changes, skipping read.", ouId));
+                return ProgressEvent.defaultSuccessHandler(finalModel);
+            });
     }
 
     protected UpdateOrganizationalUnitResponse updateOrganizationalUnit(final UpdateOrganizationalUnitRequest updateOrganizationalUnitRequest, final ProxyClient<OrganizationsClient> orgsClient) {
@@ -83,17 +97,16 @@ public class UpdateHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy awsClientProxy,
             final ResourceModel model,
             final CallbackContext callbackContext,
-            final Set<Tag> newTags,
-            final Set<Tag> previousTags,
+            final OrganizationalUnitChangePlan changePlan,
             final String organizationalUnitId,
             final ProxyClient<OrganizationsClient> orgsClient,
             final OrgsLoggerWrapper logger
     ) {
         // Includes all old tags that do not exist in new tag list
-        final Set<String> tagsToRemove = TagsHelper.getTagKeysToRemove(previousTags, newTags);
+        final Set<String> tagsToRemove = changePlan.getTagKeysToRemove();
 
         // Excluded all old tags that do exist in new tag list
-        final Set<Tag> tagsToAddOrUpdate = TagsHelper.getTagsToAddOrUpdate(previousTags, newTags);
+        final Set<Tag> tagsToAddOrUpdate = changePlan.getTagsToAddOrUpdate();
 
         // Delete tags only if tagsToRemove is not empty
         if (!tagsToRemove.isEmpty()) {
@@ -0,0 +1,54 @@
+package software.amazon.organizations.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Container-wide thread pool used to issue independent Organizations calls concurrently.
+ * Tasks submitted here must not block on other tasks submitted to the same pool.
+ */
+public final class OrgsConcurrentExecutor {
+    private static final int POOL_SIZE = 16;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadFactory THREAD_FACTORY = runnable -> {
+        Thread thread = new Thread(runnable, "orgs-concurrent-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    };
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE, THREAD_FACTORY);
+
+    private OrgsConcurrentExecutor() {
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, EXECUTOR);
+    }
+
+    /**
+     * Waits for the call to finish and rethrows the exception the call itself failed with,
+     * so callers can map it exactly as they would a synchronous call.
+     */
+    public static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package software.amazon.organizations.organizationalunit;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashSet;
@@ -16,9 +17,13 @@ import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRe
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
 import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
 import software.amazon.awssdk.services.organizations.model.Parent;
+import software.amazon.awssdk.services.organizations.model.Root;
 import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -28,12 +33,14 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,7 +62,8 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        createHandler = new CreateHandler();
+        createHandler = new CreateHandler(new OrganizationalUnitChildNameCache(Clock.systemUTC(), Duration.ofSeconds(Constants.CHILD_NAME_CACHE_TTL_SECONDS)),
+            new OrganizationalUnitPathCache(Clock.systemUTC(), Duration.ofSeconds(Constants.PATH_CACHE_TTL_SECONDS)));
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -77,14 +85,8 @@ public class CreateHandlerTest extends AbstractTestBase {
             .build();
 
         final CreateOrganizationalUnitResponse createOrganizationalUnitResponse = getCreateOrganizationalUnitResponse();
-        final DescribeOrganizationalUnitResponse describeOrganizationalUnitResponse = getDescribeOrganizationalUnitResponse();
-        final ListParentsResponse listParentsResponse = getListParentsResponse();
-        final ListTagsForResourceResponse listTagsForResourceResponse = TagTestResourcesHelper.buildDefaultTagsResponse();
 
         when(mockProxyClient.client().createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenReturn(createOrganizationalUnitResponse);
-        when(mockProxyClient.client().describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class))).thenReturn(describeOrganizationalUnitResponse);
-        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(listParentsResponse);
-        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
@@ -95,17 +97,19 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getName()).isEqualTo(TEST_OU_NAME);
         assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_OU_ARN);
         assertThat(response.getResourceModel().getId()).isEqualTo(TEST_OU_ID);
+        assertThat(response.getResourceModel().getParentId()).isEqualTo(TEST_PARENT_ID);
         assertThat(TagTestResourcesHelper.tagsEqual(
                 TagsHelper.convertOrganizationalUnitTagToOrganizationTag(response.getResourceModel().getTags()),
-                TagTestResourcesHelper.defaultTags)).isTrue();
+                TagsHelper.mergeTags(TagTestResourcesHelper.defaultTags, defaultStackTags))).isTrue();
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(mockProxyClient.client()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
-        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(mockProxyClient.client()).listParents(any(ListParentsRequest.class));
         verify(mockProxyClient.client()).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client(), never()).describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client(), never()).listParents(any(ListParentsRequest.class));
+        verify(mockProxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -225,14 +229,8 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenReturn(listOUResponse);
 
         final CreateOrganizationalUnitResponse createOrganizationalUnitResponse = getCreateOrganizationalUnitResponse();
-        final DescribeOrganizationalUnitResponse describeOrganizationalUnitResponse = getDescribeOrganizationalUnitResponse();
-        final ListParentsResponse listParentsResponse = getListParentsResponse();
-        final ListTagsForResourceResponse listTagsForResourceResponse = TagTestResourcesHelper.buildEmptyTagsResponse();
 
         when(mockProxyClient.client().createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenReturn(createOrganizationalUnitResponse);
-        when(mockProxyClient.client().describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class))).thenReturn(describeOrganizationalUnitResponse);
-        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(listParentsResponse);
-        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
@@ -249,11 +247,212 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         verify(mockProxyClient.client()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
         verify(mockProxyClient.client()).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OrganizationalUnitAlreadyExists_StopsAtFirstMatchingPage() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+                .thenReturn(getListOrganizationalUnitsForParentPage("sibling_ou", TEST_OU_ID_CHANGED, "page2"))
+                .thenReturn(getListOrganizationalUnitsForParentPage(model.getName(), TEST_OU_ID, "page3"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_OU_ID);
+
+        final ArgumentCaptor<ListOrganizationalUnitsForParentRequest> listOURequestCaptor = ArgumentCaptor.forClass(ListOrganizationalUnitsForParentRequest.class);
+        verify(mockProxyClient.client(), times(2)).listOrganizationalUnitsForParent(listOURequestCaptor.capture());
+        assertThat(listOURequestCaptor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(listOURequestCaptor.getAllValues().get(1).nextToken()).isEqualTo("page2");
+        verify(mockProxyClient.client(), times(0)).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ExistenceCheckResumesFromSavedPageAfterThrottle() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+                .thenReturn(getListOrganizationalUnitsForParentPage("sibling_ou", TEST_OU_ID_CHANGED, "page2"))
+                .thenThrow(TooManyRequestsException.class)
+                .thenReturn(getListOrganizationalUnitsForParentPage("other_sibling_ou", "efgh5678", null));
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> throttledResponse = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(throttledResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttledResponse.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(throttledResponse.getCallbackContext().getExistenceCheckNextToken()).isEqualTo("page2");
+        assertThat(throttledResponse.getCallbackContext().isPreExistenceCheckComplete()).isFalse();
+
+        when(mockProxyClient.client().createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenReturn(getCreateOrganizationalUnitResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, throttledResponse.getCallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_OU_ID);
+
+        final ArgumentCaptor<ListOrganizationalUnitsForParentRequest> listOURequestCaptor = ArgumentCaptor.forClass(ListOrganizationalUnitsForParentRequest.class);
+        verify(mockProxyClient.client(), times(3)).listOrganizationalUnitsForParent(listOURequestCaptor.capture());
+        assertThat(listOURequestCaptor.getAllValues().get(1).nextToken()).isEqualTo("page2");
+        assertThat(listOURequestCaptor.getAllValues().get(2).nextToken()).isEqualTo("page2");
+        verify(mockProxyClient.client()).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SiblingCreateSkipsRecentlyListedParent() {
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+                .thenReturn(getListOrganizationalUnitsForParentPage("sibling_ou", TEST_OU_ID_CHANGED, null));
+        when(mockProxyClient.client().createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenReturn(getCreateOrganizationalUnitResponse());
+
+        final ResourceModel firstModel = generateCreateResourceModel();
+        final ResourceModel secondModel = generateCreateResourceModel();
+        secondModel.setName(TEST_OU_UPDATED_NAME);
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = createHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(firstModel).build(), new CallbackContext(), mockProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse = createHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(secondModel).build(), new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(mockProxyClient.client(), times(1)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+        verify(mockProxyClient.client(), times(2)).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RecentlyCreatedSiblingIsNotReportedAbsent() {
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+                .thenReturn(getListOrganizationalUnitsForParentPage("sibling_ou", TEST_OU_ID_CHANGED, null))
+                .thenReturn(getListOrganizationalUnitsForParentPage(TEST_OU_NAME, TEST_OU_ID, null));
+        when(mockProxyClient.client().createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenReturn(getCreateOrganizationalUnitResponse());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(generateCreateResourceModel())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> repeatedRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(generateCreateResourceModel())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse = createHandler.handleRequest(mockAwsClientProxy, repeatedRequest, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(secondResponse.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+
+        verify(mockProxyClient.client(), times(2)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+        verify(mockProxyClient.client(), times(1)).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_IncompleteCreateResponse_ReadsBack() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+                .thenReturn(getListOrganizationalUnitsForParentPage("sibling_ou", TEST_OU_ID_CHANGED, null));
+        when(mockProxyClient.client().createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenReturn(CreateOrganizationalUnitResponse.builder()
+                .organizationalUnit(OrganizationalUnit.builder().id(TEST_OU_ID).build())
+                .build());
+        when(mockProxyClient.client().describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class))).thenReturn(getDescribeOrganizationalUnitResponse());
+        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(getListParentsResponse());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourcesHelper.buildDefaultTagsResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_OU_ID);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_OU_ARN);
+        assertThat(response.getResourceModel().getName()).isEqualTo(TEST_OU_NAME);
+
+        verify(mockProxyClient.client()).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
         verify(mockProxyClient.client()).describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class));
         verify(mockProxyClient.client()).listParents(any(ListParentsRequest.class));
         verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_ResolvesParentPath() {
+        final ResourceModel model = generateCreateResourceModel();
+        model.setParentId(null);
+        model.setParentPath("Root/Workloads");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+                .roots(Root.builder().id(TEST_PARENT_ID).build())
+                .build());
+        final ArgumentCaptor<ListOrganizationalUnitsForParentRequest> listOURequestCaptor = ArgumentCaptor.forClass(ListOrganizationalUnitsForParentRequest.class);
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(listOURequestCaptor.capture()))
+                .thenReturn(getListOrganizationalUnitsForParentPage("Workloads", TEST_OU_ID_CHANGED, null))
+                .thenReturn(getListOrganizationalUnitsForParentPage("sibling_ou", "efgh5678", null));
+        final ArgumentCaptor<CreateOrganizationalUnitRequest> createRequestCaptor = ArgumentCaptor.forClass(CreateOrganizationalUnitRequest.class);
+        when(mockProxyClient.client().createOrganizationalUnit(createRequestCaptor.capture())).thenReturn(getCreateOrganizationalUnitResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the path is kept as given, so the model matches the template
+        assertThat(response.getResourceModel().getParentPath()).isEqualTo("Root/Workloads");
+        assertThat(createRequestCaptor.getValue().parentId()).isEqualTo(TEST_OU_ID_CHANGED);
+        assertThat(response.getResourceModel().getParentId()).isEqualTo(TEST_OU_ID_CHANGED);
+        assertThat(listOURequestCaptor.getAllValues()).extracting(ListOrganizationalUnitsForParentRequest::parentId)
+                .containsExactly(TEST_PARENT_ID, TEST_OU_ID_CHANGED);
+        verify(mockProxyClient.client()).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UnknownParentPath_Fails_With_CfnNotFound() {
+        final ResourceModel model = generateCreateResourceModel();
+        model.setParentId(null);
+        model.setParentPath("Root/Missing");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+                .roots(Root.builder().id(TEST_PARENT_ID).build())
+                .build());
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+                .thenReturn(getListOrganizationalUnitsForParentPage("Workloads", TEST_OU_ID_CHANGED, null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(response.getMessage()).contains("Root/Missing");
+        verify(mockProxyClient.client(), times(0)).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+    }
+
+    protected ListOrganizationalUnitsForParentResponse getListOrganizationalUnitsForParentPage(final String ouName, final String ouId, final String nextToken) {
+        return ListOrganizationalUnitsForParentResponse.builder()
+            .organizationalUnits(OrganizationalUnit.builder()
+                .name(ouName)
+                .id(ouId)
+                .build())
+            .nextToken(nextToken)
+            .build();
+    }
+
     protected ResourceModel generateCreateResourceModel() {
         ResourceModel model = ResourceModel.builder()
             .name(TEST_OU_NAME)
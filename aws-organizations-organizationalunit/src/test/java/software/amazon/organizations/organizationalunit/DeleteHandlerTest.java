@@ -3,10 +3,15 @@ package software.amazon.organizations.organizationalunit;
 import java.time.Duration;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Child;
+import software.amazon.awssdk.services.organizations.model.ChildType;
 import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitRequest;
 import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.ListChildrenRequest;
+import software.amazon.awssdk.services.organizations.model.ListChildrenResponse;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotEmptyException;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotFoundException;
+import software.amazon.awssdk.services.organizations.model.ParentNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -16,12 +21,15 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +65,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         final DeleteOrganizationalUnitResponse deleteOrganizationalUnitResponse = DeleteOrganizationalUnitResponse.builder().build();
 
+        when(mockProxyClient.client().listChildren(any(ListChildrenRequest.class))).thenReturn(ListChildrenResponse.builder().build());
         when(mockProxyClient.client().deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class))).thenReturn(deleteOrganizationalUnitResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -80,6 +89,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        when(mockProxyClient.client().listChildren(any(ListChildrenRequest.class))).thenReturn(ListChildrenResponse.builder().build());
         when(mockProxyClient.client().deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class))).thenThrow(OrganizationalUnitNotFoundException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -98,9 +108,13 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        // the OU is still not empty after every emptiness check attempt has been used up
+        final CallbackContext context = new CallbackContext();
+        context.setEmptinessCheckAttempt(Constants.EMPTINESS_CHECK_MAX_ATTEMPTS);
+        when(mockProxyClient.client().listChildren(any(ListChildrenRequest.class))).thenReturn(getListChildrenResponse(ChildType.ACCOUNT));
         when(mockProxyClient.client().deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class))).thenThrow(OrganizationalUnitNotEmptyException.class);
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -108,6 +122,129 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
     }
 
+    @Test
+    public void handleRequest_OrganizationalUnitWithChildren_DefersWithGrowingDelays() {
+        final ResourceModel model = generateDeleteResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listChildren(any(ListChildrenRequest.class))).thenAnswer(invocation -> {
+            final ListChildrenRequest listChildrenRequest = invocation.getArgument(0);
+            return listChildrenRequest.childType() == ChildType.ACCOUNT ? getListChildrenResponse(ChildType.ACCOUNT) : ListChildrenResponse.builder().build();
+        });
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = deleteHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isEqualTo(Constants.EMPTINESS_CHECK_BASE_DELAY_SECONDS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse = deleteHandler.handleRequest(mockAwsClientProxy, request, firstResponse.getCallbackContext(), mockProxyClient, logger);
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(secondResponse.getCallbackDelaySeconds()).isEqualTo(Constants.EMPTINESS_CHECK_BASE_DELAY_SECONDS * 2);
+
+        secondResponse.getCallbackContext().setEmptinessCheckAttempt(Constants.EMPTINESS_CHECK_MAX_ATTEMPTS - 1);
+        final ProgressEvent<ResourceModel, CallbackContext> lastResponse = deleteHandler.handleRequest(mockAwsClientProxy, request, secondResponse.getCallbackContext(), mockProxyClient, logger);
+        assertThat(lastResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(lastResponse.getCallbackDelaySeconds()).isEqualTo(Constants.EMPTINESS_CHECK_MAX_DELAY_SECONDS);
+
+        verify(mockProxyClient.client(), times(6)).listChildren(any(ListChildrenRequest.class));
+        verify(mockProxyClient.client(), never()).deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ChildrenMovedOut_DeletesOnCallback() {
+        final ResourceModel model = generateDeleteResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listChildren(any(ListChildrenRequest.class)))
+            .thenReturn(getListChildrenResponse(ChildType.ORGANIZATIONAL_UNIT))
+            .thenReturn(ListChildrenResponse.builder().build());
+        when(mockProxyClient.client().deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class))).thenReturn(DeleteOrganizationalUnitResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = deleteHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, firstResponse.getCallbackContext(), mockProxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // one OU check on the first invocation, an OU and an account check on the callback
+        verify(mockProxyClient.client(), times(3)).listChildren(any(ListChildrenRequest.class));
+        verify(mockProxyClient.client()).deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_EmptyPageWithNextToken_KeepsPagingAndDefers() {
+        final ResourceModel model = generateDeleteResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ArgumentCaptor<ListChildrenRequest> listChildrenRequestCaptor = ArgumentCaptor.forClass(ListChildrenRequest.class);
+        when(mockProxyClient.client().listChildren(listChildrenRequestCaptor.capture()))
+            .thenReturn(ListChildrenResponse.builder().nextToken("nextToken").build())
+            .thenReturn(getListChildrenResponse(ChildType.ORGANIZATIONAL_UNIT));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(listChildrenRequestCaptor.getAllValues()).extracting(ListChildrenRequest::nextToken).containsExactly(null, "nextToken");
+        verify(mockProxyClient.client(), never()).deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NotEmptyOnDeleteAfterEmptyListing_DefersAndRechecks() {
+        final ResourceModel model = generateDeleteResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listChildren(any(ListChildrenRequest.class))).thenReturn(ListChildrenResponse.builder().build());
+        when(mockProxyClient.client().deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class)))
+            .thenThrow(OrganizationalUnitNotEmptyException.class)
+            .thenReturn(DeleteOrganizationalUnitResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = deleteHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isEqualTo(Constants.EMPTINESS_CHECK_BASE_DELAY_SECONDS);
+        assertThat(firstResponse.getCallbackContext().isEmptinessCheckComplete()).isFalse();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, firstResponse.getCallbackContext(), mockProxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(mockProxyClient.client(), times(4)).listChildren(any(ListChildrenRequest.class));
+        verify(mockProxyClient.client(), times(2)).deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ListChildrenParentNotFound_Fails_With_CfnNotFound() {
+        final ResourceModel model = generateDeleteResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listChildren(any(ListChildrenRequest.class))).thenThrow(ParentNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        verify(mockProxyClient.client(), never()).deleteOrganizationalUnit(any(DeleteOrganizationalUnitRequest.class));
+    }
+
+    private ListChildrenResponse getListChildrenResponse(final ChildType childType) {
+        return ListChildrenResponse.builder()
+            .children(Child.builder().id(TEST_OU_ID_CHANGED).type(childType).build())
+            .build();
+    }
+
     protected ResourceModel generateDeleteResourceModel() {
         ResourceModel model = ResourceModel.builder()
             .id(TEST_OU_ID)
@@ -1,11 +1,15 @@
 package software.amazon.organizations.organizationalunit;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Root;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -20,7 +24,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,7 +50,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        listHandler = new ListHandler();
+        listHandler = new ListHandler(new OrganizationalUnitPathCache(Clock.systemUTC(), Duration.ofSeconds(Constants.PATH_CACHE_TTL_SECONDS)));
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -104,18 +112,54 @@ public class ListHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequest_NullDesiredModelParentId_Fails_With_CfnInvalidRequest() {
-        final ResourceModel model = ResourceModel.builder().build();
+    public void handleRequest_NullDesiredModelParentId_ListsFromRoot() {
+        stubListRoots();
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+            .thenReturn(ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(buildOrganizationalUnit("ou-abcd-11111111")).build());
+
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
-            .desiredResourceState(model)
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(response);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId).containsExactly("ou-abcd-11111111");
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getParentId).containsExactly(TEST_PARENT_ID);
+        assertThat(response.getNextToken()).isEqualTo(DescendantListingToken.encode(Collections.singletonList("ou-abcd-11111111")));
+        verify(mockProxyClient.client()).listRoots(any(ListRootsRequest.class));
+        verify(mockProxyClient.client()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NullDesiredModelParentId_NoRoot_ReturnsEmptyList() {
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(response);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+        verify(mockProxyClient.client(), never()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NullDesiredModelParentId_ListRootsFails_With_ServiceInternalError() {
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenThrow(ServiceException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
             .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
-        assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
-        assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        verify(mockProxyClient.client(), never()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
     }
 
     @Test
@@ -134,4 +178,114 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
         verify(mockProxyClient.client()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
     }
+
+    @Test
+    public void handleRequest_Recursive_WalksTreeBreadthFirst() {
+        stubListRoots();
+        final Map<String, List<OrganizationalUnit>> childrenByParent = new HashMap<>();
+        childrenByParent.put(TEST_PARENT_ID, Arrays.asList(buildOrganizationalUnit("ou-abcd-11111111"), buildOrganizationalUnit("ou-abcd-22222222")));
+        childrenByParent.put("ou-abcd-11111111", Collections.singletonList(buildOrganizationalUnit("ou-abcd-33333333")));
+        childrenByParent.put("ou-abcd-22222222", Collections.emptyList());
+        childrenByParent.put("ou-abcd-33333333", Collections.emptyList());
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class))).thenAnswer(invocation -> {
+            final ListOrganizationalUnitsForParentRequest listRequest = invocation.getArgument(0);
+            return ListOrganizationalUnitsForParentResponse.builder()
+                .organizationalUnits(childrenByParent.get(listRequest.parentId()))
+                .build();
+        });
+
+        final ResourceModel model = ResourceModel.builder().build();
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = listHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(firstPage);
+        assertThat(firstPage.getResourceModels()).extracting(ResourceModel::getId).containsExactly("ou-abcd-11111111", "ou-abcd-22222222");
+        assertThat(firstPage.getResourceModels()).extracting(ResourceModel::getParentId).containsOnly(TEST_PARENT_ID);
+        assertThat(firstPage.getNextToken()).isEqualTo("ou-abcd-:11111111,22222222");
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = listHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).nextToken(firstPage.getNextToken()).build(), new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(secondPage);
+        assertThat(secondPage.getResourceModels()).extracting(ResourceModel::getId).containsExactly("ou-abcd-33333333");
+        assertThat(secondPage.getResourceModels()).extracting(ResourceModel::getParentId).containsExactly("ou-abcd-11111111");
+        assertThat(secondPage.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> lastPage = listHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).nextToken(secondPage.getNextToken()).build(), new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(lastPage);
+        assertThat(lastPage.getResourceModels()).isEmpty();
+        assertThat(lastPage.getNextToken()).isNull();
+
+        verify(mockProxyClient.client(), times(4)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Recursive_FollowsChildPages() {
+        stubListRoots();
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+            .thenReturn(ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(buildOrganizationalUnit("ou-abcd-11111111")).nextToken("page2").build())
+            .thenReturn(ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(buildOrganizationalUnit("ou-abcd-22222222")).build());
+
+        final ResourceModel model = ResourceModel.builder().build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(response);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId).containsExactly("ou-abcd-11111111", "ou-abcd-22222222");
+        verify(mockProxyClient.client(), times(2)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Recursive_InvalidNextToken_Fails_With_CfnInvalidRequest() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .nextToken("not-a-frontier")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        verify(mockProxyClient.client(), never()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Recursive_shouldReturnFailed_withServiceException() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+
+        stubListRoots();
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class))).thenThrow(ServiceException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        verify(mockProxyClient.client()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void descendantListingToken_RoundTripsFrontier() {
+        final List<String> frontier = Arrays.asList(TEST_PARENT_ID, "ou-abcd-11111111", "ou-abcd-22222222");
+
+        assertThat(DescendantListingToken.decode(DescendantListingToken.encode(frontier))).containsExactlyElementsOf(frontier);
+        assertThat(DescendantListingToken.decode(DescendantListingToken.encode(Collections.singletonList("ou-abcd-11111111")))).containsExactly("ou-abcd-11111111");
+    }
+
+    private void stubListRoots() {
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+            .roots(Root.builder().id(TEST_PARENT_ID).build())
+            .build());
+    }
+
+    private static OrganizationalUnit buildOrganizationalUnit(final String id) {
+        return OrganizationalUnit.builder()
+            .id(id)
+            .name(TEST_OU_NAME + id)
+            .arn(TEST_OU_ARN)
+            .build();
+    }
 }
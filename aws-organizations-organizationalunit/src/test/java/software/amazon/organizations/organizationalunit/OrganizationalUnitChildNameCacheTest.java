@@ -0,0 +1,92 @@
+package software.amazon.organizations.organizationalunit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrganizationalUnitChildNameCacheTest extends AbstractTestBase {
+    private static final String TEST_ACCOUNT_ID = "111111111111";
+    private static final Duration TEST_TTL = Duration.ofSeconds(30);
+
+    private MutableClock clock;
+    private OrganizationalUnitChildNameCache cache;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new OrganizationalUnitChildNameCache(clock, TEST_TTL);
+    }
+
+    @Test
+    public void isKnownAbsent_OnlyTrustsLiveCompleteListings() {
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME)).isFalse();
+
+        cache.putCompleteListing(TEST_ACCOUNT_ID, TEST_PARENT_ID, Collections.singleton(TEST_OU_UPDATED_NAME));
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME)).isTrue();
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_UPDATED_NAME)).isFalse();
+        assertThat(cache.isKnownAbsent("222222222222", TEST_PARENT_ID, TEST_OU_NAME)).isFalse();
+
+        clock.advance(TEST_TTL);
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME)).isFalse();
+    }
+
+    @Test
+    public void recordChild_AddsNameToLiveEntryOnly() {
+        cache.recordChild(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME);
+        cache.putCompleteListing(TEST_ACCOUNT_ID, "ou-other", Collections.emptySet());
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME)).isFalse();
+
+        cache.putCompleteListing(TEST_ACCOUNT_ID, TEST_PARENT_ID, Collections.emptySet());
+        cache.recordChild(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME);
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME)).isFalse();
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, "ou-other", TEST_OU_NAME)).isTrue();
+    }
+
+    @Test
+    public void invalidate_DropsEntry() {
+        cache.putCompleteListing(TEST_ACCOUNT_ID, TEST_PARENT_ID, Collections.emptySet());
+        cache.invalidate(TEST_ACCOUNT_ID, TEST_PARENT_ID);
+
+        assertThat(cache.isKnownAbsent(TEST_ACCOUNT_ID, TEST_PARENT_ID, TEST_OU_NAME)).isFalse();
+    }
+
+    @Test
+    public void shared_ReturnsSameInstance() {
+        assertThat(OrganizationalUnitChildNameCache.shared()).isSameAs(OrganizationalUnitChildNameCache.shared());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package software.amazon.organizations.organizationalunit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OrganizationalUnitPathCacheTest extends AbstractTestBase {
+    private static final String TEST_ACCOUNT_ID = "111111111111";
+    private static final Duration TEST_TTL = Duration.ofSeconds(300);
+    private static final String WORKLOADS_OU_ID = "ou-abcd-11111111";
+    private static final String PROD_OU_ID = "ou-abcd-22222222";
+
+    private OrganizationsClient mockOrgsClient;
+    private ProxyClient<OrganizationsClient> mockProxyClient;
+    private MutableClock clock;
+    private OrganizationalUnitPathCache cache;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new OrganizationalUnitPathCache(clock, TEST_TTL);
+
+        when(mockOrgsClient.listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+            .roots(Root.builder().id(TEST_PARENT_ID).build())
+            .build());
+        when(mockOrgsClient.listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class))).thenAnswer(invocation -> {
+            final ListOrganizationalUnitsForParentRequest listRequest = invocation.getArgument(0);
+            if (TEST_PARENT_ID.equals(listRequest.parentId()) && listRequest.nextToken() == null) {
+                return listResponse("Workloads", WORKLOADS_OU_ID, "page2");
+            }
+            if (TEST_PARENT_ID.equals(listRequest.parentId())) {
+                return listResponse("Sandbox", "ou-abcd-33333333", null);
+            }
+            return listResponse("Prod", PROD_OU_ID, null);
+        });
+    }
+
+    @Test
+    public void resolve_RepeatedLookupsMakeNoCalls() {
+        assertThat(resolve("Root/Workloads/Prod")).isEqualTo(PROD_OU_ID);
+        assertThat(resolve("Root/Workloads/Prod")).isEqualTo(PROD_OU_ID);
+        assertThat(resolve("Root/Sandbox")).isEqualTo("ou-abcd-33333333");
+        assertThat(resolve("Root")).isEqualTo(TEST_PARENT_ID);
+
+        verify(mockOrgsClient, times(1)).listRoots(any(ListRootsRequest.class));
+        // two pages of the root and one page of Workloads
+        verify(mockOrgsClient, times(3)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void resolve_ReloadsAfterTtl() {
+        resolve("Root/Workloads");
+        clock.advance(TEST_TTL);
+        resolve("Root/Workloads");
+
+        verify(mockOrgsClient, times(2)).listRoots(any(ListRootsRequest.class));
+        verify(mockOrgsClient, times(4)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void resolve_ReturnsNullForMissingSegment() {
+        assertThat(resolve("Root/Missing/Prod")).isNull();
+    }
+
+    @Test
+    public void recordCreatedAndDeleted_WriteThroughCachedListings() {
+        resolve("Root/Workloads/Prod");
+
+        cache.recordCreated(TEST_ACCOUNT_ID, WORKLOADS_OU_ID, "Dev", TEST_OU_ID);
+        assertThat(resolve("Root/Workloads/Dev")).isEqualTo(TEST_OU_ID);
+
+        cache.recordDeleted(TEST_ACCOUNT_ID, PROD_OU_ID);
+        assertThat(resolve("Root/Workloads/Prod")).isNull();
+        assertThat(resolve("Root/Workloads/Dev")).isEqualTo(TEST_OU_ID);
+
+        verify(mockOrgsClient, times(3)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void resolve_NameWithSlash() {
+        when(mockOrgsClient.listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+            .thenReturn(listResponse("Team/A\\B", WORKLOADS_OU_ID, null));
+
+        assertThat(resolve("Root/Team\\/A\\\\B")).isEqualTo(WORKLOADS_OU_ID);
+        assertThat(resolve("Root/Team/A\\\\B")).isNull();
+    }
+
+    @Test
+    public void splitPath_UnescapesNamesBelowTheRoot() {
+        assertThat(OrganizationalUnitPathCache.splitPath("Root")).isEmpty();
+        assertThat(OrganizationalUnitPathCache.splitPath("Root/Workloads/Prod")).containsExactly("Workloads", "Prod");
+        assertThat(OrganizationalUnitPathCache.splitPath("Root/Team\\/A\\\\B")).containsExactly("Team/A\\B");
+    }
+
+    @Test
+    public void splitPath_Malformed_ReturnsNull() {
+        assertThat(OrganizationalUnitPathCache.splitPath(TEST_PARENT_ID)).isNull();
+        assertThat(OrganizationalUnitPathCache.splitPath("RootOu")).isNull();
+        assertThat(OrganizationalUnitPathCache.splitPath("Root//Prod")).isNull();
+        assertThat(OrganizationalUnitPathCache.splitPath("Root/Prod/")).isNull();
+        assertThat(OrganizationalUnitPathCache.splitPath("Root/Pr\\od")).isNull();
+        assertThat(OrganizationalUnitPathCache.splitPath("Root/Prod\\")).isNull();
+        assertThat(OrganizationalUnitPathCache.splitPath(null)).isNull();
+    }
+
+    @Test
+    public void shared_ReturnsSameInstance() {
+        assertThat(OrganizationalUnitPathCache.shared()).isSameAs(OrganizationalUnitPathCache.shared());
+    }
+
+    private String resolve(final String path) {
+        return cache.resolve(TEST_ACCOUNT_ID, OrganizationalUnitPathCache.splitPath(path), mockProxyClient);
+    }
+
+    private static ListOrganizationalUnitsForParentResponse listResponse(final String name, final String id, final String nextToken) {
+        return ListOrganizationalUnitsForParentResponse.builder()
+            .organizationalUnits(OrganizationalUnit.builder().name(name).id(id).build())
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package software.amazon.organizations.organizationalunit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicateOrganizationalUnitException;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.organizationalunit.OrganizationalUnitTreePlanner.Checkpoint;
+import software.amazon.organizations.organizationalunit.OrganizationalUnitTreePlanner.OrganizationalUnitSpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OrganizationalUnitTreePlannerTest extends AbstractTestBase {
+    private static final double TEST_CALLS_PER_SECOND = 1000.0;
+
+    private OrganizationsClient mockOrgsClient;
+    private ProxyClient<OrganizationsClient> mockProxyClient;
+    private OrganizationalUnitTreePlanner planner;
+    // parent id -> child name -> child id, as seen by the mocked client
+    private Map<String, Map<String, String>> childIdsByParent;
+    private AtomicInteger createdCount;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        planner = new OrganizationalUnitTreePlanner(mockProxyClient, logger, TEST_CALLS_PER_SECOND);
+        childIdsByParent = new ConcurrentHashMap<>();
+        createdCount = new AtomicInteger();
+    }
+
+    @Test
+    public void apply_CreatesTreeLevelByLevelAndListsEachParentOnce() {
+        stubListing();
+        stubCreate();
+        final List<Checkpoint> checkpoints = new ArrayList<>();
+
+        final Checkpoint result = planner.apply(TEST_PARENT_ID, landingZone(), null, checkpoints::add);
+
+        assertThat(checkpoints).extracting(Checkpoint::getCompletedLevels).containsExactly(1, 2);
+        assertThat(checkpoints.get(0).getIdsByPath()).containsOnlyKeys("Workloads", "Security");
+        assertThat(result.getIdsByPath()).containsOnlyKeys("Workloads", "Security", "Workloads/Prod", "Workloads/Dev", "Security/Audit");
+        assertThat(result.getIdsByPath().get("Workloads/Prod")).isEqualTo(childIdsByParent.get(result.getIdsByPath().get("Workloads")).get("Prod"));
+
+        final ArgumentCaptor<ListOrganizationalUnitsForParentRequest> listRequestCaptor = ArgumentCaptor.forClass(ListOrganizationalUnitsForParentRequest.class);
+        verify(mockOrgsClient, times(3)).listOrganizationalUnitsForParent(listRequestCaptor.capture());
+        assertThat(listRequestCaptor.getAllValues()).extracting(ListOrganizationalUnitsForParentRequest::parentId)
+            .containsExactlyInAnyOrder(TEST_PARENT_ID, result.getIdsByPath().get("Workloads"), result.getIdsByPath().get("Security"));
+        verify(mockOrgsClient, times(5)).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+    }
+
+    @Test
+    public void apply_AdoptsOrganizationalUnitsFoundInSnapshot() {
+        childIdsByParent.put(TEST_PARENT_ID, new ConcurrentHashMap<>(Collections.singletonMap("Workloads", "ou-existing")));
+        stubListing();
+        stubCreate();
+
+        final Checkpoint result = planner.apply(TEST_PARENT_ID, landingZone(), null, checkpoint -> { });
+
+        assertThat(result.getIdsByPath().get("Workloads")).isEqualTo("ou-existing");
+        verify(mockOrgsClient, times(4)).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+        // the adopted OU gets the tags it would have been created with
+        final ArgumentCaptor<TagResourceRequest> tagRequestCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(mockOrgsClient).tagResource(tagRequestCaptor.capture());
+        assertThat(tagRequestCaptor.getValue().resourceId()).isEqualTo("ou-existing");
+        assertThat(tagRequestCaptor.getValue().tags()).containsExactly(Tag.builder().key("team").value("platform").build());
+    }
+
+    @Test
+    public void apply_ResumesAfterLastCompletedLevel() {
+        stubListing();
+        stubCreate();
+        final Map<String, String> completedIds = new ConcurrentHashMap<>();
+        completedIds.put("Workloads", "ou-workloads");
+        completedIds.put("Security", "ou-security");
+
+        final Checkpoint result = planner.apply(TEST_PARENT_ID, landingZone(), new Checkpoint(1, completedIds), checkpoint -> { });
+
+        assertThat(result.getCompletedLevels()).isEqualTo(2);
+        assertThat(result.getIdsByPath()).containsEntry("Workloads", "ou-workloads").containsKey("Security/Audit");
+        final ArgumentCaptor<CreateOrganizationalUnitRequest> createRequestCaptor = ArgumentCaptor.forClass(CreateOrganizationalUnitRequest.class);
+        verify(mockOrgsClient, times(3)).createOrganizationalUnit(createRequestCaptor.capture());
+        assertThat(createRequestCaptor.getAllValues()).extracting(CreateOrganizationalUnitRequest::parentId)
+            .containsOnly("ou-workloads", "ou-security");
+        verify(mockOrgsClient, times(2)).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
+    }
+
+    @Test
+    public void apply_AdoptsOrganizationalUnitCreatedAfterSnapshot() {
+        when(mockOrgsClient.listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+            .thenReturn(ListOrganizationalUnitsForParentResponse.builder().build())
+            .thenReturn(ListOrganizationalUnitsForParentResponse.builder()
+                .organizationalUnits(OrganizationalUnit.builder().name("Sandbox").id("ou-sandbox").build())
+                .build());
+        when(mockOrgsClient.createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenThrow(DuplicateOrganizationalUnitException.class);
+
+        final Checkpoint result = planner.apply(TEST_PARENT_ID,
+            Collections.singletonList(new OrganizationalUnitSpec("Sandbox", Collections.singletonMap("team", "sandbox"), null)), null, checkpoint -> { });
+
+        assertThat(result.getIdsByPath()).containsEntry("Sandbox", "ou-sandbox");
+        final ArgumentCaptor<TagResourceRequest> tagRequestCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(mockOrgsClient).tagResource(tagRequestCaptor.capture());
+        assertThat(tagRequestCaptor.getValue().resourceId()).isEqualTo("ou-sandbox");
+    }
+
+    @Test
+    public void apply_PropagatesCreateFailureWithoutCheckpoint() {
+        when(mockOrgsClient.listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+            .thenReturn(ListOrganizationalUnitsForParentResponse.builder().build());
+        when(mockOrgsClient.createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenThrow(DuplicateOrganizationalUnitException.class);
+        final List<Checkpoint> checkpoints = new ArrayList<>();
+
+        assertThatThrownBy(() -> planner.apply(TEST_PARENT_ID,
+            Collections.singletonList(new OrganizationalUnitSpec("Sandbox", null, null)), null, checkpoints::add))
+            .isInstanceOf(DuplicateOrganizationalUnitException.class);
+        assertThat(checkpoints).isEmpty();
+    }
+
+    @Test
+    public void computeLevels_RejectsDuplicateSiblingNames() {
+        final List<OrganizationalUnitSpec> topLevel = Arrays.asList(
+            new OrganizationalUnitSpec("Workloads", null, null), new OrganizationalUnitSpec("Workloads", null, null));
+
+        assertThatThrownBy(() -> OrganizationalUnitTreePlanner.computeLevels(topLevel)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrganizationalUnitTreePlanner.computeLevels(Collections.singletonList(new OrganizationalUnitSpec("A/B", null, null))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<OrganizationalUnitSpec> landingZone() {
+        return Arrays.asList(
+            new OrganizationalUnitSpec("Workloads", Collections.singletonMap("team", "platform"), Arrays.asList(
+                new OrganizationalUnitSpec("Prod", null, null),
+                new OrganizationalUnitSpec("Dev", null, null))),
+            new OrganizationalUnitSpec("Security", null, Collections.singletonList(
+                new OrganizationalUnitSpec("Audit", null, null))));
+    }
+
+    private void stubListing() {
+        when(mockOrgsClient.listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class))).thenAnswer(invocation -> {
+            final ListOrganizationalUnitsForParentRequest listRequest = invocation.getArgument(0);
+            final List<OrganizationalUnit> organizationalUnits = new ArrayList<>();
+            childIdsByParent.getOrDefault(listRequest.parentId(), Collections.emptyMap())
+                .forEach((name, id) -> organizationalUnits.add(OrganizationalUnit.builder().name(name).id(id).build()));
+            return ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(organizationalUnits).build();
+        });
+    }
+
+    private void stubCreate() {
+        when(mockOrgsClient.createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenAnswer(invocation -> {
+            final CreateOrganizationalUnitRequest createRequest = invocation.getArgument(0);
+            final String id = "ou-created-" + createdCount.incrementAndGet();
+            childIdsByParent.computeIfAbsent(createRequest.parentId(), parentId -> new ConcurrentHashMap<>()).put(createRequest.name(), id);
+            return CreateOrganizationalUnitResponse.builder()
+                .organizationalUnit(OrganizationalUnit.builder().name(createRequest.name()).id(id).build())
+                .build();
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package software.amazon.organizations.organizationalunit;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.DescribeOrganizationalUnitRequest;
@@ -149,4 +151,71 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class));
     }
 
+    @Test
+    public void handleRequest_IssuesDescribeParentsAndTagsConcurrently() {
+        final ResourceModel model = ResourceModel.builder()
+            .id(TEST_OU_ID)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        // DescribeOrganizationalUnit only answers once both other calls have started, which can't happen if the calls run in sequence
+        final CountDownLatch otherCallsStarted = new CountDownLatch(2);
+        when(mockProxyClient.client().describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class))).thenAnswer(invocation -> {
+            assertThat(otherCallsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return DescribeOrganizationalUnitResponse.builder()
+                .organizationalUnit(OrganizationalUnit.builder()
+                    .name(TEST_OU_NAME)
+                    .arn(TEST_OU_ARN)
+                    .id(TEST_OU_ID)
+                    .build()
+                ).build();
+        });
+        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenAnswer(invocation -> {
+            otherCallsStarted.countDown();
+            return ListParentsResponse.builder().parents(Parent.builder().id(TEST_PARENT_ID).build()).build();
+        });
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> {
+            otherCallsStarted.countDown();
+            return TagTestResourcesHelper.buildDefaultTagsResponse();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(response);
+        assertThat(response.getResourceModel().getParentId()).isEqualTo(TEST_PARENT_ID);
+
+        verify(mockProxyClient.client()).describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client()).listParents(any(ListParentsRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_shouldReturnFailed_withServiceException_forListTagsForResourceCalls() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(TEST_OU_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(mockProxyClient.client().describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class))).thenReturn(DescribeOrganizationalUnitResponse.builder()
+            .organizationalUnit(OrganizationalUnit.builder().name(TEST_OU_NAME).arn(TEST_OU_ARN).id(TEST_OU_ID).build())
+            .build());
+        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(ListParentsResponse.builder()
+            .parents(Parent.builder().id(TEST_PARENT_ID).build())
+            .build());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenThrow(ServiceException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
@@ -35,7 +35,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -276,6 +278,128 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotUpdatable);
     }
 
+    @Test
+    public void handleRequest_TagOnlyChange_SkipsUpdateOrganizationalUnitAndRead() {
+        final ResourceModel previousResourceModel = generateCompletePreviousResourceModel(TEST_OU_NAME);
+        final ResourceModel model = generateUpdatedResourceModel();
+        model.setName(TEST_OU_NAME);
+        model.setParentId(TEST_PARENT_ID);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previousResourceModel)
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getName()).isEqualTo(TEST_OU_NAME);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_OU_ARN);
+        assertThat(response.getResourceModel().getParentId()).isEqualTo(TEST_PARENT_ID);
+        assertThat(TagTestResourcesHelper.tagsEqual(
+                TagsHelper.convertOrganizationalUnitTagToOrganizationTag(response.getResourceModel().getTags()),
+                TagTestResourcesHelper.updatedTags)).isTrue();
+
+        verify(mockProxyClient.client()).untagResource(any(UntagResourceRequest.class));
+        verify(mockProxyClient.client()).tagResource(any(TagResourceRequest.class));
+        verify(mockProxyClient.client(), never()).updateOrganizationalUnit(any(UpdateOrganizationalUnitRequest.class));
+        verifyNoRead();
+    }
+
+    @Test
+    public void handleRequest_NameOnlyChange_SkipsTaggingAndRead() {
+        final ResourceModel previousResourceModel = generateCompletePreviousResourceModel(TEST_OU_NAME);
+        final ResourceModel model = generateCompletePreviousResourceModel(TEST_OU_UPDATED_NAME);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previousResourceModel)
+            .desiredResourceState(model)
+            .previousResourceTags(TagTestResourcesHelper.defaultStackTags)
+            .desiredResourceTags(TagTestResourcesHelper.defaultStackTags)
+            .build();
+
+        when(mockProxyClient.client().updateOrganizationalUnit(any(UpdateOrganizationalUnitRequest.class))).thenReturn(getUpdateOrganizationalUnitResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getName()).isEqualTo(TEST_OU_UPDATED_NAME);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_OU_ID);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_OU_ARN);
+        assertThat(response.getResourceModel().getParentId()).isEqualTo(TEST_PARENT_ID);
+        assertThat(TagTestResourcesHelper.tagsEqual(
+                TagsHelper.convertOrganizationalUnitTagToOrganizationTag(response.getResourceModel().getTags()),
+                TagsHelper.mergeTags(TagTestResourcesHelper.defaultTags, TagTestResourcesHelper.defaultStackTags))).isTrue();
+
+        verify(mockProxyClient.client()).updateOrganizationalUnit(any(UpdateOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
+        verify(mockProxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
+        verifyNoRead();
+    }
+
+    @Test
+    public void handleRequest_NoChange_MakesNoCalls() {
+        final ResourceModel previousResourceModel = generateCompletePreviousResourceModel(TEST_OU_NAME);
+        final ResourceModel model = generateCompletePreviousResourceModel(TEST_OU_NAME);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previousResourceModel)
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getName()).isEqualTo(TEST_OU_NAME);
+        assertThat(response.getResourceModel().getParentId()).isEqualTo(TEST_PARENT_ID);
+
+        verifyNoInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_PreviousStateWithoutParentId_ReadsBack() {
+        final ResourceModel previousResourceModel = generateCompletePreviousResourceModel(TEST_OU_NAME);
+        previousResourceModel.setParentId(null);
+        final ResourceModel model = generateCompletePreviousResourceModel(TEST_OU_UPDATED_NAME);
+        model.setParentId(null);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previousResourceModel)
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().updateOrganizationalUnit(any(UpdateOrganizationalUnitRequest.class))).thenReturn(getUpdateOrganizationalUnitResponse());
+        when(mockProxyClient.client().describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class))).thenReturn(getDescribeOrganizationalUnitResponse());
+        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(getListParentsResponse());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourcesHelper.buildDefaultTagsResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParentId()).isEqualTo(TEST_PARENT_ID);
+
+        verify(mockProxyClient.client()).updateOrganizationalUnit(any(UpdateOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client()).describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client()).listParents(any(ListParentsRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    private void verifyNoRead() {
+        verify(mockProxyClient.client(), never()).describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client(), never()).listParents(any(ListParentsRequest.class));
+        verify(mockProxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    protected ResourceModel generateCompletePreviousResourceModel(final String name) {
+        return ResourceModel.builder()
+            .name(name)
+            .id(TEST_OU_ID)
+            .arn(TEST_OU_ARN)
+            .parentId(TEST_PARENT_ID)
+            .tags(TagTestResourcesHelper.translateOrganizationTagsToOrganizationalUnitTags(TagTestResourcesHelper.defaultTags))
+            .build();
+    }
+
     protected ResourceModel generatePreviousResourceModel() {
         return ResourceModel.builder()
             .name(TEST_OU_NAME)
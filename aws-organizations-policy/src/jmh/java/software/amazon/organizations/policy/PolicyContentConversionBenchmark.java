@@ -0,0 +1,85 @@
+package software.amazon.organizations.policy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the policy content conversion paths in {@link Translator} for 1 KB, 5 KB and 10 KB documents.
+ * Run with the gc profiler (enabled by the jmh profile) to get gc.alloc.rate next to ops/s:
+ * mvn -Pjmh test-compile exec:exec
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyContentConversionBenchmark {
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper();
+    private static final String STATEMENT =
+        "{\"Sid\":\"Statement%d\",\"Effect\":\"Deny\",\"Action\":[\"s3:DeleteBucket\",\"s3:PutBucketPolicy\"],"
+            + "\"Resource\":[\"arn:aws:s3:::bucket-%d/*\"],\"Condition\":{\"StringNotEquals\":{\"aws:PrincipalTag/team\":\"team-%d\"}}}";
+
+    @Param({"1", "5", "10"})
+    private int documentSizeKb;
+
+    private String content;
+    private Object parsedContent;
+
+    @Setup
+    public void setup() {
+        content = buildDocument(documentSizeKb * 1024);
+        parsedContent = Translator.convertStringToObject(content);
+    }
+
+    @Benchmark
+    public Object legacyMapperReadValue() throws Exception {
+        return LEGACY_MAPPER.readValue(content, Map.class);
+    }
+
+    @Benchmark
+    public Object readerConvertStringToObject() {
+        return Translator.convertStringToObject(content);
+    }
+
+    @Benchmark
+    public Object readerConvertStringToJsonNode() {
+        return Translator.convertStringToJsonNode(content);
+    }
+
+    @Benchmark
+    public String legacyMapperWriteValue() throws Exception {
+        return LEGACY_MAPPER.writeValueAsString(parsedContent);
+    }
+
+    @Benchmark
+    public String writerConvertObjectToString() {
+        return Translator.convertObjectToString(parsedContent);
+    }
+
+    private static String buildDocument(final int targetBytes) {
+        final StringBuilder builder = new StringBuilder("{\"Version\":\"2012-10-17\",\"Statement\":[");
+        int i = 0;
+        while (builder.length() < targetBytes) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(String.format(STATEMENT, i, i, i));
+            i++;
+        }
+        return builder.append("]}").toString();
+    }
+}
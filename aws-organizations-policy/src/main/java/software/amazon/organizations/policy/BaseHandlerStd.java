@@ -29,6 +29,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.Collection;
 import java.util.Random;
 
 
@@ -118,6 +119,55 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return handleError(request, e, proxyClient, resourceModel, callbackContext, logger);
     }
 
+    // rejects the request locally when a fresh ListRoots shows the policy type is not enabled on the root
+    protected ProgressEvent<ResourceModel, CallbackContext> checkIfPolicyTypeEnabled(
+        final PolicyTypeEnablementCache policyTypeEnablementCache,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final boolean policyTypeEnabled;
+        try {
+            policyTypeEnabled = policyTypeEnablementCache.isPolicyTypeEnabled(request.getAwsAccountId(), model.getType(), proxyClient);
+        } catch (Exception e) {
+            // the local check is only an optimization, so leave the decision to the service if the root can't be read
+            logger.log(String.format("Unable to read enabled policy types with %s. Skipping local policy type check for policy [%s].",
+                e.getClass().getSimpleName(), model.getName()));
+            return progress;
+        }
+        if (!policyTypeEnabled) {
+            String message = String.format("Policy type [%s] is not enabled on the organization root for policy [%s].", model.getType(), model.getName());
+            logger.log(message);
+            return ProgressEvent.failed(model, progress.getCallbackContext(), HandlerErrorCode.InvalidRequest, message);
+        }
+        return progress;
+    }
+
+    // checks every target before the first AttachPolicy, so a bad target set fails without partially attaching the policy
+    protected ProgressEvent<ResourceModel, CallbackContext> checkAttachmentPreflight(
+        final String policyId,
+        final Collection<String> targetIds,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        if (callbackContext.isAttachPreflightComplete()) {
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        final PolicyAttachmentPreflight.Result result = new PolicyAttachmentPreflight(proxyClient, logger).check(policyId, model.getType(), targetIds);
+        if (result.hasViolations()) {
+            String message = String.format("Policy [%s] cannot be attached to the requested targets. %s", model.getName(), result.describe());
+            logger.log(message);
+            HandlerErrorCode errorCode = result.getMissingTargetIds().isEmpty() ? HandlerErrorCode.ServiceLimitExceeded : HandlerErrorCode.NotFound;
+            return ProgressEvent.failed(model, callbackContext, errorCode, message);
+        }
+        callbackContext.setAttachPreflightComplete(true);
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
     public final int computeDelayBeforeNextRetry(int retryAttempt) {
         Random random = new Random();
         int exponentialBackoff = (int) Math.pow(2, retryAttempt) * BASE_DELAY;
@@ -23,6 +23,8 @@ public class CallbackContext extends StdCallbackContext {
     private boolean isPolicyCreated = false;
     private boolean isPreExistenceCheckComplete = false;
     private boolean didResourceAlreadyExist = false;
+    // used in CREATE and UPDATE handler re-invoking
+    private boolean isAttachPreflightComplete = false;
     // used in DELETE handler re-invoking
     private boolean isPolicyDetachedInDelete = false;
     // used in UPDATE handler re-invoking
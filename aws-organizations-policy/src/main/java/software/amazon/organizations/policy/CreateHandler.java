@@ -7,7 +7,8 @@ import software.amazon.awssdk.services.organizations.model.AttachPolicyResponse;
 import software.amazon.awssdk.services.organizations.model.CreatePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.CreatePolicyResponse;
 import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
-import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyException;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
 import software.amazon.awssdk.services.organizations.model.PolicySummary;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -22,6 +23,15 @@ import java.util.Set;
 
 public class CreateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final PolicyTypeEnablementCache policyTypeEnablementCache;
+
+    public CreateHandler() {
+        this(PolicyTypeEnablementCache.shared());
+    }
+
+    public CreateHandler(final PolicyTypeEnablementCache policyTypeEnablementCache) {
+        this.policyTypeEnablementCache = policyTypeEnablementCache;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -50,23 +60,36 @@ public class CreateHandler extends BaseHandlerStd {
         logger.log(String.format("Entered %s create handler with account Id [%s], with Content [%s], Description [%s], Name [%s], Type [%s]",
             ResourceModel.TYPE_NAME, request.getAwsAccountId(), content, model.getDescription(), model.getName(), model.getType()));
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress -> checkIfPolicyExists(awsClientProxy, progress, orgsClient))
+                .then(progress -> {
+                    if (progress.getCallbackContext().isPolicyCreated()) {
+                        return progress;
+                    }
+                    return checkIfPolicyTypeEnabled(policyTypeEnablementCache, request, progress, orgsClient, logger);
+                })
             .then(progress -> {
-                if(progress.getCallbackContext().isPreExistenceCheckComplete() && progress.getCallbackContext().isDidResourceAlreadyExist())
-                {
-                    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists,
-                        String.format("Policy already exists for policy name [%s].", model.getName()));
-                }
                 if (progress.getCallbackContext().isPolicyCreated()) {
                     // skip to attach policy
                     log.log(String.format("Policy has already been created in previous handler invoke, policy id: [%s]. Skip to attach policy.", model.getId()));
                     return ProgressEvent.progress(model, callbackContext);
                 }
+                if (!CollectionUtils.isEmpty(model.getTargetIds())) {
+                    // validate all targets before CreatePolicy, so a bad target set doesn't leave a half-attached policy behind
+                    final ProgressEvent<ResourceModel, CallbackContext> preflightProgress = checkAttachmentPreflight(null, model.getTargetIds(), model, callbackContext, orgsClient, logger);
+                    if (!preflightProgress.isInProgress()) {
+                        return preflightProgress;
+                    }
+                }
                 return awsClientProxy.initiate("AWS-Organizations-Policy::CreatePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(x -> Translator.translateToCreateRequest(x, request))
                     .makeServiceCall(this::createPolicy)
-                    .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
-                                     handleError(organizationsRequest, e, proxyClient1, model1, context, logger))
+                    .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                        policyTypeEnablementCache.invalidateOn(request.getAwsAccountId(), e);
+                        // CreatePolicy is called without listing the policies of the type first, so a duplicate name is only found here
+                        if (e instanceof DuplicatePolicyException) {
+                            return handleDuplicatePolicy(model1, context, proxyClient1, logger);
+                        }
+                        return handleError(organizationsRequest, e, proxyClient1, model1, context, logger);
+                    })
                     .done(CreatePolicyResponse -> {
                         logger.log(String.format("Created policy with Id: [%s] for policy name [%s].", CreatePolicyResponse.policy().policySummary().id(), model.getName()));
                         model.setId(CreatePolicyResponse.policy().policySummary().id());
@@ -79,32 +102,37 @@ public class CreateHandler extends BaseHandlerStd {
             .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> checkIfPolicyExists(
-            final AmazonWebServicesClientProxy awsClientProxy,
-            ProgressEvent<ResourceModel, CallbackContext> progress,
-            final ProxyClient<OrganizationsClient> orgsClient) {
-
-        ResourceModel model = progress.getResourceModel();
-
-        return awsClientProxy.initiate("AWS-Organizations-Policy::ListPolicies", orgsClient, model, progress.getCallbackContext())
-                .translateToServiceRequest(resourceModel -> ListPoliciesRequest.builder()
-                        .filter(resourceModel.getType())
-                        .build())
-                .makeServiceCall((listPoliciesRequest, proxyClient) -> proxyClient.injectCredentialsAndInvokeV2(listPoliciesRequest, proxyClient.client()::listPolicies))
-                .done((listPoliciesRequest, listPoliciesResponse, proxyClient, resourceModel, context) -> {
-                    Optional<PolicySummary> existingPolicy = listPoliciesResponse.policies().stream()
-                            .filter(policy -> policy.name().equals(model.getName()))
-                            .findFirst();
-
-                    if (existingPolicy.isPresent()) {
-                        model.setId(existingPolicy.get().id());
-                        context.setDidResourceAlreadyExist(true);
-                        log.log(String.format("Failing PreExistenceCheck: Policy [%s] already exists with Id: [%s]", model.getName(), model.getId()));
-                    }
+    // resolves the id of the existing policy only once the service reported the duplicate
+    private ProgressEvent<ResourceModel, CallbackContext> handleDuplicatePolicy(
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        try {
+            findExistingPolicyId(model, orgsClient).ifPresent(model::setId);
+        } catch (Exception e) {
+            logger.log(String.format("Unable to look up the id of existing policy [%s] with %s.", model.getName(), e.getClass().getSimpleName()));
+        }
+        callbackContext.setDidResourceAlreadyExist(true);
+        log.log(String.format("CreatePolicy reported policy [%s] already exists with Id: [%s]", model.getName(), model.getId()));
+        return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists,
+            String.format("Policy already exists for policy name [%s].", model.getName()));
+    }
 
-                    context.setPreExistenceCheckComplete(true);
-                    return ProgressEvent.progress(model, context);
-                });
+    private Optional<String> findExistingPolicyId(final ResourceModel model, final ProxyClient<OrganizationsClient> orgsClient) {
+        String nextToken = null;
+        do {
+            final ListPoliciesResponse listPoliciesResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListPoliciesRequest(model, nextToken), orgsClient.client()::listPolicies);
+            for (PolicySummary policySummary : listPoliciesResponse.policies()) {
+                if (policySummary.name().equals(model.getName())) {
+                    return Optional.of(policySummary.id());
+                }
+            }
+            nextToken = listPoliciesResponse.nextToken();
+        } while (nextToken != null);
+        return Optional.empty();
     }
 
     protected CreatePolicyResponse createPolicy(final CreatePolicyRequest createPolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
@@ -141,6 +169,7 @@ public class CreateHandler extends BaseHandlerStd {
                             e.getClass().getName(), policyName, targetId));
                         return ProgressEvent.progress(model1,context);
                     } else {
+                        policyTypeEnablementCache.invalidateOn(request.getAwsAccountId(), e);
                         return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.ATTACH_POLICY, PolicyConstants.Handler.CREATE);
                     }
                 })
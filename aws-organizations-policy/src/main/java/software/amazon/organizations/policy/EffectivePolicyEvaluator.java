@@ -0,0 +1,232 @@
+package software.amazon.organizations.policy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.RateLimiter;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes effective TAG_POLICY and BACKUP_POLICY documents locally instead of calling DescribeEffectivePolicy once
+ * per account. The organization tree and the policies attached to every root, OU and account are crawled once,
+ * concurrently and within a container-wide rate limit, and each policy is described and parsed through
+ * {@link Translator} only once. The effective state of a root or OU is memoized, so an account only costs a merge of
+ * its own policies on top of its parent's cached result.
+ * Exceptions raised while crawling are propagated to the caller of {@link #load}.
+ */
+public class EffectivePolicyEvaluator {
+    private static final RateLimiter CRAWL_RATE_LIMITER = RateLimiter.create(PolicyConstants.EFFECTIVE_POLICY_CRAWL_PER_SECOND);
+    private static final Set<String> SUPPORTED_POLICY_TYPES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+        PolicyConstants.PolicyType.TAG_POLICY.toString(), PolicyConstants.PolicyType.BACKUP_POLICY.toString())));
+
+    private final String policyType;
+    // child id -> parent id, roots have no entry
+    private final Map<String, String> parentByTarget;
+    private final Set<String> accountIds;
+    private final Map<String, List<JsonNode>> policiesByTarget;
+    private final Map<String, EffectivePolicyState> stateByContainer = new ConcurrentHashMap<>();
+
+    private EffectivePolicyEvaluator(final String policyType, final Map<String, String> parentByTarget, final Set<String> accountIds,
+                                     final Map<String, List<JsonNode>> policiesByTarget) {
+        this.policyType = policyType;
+        this.parentByTarget = parentByTarget;
+        this.accountIds = accountIds;
+        this.policiesByTarget = policiesByTarget;
+    }
+
+    /**
+     * Crawls the organization and builds the attachment graph for one policy type.
+     * @param policyType TAG_POLICY or BACKUP_POLICY
+     */
+    public static EffectivePolicyEvaluator load(final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger, final String policyType) {
+        if (!SUPPORTED_POLICY_TYPES.contains(policyType)) {
+            throw new IllegalArgumentException(String.format("Effective policies can only be evaluated locally for %s, not [%s].", SUPPORTED_POLICY_TYPES, policyType));
+        }
+        final Map<String, String> parentByTarget = new HashMap<>();
+        final Set<String> accountIds = new LinkedHashSet<>();
+        final Map<String, CompletableFuture<Set<String>>> policyIdFutures = new LinkedHashMap<>();
+
+        List<String> frontier = listRootIds(orgsClient);
+        while (!frontier.isEmpty()) {
+            final Map<String, CompletableFuture<List<String>>> ouFutures = new LinkedHashMap<>();
+            final Map<String, CompletableFuture<List<String>>> accountFutures = new LinkedHashMap<>();
+            for (final String parentId : frontier) {
+                policyIdFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> listPolicyIds(orgsClient, parentId, policyType)));
+                ouFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> listChildOrganizationalUnitIds(orgsClient, parentId)));
+                accountFutures.put(parentId, OrgsConcurrentExecutor.supplyAsync(() -> listChildAccountIds(orgsClient, parentId)));
+            }
+
+            final List<String> nextFrontier = new ArrayList<>();
+            for (final String parentId : frontier) {
+                for (final String ouId : OrgsConcurrentExecutor.join(ouFutures.get(parentId))) {
+                    parentByTarget.put(ouId, parentId);
+                    nextFrontier.add(ouId);
+                }
+                for (final String accountId : OrgsConcurrentExecutor.join(accountFutures.get(parentId))) {
+                    parentByTarget.put(accountId, parentId);
+                    accountIds.add(accountId);
+                    policyIdFutures.put(accountId, OrgsConcurrentExecutor.supplyAsync(() -> listPolicyIds(orgsClient, accountId, policyType)));
+                }
+            }
+            frontier = nextFrontier;
+        }
+
+        final Map<String, Set<String>> policyIdsByTarget = new HashMap<>();
+        final Map<String, CompletableFuture<JsonNode>> contentFutures = new HashMap<>();
+        for (final Map.Entry<String, CompletableFuture<Set<String>>> entry : policyIdFutures.entrySet()) {
+            final Set<String> policyIds = OrgsConcurrentExecutor.join(entry.getValue());
+            policyIdsByTarget.put(entry.getKey(), policyIds);
+            for (final String policyId : policyIds) {
+                contentFutures.computeIfAbsent(policyId, id -> OrgsConcurrentExecutor.supplyAsync(() -> describePolicyContent(orgsClient, id)));
+            }
+        }
+
+        final Map<String, JsonNode> contentByPolicyId = new HashMap<>();
+        contentFutures.forEach((policyId, future) -> contentByPolicyId.put(policyId, OrgsConcurrentExecutor.join(future)));
+
+        final Map<String, List<JsonNode>> policiesByTarget = new HashMap<>();
+        policyIdsByTarget.forEach((targetId, policyIds) -> {
+            final List<JsonNode> policies = new ArrayList<>(policyIds.size());
+            policyIds.forEach(policyId -> policies.add(contentByPolicyId.get(policyId)));
+            policiesByTarget.put(targetId, Collections.unmodifiableList(policies));
+        });
+        logger.log(String.format("Loaded %d %s policies attached across %d targets for local effective policy evaluation.",
+            contentByPolicyId.size(), policyType, policiesByTarget.size()));
+        return new EffectivePolicyEvaluator(policyType, parentByTarget, Collections.unmodifiableSet(accountIds), policiesByTarget);
+    }
+
+    public String getPolicyType() {
+        return policyType;
+    }
+
+    public Set<String> getAccountIds() {
+        return accountIds;
+    }
+
+    /**
+     * @param targetId id of a root, OU or account found by the crawl
+     * @return the effective policy of the target, an empty object when no policy applies to it
+     */
+    public JsonNode getEffectivePolicy(final String targetId) {
+        if (!policiesByTarget.containsKey(targetId)) {
+            throw new IllegalArgumentException(String.format("Target [%s] was not found in the organization.", targetId));
+        }
+        if (accountIds.contains(targetId)) {
+            return getContainerState(parentByTarget.get(targetId)).merge(policiesByTarget.get(targetId)).getDocument();
+        }
+        return getContainerState(targetId).getDocument();
+    }
+
+    /**
+     * @return effective policy per account id, in crawl order
+     */
+    public Map<String, JsonNode> getEffectivePoliciesForAccounts() {
+        final Map<String, JsonNode> effectivePolicies = new LinkedHashMap<>();
+        accountIds.forEach(accountId -> effectivePolicies.put(accountId, getEffectivePolicy(accountId)));
+        return effectivePolicies;
+    }
+
+    // memoized per root and OU; a concurrent miss only computes the same immutable state twice
+    private EffectivePolicyState getContainerState(final String containerId) {
+        final EffectivePolicyState cached = stateByContainer.get(containerId);
+        if (cached != null) {
+            return cached;
+        }
+        final String parentId = parentByTarget.get(containerId);
+        final EffectivePolicyState inherited = parentId == null ? EffectivePolicyState.EMPTY : getContainerState(parentId);
+        final EffectivePolicyState state = inherited.merge(policiesByTarget.get(containerId));
+        stateByContainer.put(containerId, state);
+        return state;
+    }
+
+    private static List<String> listRootIds(final ProxyClient<OrganizationsClient> orgsClient) {
+        final List<String> rootIds = new ArrayList<>();
+        String nextToken = null;
+        do {
+            CRAWL_RATE_LIMITER.acquire();
+            final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListRootsRequest(nextToken), orgsClient.client()::listRoots);
+            for (Root root : listRootsResponse.roots()) {
+                rootIds.add(root.id());
+            }
+            nextToken = listRootsResponse.nextToken();
+        } while (nextToken != null);
+        return rootIds;
+    }
+
+    private static List<String> listChildOrganizationalUnitIds(final ProxyClient<OrganizationsClient> orgsClient, final String parentId) {
+        final List<String> ouIds = new ArrayList<>();
+        String nextToken = null;
+        do {
+            CRAWL_RATE_LIMITER.acquire();
+            final ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParentResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListOrganizationalUnitsForParentRequest(parentId, nextToken), orgsClient.client()::listOrganizationalUnitsForParent);
+            for (OrganizationalUnit organizationalUnit : listOrganizationalUnitsForParentResponse.organizationalUnits()) {
+                ouIds.add(organizationalUnit.id());
+            }
+            nextToken = listOrganizationalUnitsForParentResponse.nextToken();
+        } while (nextToken != null);
+        return ouIds;
+    }
+
+    private static List<String> listChildAccountIds(final ProxyClient<OrganizationsClient> orgsClient, final String parentId) {
+        final List<String> childAccountIds = new ArrayList<>();
+        String nextToken = null;
+        do {
+            CRAWL_RATE_LIMITER.acquire();
+            final ListAccountsForParentResponse listAccountsForParentResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListAccountsForParentRequest(parentId, nextToken), orgsClient.client()::listAccountsForParent);
+            for (Account account : listAccountsForParentResponse.accounts()) {
+                childAccountIds.add(account.id());
+            }
+            nextToken = listAccountsForParentResponse.nextToken();
+        } while (nextToken != null);
+        return childAccountIds;
+    }
+
+    // sorted, so policies attached to the same target are always merged in the same order
+    private static Set<String> listPolicyIds(final ProxyClient<OrganizationsClient> orgsClient, final String targetId, final String policyType) {
+        final Set<String> policyIds = new TreeSet<>();
+        String nextToken = null;
+        do {
+            CRAWL_RATE_LIMITER.acquire();
+            final ListPoliciesForTargetResponse listPoliciesForTargetResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListPoliciesForTargetRequest(targetId, policyType, nextToken), orgsClient.client()::listPoliciesForTarget);
+            for (PolicySummary policySummary : listPoliciesForTargetResponse.policies()) {
+                policyIds.add(policySummary.id());
+            }
+            nextToken = listPoliciesForTargetResponse.nextToken();
+        } while (nextToken != null);
+        return policyIds;
+    }
+
+    private static JsonNode describePolicyContent(final ProxyClient<OrganizationsClient> orgsClient, final String policyId) {
+        CRAWL_RATE_LIMITER.acquire();
+        final DescribePolicyResponse describePolicyResponse = orgsClient.injectCredentialsAndInvokeV2(
+            Translator.translateToDescribePolicyRequest(policyId), orgsClient.client()::describePolicy);
+        return Translator.convertStringToJsonNode(describePolicyResponse.policy().content());
+    }
+}
@@ -0,0 +1,197 @@
+package software.amazon.organizations.policy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Effective management policy (tag or backup policy) of one node of the organization tree, together with the
+ * child control operators that restrict how policies further down the tree may change it.
+ * Instances are never mutated after construction, so a parent's state can be shared by all of its children.
+ */
+final class EffectivePolicyState {
+    static final String ASSIGN = "@@assign";
+    static final String APPEND = "@@append";
+    static final String REMOVE = "@@remove";
+    static final String OPERATORS_ALLOWED_FOR_CHILD_POLICIES = "@@operators_allowed_for_child_policies";
+    static final String ALL_OPERATORS = "@@all";
+
+    static final EffectivePolicyState EMPTY = new EffectivePolicyState(JsonNodeFactory.instance.objectNode(), Collections.emptyMap());
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private final ObjectNode document;
+    // key path -> operators child policies may still use on that key and everything below it
+    private final Map<String, Set<String>> allowedChildOperators;
+
+    private EffectivePolicyState(final ObjectNode document, final Map<String, Set<String>> allowedChildOperators) {
+        this.document = document;
+        this.allowedChildOperators = allowedChildOperators;
+    }
+
+    /**
+     * Applies the policies attached directly to a node on top of the state inherited from its parent.
+     * @param policies parsed content of the attached policies, merged in the given order
+     */
+    EffectivePolicyState merge(final List<JsonNode> policies) {
+        if (policies.isEmpty()) {
+            return this;
+        }
+        final ObjectNode mergedDocument = document.deepCopy();
+        final Map<String, Set<String>> restrictionsForChildren = new HashMap<>();
+        for (final JsonNode policy : policies) {
+            if (policy != null && policy.isObject()) {
+                mergeObject(mergedDocument, policy, "", restrictionsForChildren);
+            }
+        }
+
+        final Map<String, Set<String>> mergedAllowedChildOperators = new HashMap<>(allowedChildOperators);
+        restrictionsForChildren.forEach((path, operators) -> mergedAllowedChildOperators.merge(path, operators, EffectivePolicyState::intersect));
+        return new EffectivePolicyState(mergedDocument, Collections.unmodifiableMap(mergedAllowedChildOperators));
+    }
+
+    /**
+     * @return a copy of the resolved policy, with all inheritance operators applied and removed
+     */
+    JsonNode getDocument() {
+        return document.deepCopy();
+    }
+
+    private void mergeObject(final ObjectNode target, final JsonNode source, final String path, final Map<String, Set<String>> restrictionsForChildren) {
+        final Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String name = field.getKey();
+            final JsonNode value = field.getValue();
+            if (OPERATORS_ALLOWED_FOR_CHILD_POLICIES.equals(name)) {
+                restrictionsForChildren.merge(path, toOperatorSet(value), EffectivePolicyState::intersect);
+                continue;
+            }
+            if (name.startsWith("@@")) {
+                continue;
+            }
+            final String childPath = path + PATH_SEPARATOR + name;
+            if (value.isObject() && hasValueOperator(value)) {
+                applyValueOperators(target, name, value, childPath);
+                if (value.has(OPERATORS_ALLOWED_FOR_CHILD_POLICIES)) {
+                    restrictionsForChildren.merge(childPath, toOperatorSet(value.get(OPERATORS_ALLOWED_FOR_CHILD_POLICIES)), EffectivePolicyState::intersect);
+                }
+            } else if (value.isObject()) {
+                final JsonNode existing = target.get(name);
+                final ObjectNode child = existing != null && existing.isObject() ? (ObjectNode) existing : target.putObject(name);
+                mergeObject(child, value, childPath, restrictionsForChildren);
+            } else if (isAllowed(childPath, ASSIGN)) {
+                // a bare value behaves like @@assign
+                target.set(name, value.deepCopy());
+            }
+        }
+    }
+
+    private void applyValueOperators(final ObjectNode target, final String name, final JsonNode operators, final String path) {
+        if (operators.has(ASSIGN) && isAllowed(path, ASSIGN)) {
+            target.set(name, operators.get(ASSIGN).deepCopy());
+        }
+        if (operators.has(APPEND) && isAllowed(path, APPEND)) {
+            target.set(name, append(target.get(name), operators.get(APPEND)));
+        }
+        if (operators.has(REMOVE) && isAllowed(path, REMOVE)) {
+            final JsonNode remaining = remove(target.get(name), operators.get(REMOVE));
+            if (remaining == null) {
+                target.remove(name);
+            } else {
+                target.set(name, remaining);
+            }
+        }
+    }
+
+    private static JsonNode append(final JsonNode existing, final JsonNode values) {
+        final ArrayNode appended = JsonNodeFactory.instance.arrayNode();
+        if (existing != null && existing.isArray()) {
+            appended.addAll((ArrayNode) existing.deepCopy());
+        } else if (existing != null) {
+            appended.add(existing.deepCopy());
+        }
+        for (final JsonNode value : asIterable(values)) {
+            if (!contains(appended, value)) {
+                appended.add(value.deepCopy());
+            }
+        }
+        return appended;
+    }
+
+    // returns null when nothing is left of the existing value
+    private static JsonNode remove(final JsonNode existing, final JsonNode values) {
+        if (existing == null) {
+            return null;
+        }
+        final ArrayNode toRemove = JsonNodeFactory.instance.arrayNode();
+        asIterable(values).forEach(toRemove::add);
+        if (!existing.isArray()) {
+            return contains(toRemove, existing) ? null : existing;
+        }
+        final ArrayNode remaining = JsonNodeFactory.instance.arrayNode();
+        for (final JsonNode element : existing) {
+            if (!contains(toRemove, element)) {
+                remaining.add(element);
+            }
+        }
+        return remaining.size() == 0 ? null : remaining;
+    }
+
+    // a restriction set by any ancestor key applies to every key below it
+    private boolean isAllowed(final String path, final String operator) {
+        for (final Map.Entry<String, Set<String>> restriction : allowedChildOperators.entrySet()) {
+            final String restrictedPath = restriction.getKey();
+            final boolean covers = restrictedPath.isEmpty() || path.equals(restrictedPath) || path.startsWith(restrictedPath + PATH_SEPARATOR);
+            if (covers && !restriction.getValue().contains(ALL_OPERATORS) && !restriction.getValue().contains(operator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasValueOperator(final JsonNode value) {
+        return value.has(ASSIGN) || value.has(APPEND) || value.has(REMOVE);
+    }
+
+    private static Set<String> toOperatorSet(final JsonNode value) {
+        final Set<String> operators = new HashSet<>();
+        asIterable(value).forEach(operator -> operators.add(operator.asText()));
+        return Collections.unmodifiableSet(operators);
+    }
+
+    // a child can only narrow what its ancestors allow
+    private static Set<String> intersect(final Set<String> inherited, final Set<String> restricted) {
+        if (inherited.contains(ALL_OPERATORS)) {
+            return restricted;
+        }
+        if (restricted.contains(ALL_OPERATORS)) {
+            return inherited;
+        }
+        final Set<String> intersection = new HashSet<>(inherited);
+        intersection.retainAll(restricted);
+        return Collections.unmodifiableSet(intersection);
+    }
+
+    private static Iterable<JsonNode> asIterable(final JsonNode value) {
+        return value.isArray() ? value : Collections.singletonList(value);
+    }
+
+    private static boolean contains(final JsonNode array, final JsonNode value) {
+        for (final JsonNode element : array) {
+            if (element.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
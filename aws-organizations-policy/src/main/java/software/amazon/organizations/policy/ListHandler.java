@@ -3,20 +3,35 @@ package software.amazon.organizations.policy;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public class ListHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final PolicyTypeEnablementCache policyTypeEnablementCache;
+
+    public ListHandler() {
+        this(PolicyTypeEnablementCache.shared());
+    }
+
+    public ListHandler(final PolicyTypeEnablementCache policyTypeEnablementCache) {
+        this.policyTypeEnablementCache = policyTypeEnablementCache;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -30,9 +45,12 @@ public class ListHandler extends BaseHandlerStd {
         logger.log(String.format("Entered %s list handler with accountId [%s]", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
 
         final ResourceModel model = request.getDesiredResourceState();
-        if (model == null || model.getType() == null) {
+        if (model == null) {
             return ProgressEvent.failed(ResourceModel.builder().build(), callbackContext, HandlerErrorCode.InvalidRequest,
-                "Policies cannot be listed without specifying a type in the provided resource model!");
+                "Policies cannot be listed without a resource model!");
+        }
+        if (model.getType() == null) {
+            return listAllEnabledPolicyTypes(request, callbackContext, orgsClient, logger);
         }
 
         final List<ResourceModel> models = new ArrayList<>();
@@ -43,16 +61,85 @@ public class ListHandler extends BaseHandlerStd {
             .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
                              handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.LIST_POLICIES, PolicyConstants.Handler.LIST))
             .done(listPoliciesResponse -> {
-                String nextToken = listPoliciesResponse.nextToken();
                 models.addAll(Translator.translateListPoliciesResponseToResourceModels(listPoliciesResponse));
-                return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(models)
-                    .nextToken(nextToken)
-                    .status(OperationStatus.SUCCESS)
-                    .build();
+                return buildListResponse(models, listPoliciesResponse.nextToken(), true, orgsClient, logger);
             });
     }
 
+    // lists every policy type enabled on the root in parallel; the composite next token tracks each type's own nextToken
+    private ProgressEvent<ResourceModel, CallbackContext> listAllEnabledPolicyTypes(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        final ResourceModel model = ResourceModel.builder().build();
+        final Map<String, String> pendingTypeTokens = new LinkedHashMap<>();
+        if (request.getNextToken() == null) {
+            try {
+                policyTypeEnablementCache.getEnabledPolicyTypes(request.getAwsAccountId(), orgsClient)
+                    .forEach(enabledType -> pendingTypeTokens.put(enabledType, null));
+            } catch (Exception e) {
+                return handleErrorInGeneral(ListRootsRequest.builder().build(), e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.LIST_ROOTS, PolicyConstants.Handler.LIST);
+            }
+            logger.log(String.format("No policy type provided. Listing policies of enabled types %s.", pendingTypeTokens.keySet()));
+        } else {
+            try {
+                pendingTypeTokens.putAll(Translator.decodeCompositeNextToken(request.getNextToken()));
+            } catch (CfnInvalidRequestException e) {
+                return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "The provided next token is not a valid policy listing token!");
+            }
+        }
+
+        final Map<ListPoliciesRequest, CompletableFuture<ListPoliciesResponse>> listPoliciesFutures = new LinkedHashMap<>();
+        pendingTypeTokens.forEach((type, typeNextToken) -> {
+            final ListPoliciesRequest listPoliciesRequest = ListPoliciesRequest.builder().filter(type).nextToken(typeNextToken).build();
+            listPoliciesFutures.put(listPoliciesRequest, OrgsConcurrentExecutor.supplyAsync(() -> listPolicies(listPoliciesRequest, orgsClient)));
+        });
+
+        final List<ResourceModel> models = new ArrayList<>();
+        final Map<String, String> remainingTypeTokens = new LinkedHashMap<>();
+        for (Map.Entry<ListPoliciesRequest, CompletableFuture<ListPoliciesResponse>> entry : listPoliciesFutures.entrySet()) {
+            final ListPoliciesResponse listPoliciesResponse;
+            try {
+                listPoliciesResponse = OrgsConcurrentExecutor.join(entry.getValue());
+            } catch (Exception e) {
+                return handleErrorInGeneral(entry.getKey(), e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.LIST_POLICIES, PolicyConstants.Handler.LIST);
+            }
+            models.addAll(Translator.translateListPoliciesResponseToResourceModels(listPoliciesResponse));
+            if (listPoliciesResponse.nextToken() != null) {
+                remainingTypeTokens.put(entry.getKey().filterAsString(), listPoliciesResponse.nextToken());
+            }
+        }
+
+        final String nextToken = remainingTypeTokens.isEmpty() ? null : Translator.encodeCompositeNextToken(remainingTypeTokens);
+        // a listing across every enabled type skips Content, which costs one DescribePolicy per policy; list one Type to get it
+        return buildListResponse(models, nextToken, false, orgsClient, logger);
+    }
+
+    // hydrates every listed model with its TargetIds, Tags and, when includeContent is set, Content
+    private ProgressEvent<ResourceModel, CallbackContext> buildListResponse(
+        final List<ResourceModel> models,
+        final String nextToken,
+        final boolean includeContent,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        String message = null;
+        final Map<String, String> failures = new PolicyModelEnricher(orgsClient, logger, includeContent).enrich(models);
+        if (!failures.isEmpty()) {
+            // a partially enriched page is still returned; the failed models only carry their summary fields
+            message = String.format("Failed to enrich policies: %s", failures);
+        }
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+            .resourceModels(models)
+            .nextToken(nextToken)
+            .message(message)
+            .status(OperationStatus.SUCCESS)
+            .build();
+    }
+
     protected ListPoliciesResponse listPolicies(final ListPoliciesRequest listPoliciesRequest, final ProxyClient<OrganizationsClient> orgsClient) {
         log.log("Start calling listPolicies");
         final ListPoliciesResponse listPoliciesResponse = orgsClient.injectCredentialsAndInvokeV2(listPoliciesRequest, orgsClient.client()::listPolicies);
@@ -0,0 +1,148 @@
+package software.amazon.organizations.policy;
+
+import com.google.common.util.concurrent.RateLimiter;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Checks every target a policy is about to be attached to before the first AttachPolicy call, so a request naming a
+ * missing target or a target already at its policy quota is rejected in one pass instead of after earlier targets
+ * were modified. Targets are inspected concurrently with ListPoliciesForTarget on the shared executor.
+ * The check is advisory: a target that can't be inspected is left for AttachPolicy to decide.
+ */
+public class PolicyAttachmentPreflight {
+    private static final RateLimiter LIST_POLICIES_FOR_TARGET_RATE_LIMITER = RateLimiter.create(PolicyConstants.PREFLIGHT_LIST_POLICIES_FOR_TARGET_PER_SECOND);
+
+    private final ProxyClient<OrganizationsClient> orgsClient;
+    private final OrgsLoggerWrapper logger;
+
+    public PolicyAttachmentPreflight(final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger) {
+        this.orgsClient = orgsClient;
+        this.logger = logger;
+    }
+
+    /**
+     * @param policyId id of the policy to attach, or null before it is created; targets it is already attached to are not counted against the quota
+     * @param policyType type of the policy, which selects the per-target quota
+     * @param targetIds targets the policy is about to be attached to
+     */
+    public Result check(final String policyId, final String policyType, final Collection<String> targetIds) {
+        final Map<String, CompletableFuture<TargetState>> futures = new LinkedHashMap<>();
+        for (final String targetId : targetIds) {
+            futures.put(targetId, OrgsConcurrentExecutor.supplyAsync(() -> inspectTarget(targetId, policyId, policyType)));
+        }
+
+        final int maxAttachmentsPerTarget = getMaxAttachmentsPerTarget(policyType);
+        final Set<String> missingTargetIds = new LinkedHashSet<>();
+        final Set<String> targetIdsAtLimit = new LinkedHashSet<>();
+        for (final Map.Entry<String, CompletableFuture<TargetState>> entry : futures.entrySet()) {
+            final TargetState targetState = OrgsConcurrentExecutor.join(entry.getValue());
+            if (!targetState.found) {
+                missingTargetIds.add(entry.getKey());
+            } else if (!targetState.alreadyAttached && targetState.attachedPolicies >= maxAttachmentsPerTarget) {
+                targetIdsAtLimit.add(entry.getKey());
+            }
+        }
+        return new Result(missingTargetIds, targetIdsAtLimit, maxAttachmentsPerTarget);
+    }
+
+    private TargetState inspectTarget(final String targetId, final String policyId, final String policyType) {
+        int attachedPolicies = 0;
+        String nextToken = null;
+        try {
+            do {
+                LIST_POLICIES_FOR_TARGET_RATE_LIMITER.acquire();
+                final ListPoliciesForTargetResponse listPoliciesForTargetResponse = orgsClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToListPoliciesForTargetRequest(targetId, policyType, nextToken), orgsClient.client()::listPoliciesForTarget);
+                for (PolicySummary policySummary : listPoliciesForTargetResponse.policies()) {
+                    if (policySummary.id().equals(policyId)) {
+                        return new TargetState(true, true, attachedPolicies);
+                    }
+                    attachedPolicies++;
+                }
+                nextToken = listPoliciesForTargetResponse.nextToken();
+            } while (nextToken != null);
+        } catch (TargetNotFoundException e) {
+            return new TargetState(false, false, 0);
+        } catch (Exception e) {
+            logger.log(String.format("Unable to inspect target [%s] before attaching policy [%s] with %s. Leaving the check to AttachPolicy.",
+                targetId, policyId, e.getClass().getSimpleName()));
+            return new TargetState(true, false, 0);
+        }
+        return new TargetState(true, false, attachedPolicies);
+    }
+
+    private static int getMaxAttachmentsPerTarget(final String policyType) {
+        for (PolicyConstants.PolicyType type : PolicyConstants.PolicyType.values()) {
+            if (type.toString().equals(policyType)) {
+                return type.getMaxAttachmentsPerTarget();
+            }
+        }
+        // unknown types are validated by the service
+        return Integer.MAX_VALUE;
+    }
+
+    private static final class TargetState {
+        private final boolean found;
+        private final boolean alreadyAttached;
+        private final int attachedPolicies;
+
+        private TargetState(final boolean found, final boolean alreadyAttached, final int attachedPolicies) {
+            this.found = found;
+            this.alreadyAttached = alreadyAttached;
+            this.attachedPolicies = attachedPolicies;
+        }
+    }
+
+    public static final class Result {
+        private final Set<String> missingTargetIds;
+        private final Set<String> targetIdsAtLimit;
+        private final int maxAttachmentsPerTarget;
+
+        private Result(final Set<String> missingTargetIds, final Set<String> targetIdsAtLimit, final int maxAttachmentsPerTarget) {
+            this.missingTargetIds = Collections.unmodifiableSet(missingTargetIds);
+            this.targetIdsAtLimit = Collections.unmodifiableSet(targetIdsAtLimit);
+            this.maxAttachmentsPerTarget = maxAttachmentsPerTarget;
+        }
+
+        public Set<String> getMissingTargetIds() {
+            return missingTargetIds;
+        }
+
+        public Set<String> getTargetIdsAtLimit() {
+            return targetIdsAtLimit;
+        }
+
+        public boolean hasViolations() {
+            return !missingTargetIds.isEmpty() || !targetIdsAtLimit.isEmpty();
+        }
+
+        // lists every violation so the template can be fixed in one go
+        public String describe() {
+            final StringBuilder message = new StringBuilder();
+            if (!missingTargetIds.isEmpty()) {
+                message.append(String.format("Targets not found: %s.", missingTargetIds));
+            }
+            if (!targetIdsAtLimit.isEmpty()) {
+                if (message.length() > 0) {
+                    message.append(' ');
+                }
+                message.append(String.format("Targets already at the limit of %d attached policies of this type: %s.", maxAttachmentsPerTarget, targetIdsAtLimit));
+            }
+            return message.toString();
+        }
+    }
+}
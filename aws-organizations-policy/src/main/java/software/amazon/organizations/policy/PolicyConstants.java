@@ -3,18 +3,25 @@ package software.amazon.organizations.policy;
 public class PolicyConstants {
 
     public enum PolicyType {
-        AISERVICES_OPT_OUT_POLICY("AISERVICES_OPT_OUT_POLICY"),
-        BACKUP_POLICY("BACKUP_POLICY"),
-        SERVICE_CONTROL_POLICY("SERVICE_CONTROL_POLICY"),
-        TAG_POLICY("TAG_POLICY"),
-        CHATBOT_POLICY("CHATBOT_POLICY"),
-        RESOURCE_CONTROL_POLICY("RESOURCE_CONTROL_POLICY"),
-        DECLARATIVE_POLICY_EC2("DECLARATIVE_POLICY_EC2");
+        AISERVICES_OPT_OUT_POLICY("AISERVICES_OPT_OUT_POLICY", 5),
+        BACKUP_POLICY("BACKUP_POLICY", 10),
+        SERVICE_CONTROL_POLICY("SERVICE_CONTROL_POLICY", 5),
+        TAG_POLICY("TAG_POLICY", 10),
+        CHATBOT_POLICY("CHATBOT_POLICY", 5),
+        RESOURCE_CONTROL_POLICY("RESOURCE_CONTROL_POLICY", 5),
+        DECLARATIVE_POLICY_EC2("DECLARATIVE_POLICY_EC2", 10);
 
         private final String policyType;
+        // service quota for policies of this type directly attached to one root, OU or account
+        private final int maxAttachmentsPerTarget;
 
-        private PolicyType(final String policyType) {
+        private PolicyType(final String policyType, final int maxAttachmentsPerTarget) {
             this.policyType = policyType;
+            this.maxAttachmentsPerTarget = maxAttachmentsPerTarget;
+        }
+
+        public int getMaxAttachmentsPerTarget() {
+            return maxAttachmentsPerTarget;
         }
 
         @Override
@@ -35,9 +42,24 @@ public class PolicyConstants {
         DESCRIBE_POLICY,
         LIST_TARGETS_FOR_POLICY,
         LIST_TAGS_FOR_POLICY,
-        LIST_POLICIES
+        LIST_POLICIES,
+        LIST_ROOTS
     }
 
+    // how long the enabled policy types read from the root are trusted before ListRoots is called again
+    public static final long POLICY_TYPE_CACHE_TTL_SECONDS = 300;
+
+    // rate limit (calls per second) shared by all attach pre-flight checks in a container
+    public static final double PREFLIGHT_LIST_POLICIES_FOR_TARGET_PER_SECOND = 5.0;
+
+    // rate limit (calls per second) shared by all effective policy evaluator crawls in a container
+    public static final double EFFECTIVE_POLICY_CRAWL_PER_SECOND = 10.0;
+
+    // per-operation rate limits (calls per second) shared by all list enrichment in a container
+    public static final double ENRICHMENT_DESCRIBE_POLICY_PER_SECOND = 5.0;
+    public static final double ENRICHMENT_LIST_TARGETS_PER_SECOND = 5.0;
+    public static final double ENRICHMENT_LIST_TAGS_PER_SECOND = 5.0;
+
     public enum Handler {
         CREATE,
         DELETE,
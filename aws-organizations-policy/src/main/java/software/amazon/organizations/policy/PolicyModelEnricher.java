@@ -0,0 +1,109 @@
+package software.amazon.organizations.policy;
+
+import com.google.common.util.concurrent.RateLimiter;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hydrates the summary models returned by ListPolicies with TargetIds, Tags and, optionally, Content.
+ * Models of a page are enriched concurrently on the shared executor, and each Organizations operation draws from its
+ * own container-wide rate limiter so a large page cannot exhaust the account's API budget.
+ * Each model is enriched all or nothing: a failure leaves that model exactly as it was listed and is reported back
+ * keyed by policy id.
+ */
+public class PolicyModelEnricher {
+    private static final RateLimiter DESCRIBE_POLICY_RATE_LIMITER = RateLimiter.create(PolicyConstants.ENRICHMENT_DESCRIBE_POLICY_PER_SECOND);
+    private static final RateLimiter LIST_TARGETS_RATE_LIMITER = RateLimiter.create(PolicyConstants.ENRICHMENT_LIST_TARGETS_PER_SECOND);
+    private static final RateLimiter LIST_TAGS_RATE_LIMITER = RateLimiter.create(PolicyConstants.ENRICHMENT_LIST_TAGS_PER_SECOND);
+
+    private final ProxyClient<OrganizationsClient> orgsClient;
+    private final OrgsLoggerWrapper logger;
+    private final boolean includeContent;
+
+    public PolicyModelEnricher(final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger, final boolean includeContent) {
+        this.orgsClient = orgsClient;
+        this.logger = logger;
+        this.includeContent = includeContent;
+    }
+
+    /**
+     * Enriches the given models in place.
+     * @param models summary models of one ListPolicies page
+     * @return failure message per policy id for the models that could not be fully enriched
+     */
+    public Map<String, String> enrich(final List<ResourceModel> models) {
+        final List<CompletableFuture<String>> futures = new ArrayList<>(models.size());
+        for (final ResourceModel model : models) {
+            futures.add(OrgsConcurrentExecutor.supplyAsync(() -> enrichModel(model)));
+        }
+
+        final Map<String, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < models.size(); i++) {
+            final String failure = OrgsConcurrentExecutor.join(futures.get(i));
+            if (failure != null) {
+                failures.put(models.get(i).getId(), failure);
+            }
+        }
+        return failures;
+    }
+
+    // returns null when the model was fully enriched, otherwise a description of the failure
+    private String enrichModel(final ResourceModel model) {
+        final String policyId = model.getId();
+        try {
+            // every result is fetched before the model is touched, so a failure cannot leave it half enriched
+            Object content = null;
+            if (includeContent) {
+                DESCRIBE_POLICY_RATE_LIMITER.acquire();
+                final DescribePolicyResponse describePolicyResponse = orgsClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToReadRequest(model), orgsClient.client()::describePolicy);
+                content = Translator.convertStringToObject(describePolicyResponse.policy().content());
+            }
+            final Set<String> targetIds = listAllTargets(policyId);
+
+            LIST_TAGS_RATE_LIMITER.acquire();
+            final ListTagsForResourceResponse listTagsForResourceResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListTagsForResourceRequest(policyId), orgsClient.client()::listTagsForResource);
+
+            if (includeContent) {
+                model.setContent(content);
+            }
+            model.setTargetIds(targetIds);
+            model.setTags(Translator.translateTagsFromSdkResponse(listTagsForResourceResponse.tags()));
+            return null;
+        } catch (Exception e) {
+            final String failure = String.format("%s: %s", e.getClass().getSimpleName(), e.getMessage());
+            logger.log(String.format("Failed to enrich policy [%s] in list handler. %s", policyId, failure));
+            return failure;
+        }
+    }
+
+    private Set<String> listAllTargets(final String policyId) {
+        final Set<String> targetIds = new HashSet<>();
+        String nextToken = null;
+        do {
+            LIST_TARGETS_RATE_LIMITER.acquire();
+            final ListTargetsForPolicyResponse listTargetsForPolicyResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListTargetsForPolicyRequest(policyId, nextToken), orgsClient.client()::listTargetsForPolicy);
+            for (PolicyTargetSummary targetSummary : listTargetsForPolicyResponse.targets()) {
+                targetIds.add(targetSummary.targetId());
+            }
+            nextToken = listTargetsForPolicyResponse.nextToken();
+        } while (nextToken != null);
+        return targetIds;
+    }
+}
@@ -0,0 +1,117 @@
+package software.amazon.organizations.policy;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeNotAvailableForOrganizationException;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeNotEnabledException;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeStatus;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeSummary;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-level cache of the policy types enabled on the organization root, keyed by management account id.
+ * Entries are loaded from ListRoots, expire after a TTL and are dropped as soon as the service reports that a policy
+ * type is not enabled or not available, so handlers can reject requests for disabled types before any other API call.
+ */
+public class PolicyTypeEnablementCache {
+    private static final PolicyTypeEnablementCache SHARED =
+        new PolicyTypeEnablementCache(Clock.systemUTC(), Duration.ofSeconds(PolicyConstants.POLICY_TYPE_CACHE_TTL_SECONDS));
+
+    private final Map<String, CachedPolicyTypes> enabledTypesByAccount = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration ttl;
+
+    PolicyTypeEnablementCache(final Clock clock, final Duration ttl) {
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    public static PolicyTypeEnablementCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the enabled policy types of the root, calling ListRoots only when there is no live entry for the account.
+     * Exceptions from ListRoots are propagated to the caller.
+     */
+    Set<String> getEnabledPolicyTypes(final String accountId, final ProxyClient<OrganizationsClient> orgsClient) {
+        final CachedPolicyTypes cached = enabledTypesByAccount.get(toKey(accountId));
+        if (cached != null && clock.instant().isBefore(cached.expiresAt)) {
+            return cached.enabledTypes;
+        }
+        return load(accountId, orgsClient);
+    }
+
+    /**
+     * Returns whether the policy type is enabled on the root. Only a positive answer is served from the cache: when the
+     * type is missing from the entry, ListRoots is called again and the entry replaced, so a type enabled within the TTL
+     * is not rejected. Exceptions from ListRoots are propagated to the caller.
+     */
+    boolean isPolicyTypeEnabled(final String accountId, final String policyType, final ProxyClient<OrganizationsClient> orgsClient) {
+        final CachedPolicyTypes cached = enabledTypesByAccount.get(toKey(accountId));
+        if (cached != null && clock.instant().isBefore(cached.expiresAt) && cached.enabledTypes.contains(policyType)) {
+            return true;
+        }
+        return load(accountId, orgsClient).contains(policyType);
+    }
+
+    private Set<String> load(final String accountId, final ProxyClient<OrganizationsClient> orgsClient) {
+        final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(ListRootsRequest.builder().build(), orgsClient.client()::listRoots);
+        final Set<String> enabledTypes = new LinkedHashSet<>();
+        for (Root root : listRootsResponse.roots()) {
+            for (PolicyTypeSummary policyTypeSummary : root.policyTypes()) {
+                if (policyTypeSummary.status() == PolicyTypeStatus.ENABLED) {
+                    enabledTypes.add(policyTypeSummary.typeAsString());
+                }
+            }
+        }
+        put(accountId, enabledTypes);
+        return enabledTypes;
+    }
+
+    void put(final String accountId, final Set<String> enabledTypes) {
+        enabledTypesByAccount.put(toKey(accountId),
+            new CachedPolicyTypes(Collections.unmodifiableSet(new LinkedHashSet<>(enabledTypes)), clock.instant().plus(ttl)));
+    }
+
+    void invalidate(final String accountId) {
+        enabledTypesByAccount.remove(toKey(accountId));
+    }
+
+    /**
+     * Drops the account's entry when the exception shows the cached enablement state may be stale.
+     */
+    void invalidateOn(final String accountId, final Exception e) {
+        if (e instanceof PolicyTypeNotEnabledException || e instanceof PolicyTypeNotAvailableForOrganizationException
+            || e instanceof AwsOrganizationsNotInUseException) {
+            invalidate(accountId);
+        }
+    }
+
+    private static String toKey(final String accountId) {
+        return Objects.toString(accountId, "");
+    }
+
+    private static final class CachedPolicyTypes {
+        private final Set<String> enabledTypes;
+        private final Instant expiresAt;
+
+        private CachedPolicyTypes(final Set<String> enabledTypes, final Instant expiresAt) {
+            this.enabledTypes = enabledTypes;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -11,14 +11,15 @@ import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
 import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class ReadHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
@@ -34,19 +35,33 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         logger.log(String.format("Entered %s read handler with account Id [%s], policy Id: [%s].", ResourceModel.TYPE_NAME, request.getAwsAccountId(), model.getId()));
 
+        final String policyId = model.getId();
+        final DescribePolicyRequest describePolicyRequest = Translator.translateToReadRequest(model);
+        final ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsForResourceRequest(policyId);
+        final Set<String> policyTargetIds = new HashSet<>();
+
+        // DescribePolicy, ListTargetsForPolicy and ListTagsForResource only need the policy id, so issue them together.
+        // Target pages are accumulated as they arrive while the other two calls are in flight.
+        final CompletableFuture<DescribePolicyResponse> describePolicyFuture =
+            OrgsConcurrentExecutor.supplyAsync(() -> describePolicy(describePolicyRequest, orgsClient));
+        final CompletableFuture<Set<String>> listTargetsFuture =
+            OrgsConcurrentExecutor.supplyAsync(() -> listAllTargets(policyId, policyTargetIds, orgsClient));
+        final CompletableFuture<ListTagsForResourceResponse> listTagsFuture =
+            OrgsConcurrentExecutor.supplyAsync(() -> listTagsForResource(listTagsForResourceRequest, orgsClient));
+
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> awsClientProxy.initiate("AWS-Organizations-Policy::DescribePolicy", orgsClient, model, callbackContext)
-                .translateToServiceRequest(t -> Translator.translateToReadRequest(model))
-                .makeServiceCall(this::describePolicy)
+                .translateToServiceRequest(t -> describePolicyRequest)
+                .makeServiceCall((describeRequest, proxyClient) -> OrgsConcurrentExecutor.join(describePolicyFuture))
                 .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
                                  handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.DESCRIBE_POLICY, PolicyConstants.Handler.READ))
                 .done(describePolicyResponse -> {
                     try {
                         model.setContent(Translator.convertStringToObject(describePolicyResponse.policy().content()));
                     } catch (CfnHandlerInternalFailureException e) {
-                        String policyId = describePolicyResponse.policy().policySummary().id();
+                        String describedPolicyId = describePolicyResponse.policy().policySummary().id();
                         String errorMessage = String.format("[Exception] Failed with exception: [%s]. Message: [%s], ErrorCode: [%s] for policy [%s].",
-                            e.getClass().getSimpleName(), e.getMessage(), HandlerErrorCode.InternalFailure, policyId);
+                            e.getClass().getSimpleName(), e.getMessage(), HandlerErrorCode.InternalFailure, describedPolicyId);
                         logger.log(errorMessage);
                         return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure, errorMessage);
                     }
@@ -59,8 +74,26 @@ public class ReadHandler extends BaseHandlerStd {
                     return ProgressEvent.progress(model, callbackContext);
                 })
             )
-            .then(progress -> listTargetsForPolicy(awsClientProxy, request, model, callbackContext, orgsClient, logger))
-            .then(progress -> listTagsForPolicy(awsClientProxy, request, model, callbackContext, orgsClient, logger));
+            .then(progress -> awsClientProxy.initiate("AWS-Organizations-Policy::listTargetsForPolicy", orgsClient, model, callbackContext)
+                .translateToServiceRequest(t -> Translator.translateToListTargetsForPolicyRequest(policyId, null))
+                .makeServiceCall((listTargetsRequest, proxyClient) -> OrgsConcurrentExecutor.join(listTargetsFuture))
+                .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
+                                 handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.LIST_TARGETS_FOR_POLICY, PolicyConstants.Handler.READ))
+                .done(targetIds -> {
+                    model.setTargetIds(targetIds);
+                    return ProgressEvent.progress(model, callbackContext);
+                })
+            )
+            .then(progress -> awsClientProxy.initiate("AWS-Organizations-Policy::ListTagsForResource", orgsClient, model, callbackContext)
+                .translateToServiceRequest(t -> listTagsForResourceRequest)
+                .makeServiceCall((listTagsRequest, proxyClient) -> OrgsConcurrentExecutor.join(listTagsFuture))
+                .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
+                                 handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, PolicyConstants.Action.LIST_TAGS_FOR_POLICY, PolicyConstants.Handler.READ))
+                .done(listTagsForResourceResponse -> {
+                    model.setTags(Translator.translateTagsFromSdkResponse(listTagsForResourceResponse.tags()));
+                    return ProgressEvent.defaultSuccessHandler(model);
+                })
+            );
     }
 
     protected DescribePolicyResponse describePolicy(final DescribePolicyRequest describePolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
@@ -69,75 +102,29 @@ public class ReadHandler extends BaseHandlerStd {
         return response;
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> listTargetsForPolicy(
-        final AmazonWebServicesClientProxy awsClientProxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final ResourceModel model,
-        final CallbackContext callbackContext,
-        final ProxyClient<OrganizationsClient> orgsClient,
-        final OrgsLoggerWrapper logger
+    // walks every ListTargetsForPolicy page, adding each page's target ids to policyTargetIds as soon as it arrives
+    protected Set<String> listAllTargets(
+        final String policyId,
+        final Set<String> policyTargetIds,
+        final ProxyClient<OrganizationsClient> orgsClient
     ) {
-        String policyId = model.getId();
-        Set<String> policyTargetIds = new HashSet<>();
-
-        logger.log(String.format("Listing targets for policyId: %s", policyId));
+        log.log(String.format("Listing targets for policyId: %s", policyId));
         String nextToken = null;
         do {
-            // since need to handle policyTarget list pagination manually, use try/catch for error handling
-            String finalNextToken = nextToken;
-            ProgressEvent<ResourceModel, CallbackContext> listPolicyProgressEvent = awsClientProxy.initiate("AWS-Organizations-Policy::listTargetsForPolicy", orgsClient, model, callbackContext)
-                    .translateToServiceRequest(t -> Translator.translateToListTargetsForPolicyRequest(policyId, finalNextToken))
-                    .makeServiceCall(this::listTargets)
-                    .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
-                            handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.LIST_TARGETS_FOR_POLICY, PolicyConstants.Handler.READ))
-                    .done(listTargetsForPolicyResponse -> {
-                        for (PolicyTargetSummary targetSummary : listTargetsForPolicyResponse.targets()) {
-                            policyTargetIds.add(targetSummary.targetId());
-                        }
-                        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .nextToken(listTargetsForPolicyResponse.nextToken())
-                                .status(OperationStatus.SUCCESS)
-                                .build();
-                    });
-            if( listPolicyProgressEvent.getStatus() != OperationStatus.SUCCESS){
-                return listPolicyProgressEvent;
+            final ListTargetsForPolicyResponse listTargetsForPolicyResponse =
+                listTargets(Translator.translateToListTargetsForPolicyRequest(policyId, nextToken), orgsClient);
+            for (PolicyTargetSummary targetSummary : listTargetsForPolicyResponse.targets()) {
+                policyTargetIds.add(targetSummary.targetId());
             }
-            nextToken = listPolicyProgressEvent.getNextToken();
-
+            nextToken = listTargetsForPolicyResponse.nextToken();
         } while (nextToken != null);
-
-        model.setTargetIds(policyTargetIds);
-        return ProgressEvent.progress(model, callbackContext);
+        return policyTargetIds;
     }
 
-    private  ListTargetsForPolicyResponse listTargets(ListTargetsForPolicyRequest listTargetsForPolicyRequest, ProxyClient<OrganizationsClient> orgsClient) {
+    private ListTargetsForPolicyResponse listTargets(ListTargetsForPolicyRequest listTargetsForPolicyRequest, ProxyClient<OrganizationsClient> orgsClient) {
         return orgsClient.injectCredentialsAndInvokeV2(listTargetsForPolicyRequest, orgsClient.client()::listTargetsForPolicy);
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> listTagsForPolicy(
-        final AmazonWebServicesClientProxy awsClientProxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final ResourceModel model,
-        final CallbackContext callbackContext,
-        final ProxyClient<OrganizationsClient> orgsClient,
-        final OrgsLoggerWrapper logger
-        ) {
-
-        String policyId = model.getId();
-        logger.log(String.format("Listing tags for policyId: %s.", policyId));
-
-        // ListTags currently returns all (max: 50) tags in a single call, so no need for pagination handling
-        return awsClientProxy.initiate("AWS-Organizations-Policy::ListTagsForResource", orgsClient, model, callbackContext)
-            .translateToServiceRequest(resourceModel -> Translator.translateToListTagsForResourceRequest(policyId))
-            .makeServiceCall(this::listTagsForResource)
-            .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
-                             handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, PolicyConstants.Action.LIST_TAGS_FOR_POLICY, PolicyConstants.Handler.READ))
-            .done(listTagsForResourceResponse -> {
-                model.setTags(Translator.translateTagsFromSdkResponse(listTagsForResourceResponse.tags()));
-                return ProgressEvent.defaultSuccessHandler(model);
-            });
-    }
-
     protected ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest listTagsForResourceRequest, final ProxyClient<OrganizationsClient> orgsClient) {
         log.log(String.format("Calling listTagsForResource API for policy [%s].", listTagsForResourceRequest.resourceId()));
         final ListTagsForResourceResponse response = orgsClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, orgsClient.client()::listTagsForResource);
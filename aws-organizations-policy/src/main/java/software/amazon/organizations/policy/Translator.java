@@ -5,8 +5,12 @@ import software.amazon.awssdk.services.organizations.model.CreatePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DeletePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DescribePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetRequest;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
 import software.amazon.awssdk.services.organizations.model.Tag;
@@ -15,10 +19,17 @@ import software.amazon.awssdk.services.organizations.model.UntagResourceRequest;
 import software.amazon.awssdk.services.organizations.model.UpdatePolicyRequest;
 import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Strings;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -38,6 +49,12 @@ import static software.amazon.organizations.policy.TagsHelper.buildTag;
  */
 public class Translator {
     private static final ObjectMapper MAPPER = new ObjectMapper();
+    // ObjectReader/ObjectWriter are immutable and thread-safe, so build them once instead of resolving
+    // the (de)serializers from the mapper on every policy content conversion
+    private static final ObjectReader CONTENT_READER = MAPPER.readerFor(Map.class);
+    private static final ObjectReader TREE_READER = MAPPER.reader();
+    private static final ObjectWriter CONTENT_WRITER = MAPPER.writer();
+    private static final ObjectReader NEXT_TOKEN_READER = MAPPER.readerFor(new TypeReference<Map<String, String>>() { });
 
     static CreatePolicyRequest translateToCreateRequest(final ResourceModel model, final ResourceHandlerRequest<ResourceModel> request) {
         String content = convertObjectToString(model.getContent());
@@ -72,6 +89,10 @@ public class Translator {
         return DescribePolicyRequest.builder().policyId(model.getId()).build();
     }
 
+    static DescribePolicyRequest translateToDescribePolicyRequest(final String policyId) {
+        return DescribePolicyRequest.builder().policyId(policyId).build();
+    }
+
     static DeletePolicyRequest translateToDeleteRequest(final ResourceModel model) {
         return DeletePolicyRequest.builder().policyId(model.getId()).build();
     }
@@ -92,6 +113,32 @@ public class Translator {
             .build();
     }
 
+    static ListPoliciesForTargetRequest translateToListPoliciesForTargetRequest(final String targetId, final String policyType, final String nextToken) {
+        return ListPoliciesForTargetRequest.builder()
+            .targetId(targetId)
+            .filter(policyType)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    static ListRootsRequest translateToListRootsRequest(final String nextToken) {
+        return ListRootsRequest.builder().nextToken(nextToken).build();
+    }
+
+    static ListOrganizationalUnitsForParentRequest translateToListOrganizationalUnitsForParentRequest(final String parentId, final String nextToken) {
+        return ListOrganizationalUnitsForParentRequest.builder()
+            .parentId(parentId)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    static ListAccountsForParentRequest translateToListAccountsForParentRequest(final String parentId, final String nextToken) {
+        return ListAccountsForParentRequest.builder()
+            .parentId(parentId)
+            .nextToken(nextToken)
+            .build();
+    }
+
     static ListTagsForResourceRequest translateToListTagsForResourceRequest(final String policyId) {
         return ListTagsForResourceRequest.builder().resourceId(policyId).build();
     }
@@ -156,6 +203,40 @@ public class Translator {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Encodes the per policy type next tokens of a multi-type listing into a single opaque token
+     * @param typeNextTokens
+     * @return
+     **/
+    static String encodeCompositeNextToken(final Map<String, String> typeNextTokens) {
+        try {
+            return Base64.getUrlEncoder().encodeToString(CONTENT_WRITER.writeValueAsBytes(typeNextTokens));
+        } catch (Exception e) {
+            throw new CfnHandlerInternalFailureException(e);
+        }
+    }
+
+    /**
+     * Decodes a token produced by encodeCompositeNextToken back into per policy type next tokens
+     * @param nextToken
+     * @return
+     **/
+    static Map<String, String> decodeCompositeNextToken(final String nextToken) {
+        final Map<String, String> typeNextTokens;
+        try {
+            typeNextTokens = NEXT_TOKEN_READER.readValue(new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new CfnInvalidRequestException(e);
+        }
+        // only the shape is checked: the first page lists whatever types the root reports, including ones newer than
+        // PolicyConstants.PolicyType, and ListPolicies itself rejects a type that does not exist
+        if (typeNextTokens == null || typeNextTokens.isEmpty() || typeNextTokens.entrySet().stream()
+            .anyMatch(entry -> Strings.isNullOrEmpty(entry.getKey()) || Strings.isNullOrEmpty(entry.getValue()))) {
+            throw new CfnInvalidRequestException(String.format("Malformed policy listing next token [%s]", nextToken));
+        }
+        return typeNextTokens;
+    }
+
     /**
      * Converts user inputted JSON to a String
      * @param content
@@ -166,7 +247,7 @@ public class Translator {
             if (content instanceof String) {
                 return (String)content;
             }
-            return MAPPER.writeValueAsString(content);
+            return CONTENT_WRITER.writeValueAsString(content);
         } catch (Exception e) {
             throw new CfnInvalidRequestException(e);
         }
@@ -179,7 +260,20 @@ public class Translator {
      **/
     static Object convertStringToObject(String content) {
         try {
-            return MAPPER.readValue(content, Map.class);
+            return CONTENT_READER.readValue(content);
+        } catch (Exception e) {
+            throw new CfnHandlerInternalFailureException(e);
+        }
+    }
+
+    /**
+     * Converts String to a JSON tree
+     * @param content
+     * @return
+     **/
+    static JsonNode convertStringToJsonNode(String content) {
+        try {
+            return TREE_READER.readTree(content);
         } catch (Exception e) {
             throw new CfnHandlerInternalFailureException(e);
         }
@@ -25,6 +25,15 @@ import java.util.Set;
 
 public class UpdateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final PolicyTypeEnablementCache policyTypeEnablementCache;
+
+    public UpdateHandler() {
+        this(PolicyTypeEnablementCache.shared());
+    }
+
+    public UpdateHandler(final PolicyTypeEnablementCache policyTypeEnablementCache) {
+        this.policyTypeEnablementCache = policyTypeEnablementCache;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -72,7 +81,23 @@ public class UpdateHandler extends BaseHandlerStd {
                 TagsHelper.convertPolicyTagToOrganizationTag(newTags),
                 request.getDesiredResourceTags());
 
+        final List<String> targetsToAttach = filterTargetsNotIn(model.getTargetIds(), previousModel.getTargetIds());
+        final List<String> targetsToRemove = filterTargetsNotIn(previousModel.getTargetIds(), model.getTargetIds());
+
         return ProgressEvent.progress(model, callbackContext)
+            .then(progress -> {
+                if (progress.getCallbackContext().isPolicyUpdated()) {
+                    return progress;
+                }
+                return checkIfPolicyTypeEnabled(policyTypeEnablementCache, request, progress, orgsClient, logger);
+            })
+            .then(progress -> {
+                if (progress.getCallbackContext().isPolicyUpdated() || targetsToAttach.isEmpty()) {
+                    return progress;
+                }
+                // validate the new targets before UpdatePolicy, so a bad target set doesn't leave the content updated but the targets unchanged
+                return checkAttachmentPreflight(policyId, targetsToAttach, model, callbackContext, orgsClient, logger);
+            })
             .then(progress ->{
                     if (progress.getCallbackContext().isPolicyUpdated()) {
                         log.log(String.format("UpdatePolicy has been entered in previous handler invoke for policy [%s]. Skip to next step.", model.getId()));
@@ -83,7 +108,10 @@ public class UpdateHandler extends BaseHandlerStd {
                     return awsClientProxy.initiate("AWS-Organizations-Policy::UpdatePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                                .translateToServiceRequest(Translator::translateToUpdateRequest)
                                .makeServiceCall(this::updatePolicy)
-                               .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.UPDATE_POLICY, PolicyConstants.Handler.UPDATE))
+                               .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                                   policyTypeEnablementCache.invalidateOn(request.getAwsAccountId(), e);
+                                   return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.UPDATE_POLICY, PolicyConstants.Handler.UPDATE);
+                               })
                                .done(UpdatePolicyResponse -> {
                                    progress.getCallbackContext().setPolicyUpdated(true);
                                    return ProgressEvent.progress(model, callbackContext);
@@ -91,7 +119,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 }
 
             )
-            .then(progress -> handleTargets(request, awsClientProxy, model, callbackContext, request.getDesiredResourceState().getTargetIds(), request.getPreviousResourceState().getTargetIds(), policyId, orgsClient, logger))
+            .then(progress -> handleTargets(request, awsClientProxy, model, callbackContext, targetsToAttach, targetsToRemove, policyId, orgsClient, logger))
             .then(progress -> handleTagging(awsClientProxy, model, callbackContext, allNewTags, allPreviousTags, policyId, orgsClient, logger))
             .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
     }
@@ -102,37 +130,31 @@ public class UpdateHandler extends BaseHandlerStd {
         return response;
     }
 
+    // filters the targets that are not in the other set, e.g. desired targets that were not previously attached
+    private static List<String> filterTargetsNotIn(final Set<String> targets, final Set<String> otherTargets) {
+        final List<String> filteredTargets = new ArrayList<>();
+        if (!CollectionUtils.isNullOrEmpty(targets)) {
+            for (String target : targets) {
+                if (otherTargets == null || !otherTargets.contains(target)) {
+                    filteredTargets.add(target);
+                }
+            }
+        }
+        return filteredTargets;
+    }
+
     // handles attaching to targets: adding to new and removing from old targets
     private ProgressEvent<ResourceModel, CallbackContext> handleTargets(
         final ResourceHandlerRequest<ResourceModel> request,
         final AmazonWebServicesClientProxy awsClientProxy,
         final ResourceModel model,
         final CallbackContext callbackContext,
-        final Set<String> desiredTargets,
-        final Set<String> previousTargets,
+        final List<String> targetsToAttach,
+        final List<String> targetsToRemove,
         final String policyId,
         final ProxyClient<OrganizationsClient> orgsClient,
         final OrgsLoggerWrapper logger
     ) {
-        // filter previous and desired lists to determine which to attach and remove
-        final List<String> targetsToAttach = new ArrayList<>();
-        if (!CollectionUtils.isNullOrEmpty(desiredTargets)) {
-            for (String desired : desiredTargets) {
-                if (previousTargets == null || !previousTargets.contains(desired)) {
-                    targetsToAttach.add(desired);
-                }
-            }
-        }
-
-        final List<String> targetsToRemove = new ArrayList<>();
-        if (!CollectionUtils.isNullOrEmpty(previousTargets)) {
-            for (String previous : previousTargets) {
-                if (desiredTargets == null || !desiredTargets.contains(previous)) {
-                    targetsToRemove.add(previous);
-                }
-            }
-        }
-
         // make the calls to attach to new targets
         if (!CollectionUtils.isNullOrEmpty(targetsToAttach)) {
             for (String attachTargetId : targetsToAttach) {
@@ -146,6 +168,7 @@ public class UpdateHandler extends BaseHandlerStd {
                             + "policyId [%s], targetId [%s]. Continuing with update...",
                             e.getClass().getName(), policyId, attachTargetId));
                     } else {
+                        policyTypeEnablementCache.invalidateOn(request.getAwsAccountId(), e);
                         return handleErrorInGeneral(attachPolicyRequest, e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.ATTACH_POLICY, PolicyConstants.Handler.UPDATE);
                     }
                 }
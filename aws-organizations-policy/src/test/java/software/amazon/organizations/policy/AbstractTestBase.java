@@ -5,9 +5,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableSet;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -17,9 +23,13 @@ import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.organizations.model.DescribePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
 import software.amazon.awssdk.services.organizations.model.Policy;
 import software.amazon.awssdk.services.organizations.model.PolicySummary;
 import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeStatus;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeSummary;
+import software.amazon.awssdk.services.organizations.model.Root;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -49,7 +59,7 @@ public class AbstractTestBase {
     protected static final Set<String> TEST_TARGET_IDS = ImmutableSet.of(TEST_TARGET_ROOT_ID, TEST_TARGET_OU_ID);
     protected static final Set<String> TEST_UPDATED_TARGET_IDS = ImmutableSet.of(TEST_TARGET_ROOT_ID, TEST_TARGET_ACCOUNT_ID);
     protected static final String TEST_NEXT_TOKEN = "mockNextTokenItem";
-    protected static final String POLICY_SCHEMA_SHA256_HEXSTRING = "4F8BADE6D11D6984EECB9B8561FCD73697E744E1A2AD44F069D73D08C495962B";
+    protected static final String POLICY_SCHEMA_SHA256_HEXSTRING = "28EE313DB683E6810817DCB56897DCC98B170438540C94790513DB1E97363E78";
     protected static final String POLICY_JSON_SCHEMA_FILE_NAME = "aws-organizations-policy.json";
 
     protected static final Credentials MOCK_CREDENTIALS;
@@ -105,6 +115,28 @@ public class AbstractTestBase {
         };
     }
 
+    static PolicyTypeEnablementCache generateEmptyPolicyTypeEnablementCache() {
+        return new PolicyTypeEnablementCache(Clock.systemUTC(), Duration.ofSeconds(PolicyConstants.POLICY_TYPE_CACHE_TTL_SECONDS));
+    }
+
+    // cache with every policy type enabled, so handler tests do not depend on ListRoots
+    static PolicyTypeEnablementCache generateAllEnabledPolicyTypeEnablementCache() {
+        final PolicyTypeEnablementCache cache = generateEmptyPolicyTypeEnablementCache();
+        cache.put(null, Arrays.stream(PolicyConstants.PolicyType.values()).map(PolicyConstants.PolicyType::toString).collect(Collectors.toSet()));
+        return cache;
+    }
+
+    static ListRootsResponse generateListRootsResponse(final String... enabledPolicyTypes) {
+        return ListRootsResponse.builder()
+            .roots(Root.builder()
+                .id(TEST_TARGET_ROOT_ID)
+                .policyTypes(Arrays.stream(enabledPolicyTypes)
+                    .map(type -> PolicyTypeSummary.builder().type(type).status(PolicyTypeStatus.ENABLED).build())
+                    .collect(Collectors.toList()))
+                .build())
+            .build();
+    }
+
     // recommended content type is JSON
     static ResourceModel generateInitialResourceModel(boolean hasTargets, boolean hasTags) {
         return ResourceModel.builder()
@@ -196,6 +228,14 @@ public class AbstractTestBase {
             .build();
     }
 
+    static List<PolicySummary> getPolicySummariesWithIdPrefix(final String idPrefix, final int count) {
+        final List<PolicySummary> policySummaries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            policySummaries.add(PolicySummary.builder().id(idPrefix + i).type(TEST_TYPE).build());
+        }
+        return policySummaries;
+    }
+
     static PolicyTargetSummary getPolicyTargetSummaryWithTargetId(final String targetId) {
         return PolicyTargetSummary.builder()
             .targetId(targetId)
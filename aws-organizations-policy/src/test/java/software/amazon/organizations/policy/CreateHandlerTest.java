@@ -13,8 +13,12 @@ import software.amazon.awssdk.services.organizations.model.CreatePolicyResponse;
 import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
 import software.amazon.awssdk.services.organizations.model.DescribePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DescribePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyException;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
@@ -61,22 +65,45 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        createHandler = new CreateHandler();
+        createHandler = new CreateHandler(generateAllEnabledPolicyTypeEnablementCache());
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
     }
 
     @Test
-    public void handleRequest_NoTargetsNoTags_SimpleRequest() {
+    public void handleRequest_PolicyTypeNotEnabled_FailsWithoutCallingCreate() {
+        final PolicyTypeEnablementCache policyTypeEnablementCache = generateEmptyPolicyTypeEnablementCache();
+        policyTypeEnablementCache.put(null, Collections.singleton(TEST_TYPE));
         final ResourceModel model = generateInitialResourceModel(false, false);
+        model.setType(TEST_TYPE_CHANGED);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
             .build();
+        // the cached answer is confirmed with a fresh ListRoots before the request is rejected
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(generateListRootsResponse(TEST_TYPE));
 
-        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder().policies(Collections.<PolicySummary>emptyList()).build());
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler(policyTypeEnablementCache)
+            .handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains(TEST_TYPE_CHANGED);
+
+        verify(mockProxyClient.client()).listRoots(any(ListRootsRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_NoTargetsNoTags_SimpleRequest() {
+        final ResourceModel model = generateInitialResourceModel(false, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
 
         final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
         when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(createPolicyResponse);
@@ -114,7 +141,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
@@ -131,11 +157,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                                                                   .desiredResourceState(model)
                                                                   .build();
-        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder()
-                        .policies(Collections.<PolicySummary>emptyList())
-                        .build());
-
         final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
         when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(createPolicyResponse);
 
@@ -172,7 +193,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
@@ -197,11 +217,6 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
-        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder()
-                        .policies(Collections.<PolicySummary>emptyList())
-                        .build());
-
         final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
         when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(createPolicyResponse);
 
@@ -238,7 +253,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
@@ -257,13 +271,9 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceTags(defaultStackTags)
             .build();
 
-        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder()
-                        .policies(Collections.<PolicySummary>emptyList())
-                        .build());
-
         final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
         when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(createPolicyResponse);
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
 
         final AttachPolicyResponse attachPolicyResponse = AttachPolicyResponse.builder().build();
         when(mockProxyClient.client().attachPolicy(any(AttachPolicyRequest.class))).thenReturn(attachPolicyResponse);
@@ -300,13 +310,13 @@ public class CreateHandlerTest extends AbstractTestBase {
                 TagsHelper.convertPolicyTagToOrganizationTag(response.getResourceModel().getTags()),
                 TagTestResourceHelper.defaultTags)).isTrue();
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client(), times(2)).attachPolicy(any(AttachPolicyRequest.class));
         verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
         verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
+        verify(mockProxyClient.client(), times(2)).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -319,20 +329,9 @@ public class CreateHandlerTest extends AbstractTestBase {
                                                                   .desiredResourceState(model)
                                                                   .desiredResourceTags(defaultStackTags)
                                                                   .build();
-        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder()
-                        .policies(Collections.<PolicySummary>emptyList())
-                        .build())
-                .thenReturn(ListPoliciesResponse.builder()
-                        .policies(Collections.singletonList(PolicySummary.builder()
-                                .id(TEST_POLICY_ID)
-                                .name(TEST_POLICY_NAME)
-                                .type(TEST_TYPE)
-                                .build()))
-                        .build());
-
         final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
         when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(createPolicyResponse);
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
 
         when(mockProxyClient.client().attachPolicy(any(AttachPolicyRequest.class))).thenThrow(ConcurrentModificationException.class);
 
@@ -360,10 +359,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
 
         // verify createPolicy is only invoked 1 time and attachPolicy invoked at least maxRetryCount times
-        verify(mockProxyClient.client(), atLeastOnce()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client(), times(1)).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client(), atLeast(3)).attachPolicy(any(AttachPolicyRequest.class));
 
+        verify(mockProxyClient.client(), times(2)).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -433,13 +432,9 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
-        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder()
-                        .policies(Collections.<PolicySummary>emptyList())
-                        .build());
-
         final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
         when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(createPolicyResponse);
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
 
         when(mockProxyClient.client().attachPolicy(any(AttachPolicyRequest.class))).thenThrow(TargetNotFoundException.class);
 
@@ -450,9 +445,39 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client()).attachPolicy(any(AttachPolicyRequest.class));
+        verify(mockProxyClient.client(), times(2)).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_WithTargets_PreflightFindsInvalidTargets_FailsBeforeCreatePolicy() {
+        final ResourceModel model = generateInitialResourceModel(true, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenAnswer(invocation -> {
+            final ListPoliciesForTargetRequest listPoliciesForTargetRequest = invocation.getArgument(0);
+            if (TEST_TARGET_OU_ID.equals(listPoliciesForTargetRequest.targetId())) {
+                throw TargetNotFoundException.builder().build();
+            }
+            return ListPoliciesForTargetResponse.builder()
+                .policies(getPolicySummariesWithIdPrefix("p-existing", PolicyConstants.PolicyType.SERVICE_CONTROL_POLICY.getMaxAttachmentsPerTarget()))
+                .build();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(response.getMessage()).contains(TEST_TARGET_OU_ID).contains(TEST_TARGET_ROOT_ID);
+
+        verify(mockProxyClient.client(), times(2)).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -466,6 +491,8 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceTags(defaultStackTags)
             .build();
 
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
+        when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenThrow(DuplicatePolicyException.class);
         when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
                 .thenReturn(ListPoliciesResponse.builder()
                         .policies(Collections.singletonList(PolicySummary.builder()
@@ -482,8 +509,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
         assertThat(response.getMessage()).isEqualTo(String.format("Policy already exists for policy name [%s].", model.getName()));
 
+        verify(mockProxyClient.client(), times(2)).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
+        verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
-        verify(mockProxyClient.client(), times(0)).createPolicy(any(CreatePolicyRequest.class));
+        verify(mockProxyClient.client(), times(0)).attachPolicy(any(AttachPolicyRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -496,15 +525,19 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
-        final PolicySummary existingPolicy = PolicySummary.builder()
-                .id(TEST_POLICY_ID)
-                .name(TEST_POLICY_NAME)
-                .type(TEST_TYPE)
-                .build();
+        when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenThrow(DuplicatePolicyException.class);
+        // the existing policy id is only looked up once CreatePolicy reported the duplicate
         when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder().policies(existingPolicy).build());
+            .thenReturn(ListPoliciesResponse.builder()
+                .policies(PolicySummary.builder().id(TEST_POLICY_ID_CHANGED).name(TEST_POLICY_UPDATED_NAME).type(TEST_TYPE).build())
+                .nextToken(TEST_NEXT_TOKEN)
+                .build())
+            .thenReturn(ListPoliciesResponse.builder()
+                .policies(PolicySummary.builder().id(TEST_POLICY_ID).name(TEST_POLICY_NAME).type(TEST_TYPE).build())
+                .build());
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -514,10 +547,34 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isEqualTo(String.format("Policy already exists for policy name [%s].", TEST_POLICY_NAME));
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(context.isDidResourceAlreadyExist()).isTrue();
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
-        verify(mockProxyClient.client(), times(0)).createPolicy(any(CreatePolicyRequest.class));
+        verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
+        verify(mockProxyClient.client(), times(2)).listPolicies(any(ListPoliciesRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_PolicyAlreadyExists_LookupFails_StillAlreadyExists() {
+        final ResourceModel model = generateInitialResourceModel(false, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
 
+        when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenThrow(DuplicatePolicyException.class);
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenThrow(ConcurrentModificationException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getResourceModel().getId()).isNull();
+
+        verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
+        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -530,9 +587,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
-        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
-                .thenReturn(ListPoliciesResponse.builder().policies(Collections.<PolicySummary>emptyList()).build());
-
         final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
         when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class)))
                 .thenReturn(createPolicyResponse);
@@ -561,7 +615,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        // CreatePolicy is called directly, without listing the policies of the type first
+        verify(mockProxyClient.client(), times(0)).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
         verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
@@ -0,0 +1,134 @@
+package software.amazon.organizations.policy;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Policy;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EffectivePolicyEvaluatorTest extends AbstractTestBase {
+    private static final String TEST_ROOT_ACCOUNT_ID = "210987654321";
+    private static final String ROOT_POLICY_ID = "p-root";
+    private static final String OU_POLICY_ID = "p-ou";
+    private static final String ACCOUNT_POLICY_ID = "p-account";
+    private static final Map<String, String> POLICY_CONTENTS = ImmutableMap.of(
+        ROOT_POLICY_ID, "{\"tags\":{\"costcenter\":{\"tag_key\":{\"@@assign\":\"CostCenter\"},\"tag_value\":{\"@@assign\":[\"100\",\"200\"]},"
+            + "\"@@operators_allowed_for_child_policies\":[\"@@append\",\"@@remove\"]}}}",
+        OU_POLICY_ID, "{\"tags\":{\"costcenter\":{\"tag_key\":{\"@@assign\":\"costcenter\"},\"tag_value\":{\"@@append\":[\"300\"]}}}}",
+        ACCOUNT_POLICY_ID, "{\"tags\":{\"costcenter\":{\"tag_value\":{\"@@remove\":[\"100\"]}}}}");
+
+    private OrganizationsClient mockOrgsClient;
+    private ProxyClient<OrganizationsClient> mockProxyClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+    }
+
+    // root -> OU -> account with the OU and account policies, root -> account sharing the root policy
+    private void stubOrganization() {
+        when(mockOrgsClient.listRoots(any(ListRootsRequest.class)))
+            .thenReturn(ListRootsResponse.builder().roots(Root.builder().id(TEST_TARGET_ROOT_ID).build()).build());
+        when(mockOrgsClient.listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class))).thenAnswer(invocation -> {
+            final ListOrganizationalUnitsForParentRequest listRequest = invocation.getArgument(0);
+            return TEST_TARGET_ROOT_ID.equals(listRequest.parentId())
+                ? ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(OrganizationalUnit.builder().id(TEST_TARGET_OU_ID).build()).build()
+                : ListOrganizationalUnitsForParentResponse.builder().build();
+        });
+        when(mockOrgsClient.listAccountsForParent(any(ListAccountsForParentRequest.class))).thenAnswer(invocation -> {
+            final ListAccountsForParentRequest listRequest = invocation.getArgument(0);
+            final String childAccountId = TEST_TARGET_ROOT_ID.equals(listRequest.parentId()) ? TEST_ROOT_ACCOUNT_ID : TEST_TARGET_ACCOUNT_ID;
+            return ListAccountsForParentResponse.builder().accounts(Account.builder().id(childAccountId).build()).build();
+        });
+        final Map<String, String> policyByTarget = ImmutableMap.of(
+            TEST_TARGET_ROOT_ID, ROOT_POLICY_ID,
+            TEST_TARGET_OU_ID, OU_POLICY_ID,
+            TEST_TARGET_ACCOUNT_ID, ACCOUNT_POLICY_ID,
+            TEST_ROOT_ACCOUNT_ID, ROOT_POLICY_ID);
+        when(mockOrgsClient.listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenAnswer(invocation -> {
+            final ListPoliciesForTargetRequest listRequest = invocation.getArgument(0);
+            return ListPoliciesForTargetResponse.builder()
+                .policies(PolicySummary.builder().id(policyByTarget.get(listRequest.targetId())).build())
+                .build();
+        });
+        when(mockOrgsClient.describePolicy(any(DescribePolicyRequest.class))).thenAnswer(invocation -> {
+            final DescribePolicyRequest describeRequest = invocation.getArgument(0);
+            return DescribePolicyResponse.builder()
+                .policy(Policy.builder().content(POLICY_CONTENTS.get(describeRequest.policyId())).build())
+                .build();
+        });
+    }
+
+    @Test
+    public void getEffectivePolicy_AppliesInheritanceOperatorsDownTheTree() {
+        stubOrganization();
+
+        final EffectivePolicyEvaluator evaluator = EffectivePolicyEvaluator.load(mockProxyClient, logger, TEST_TYPE_CHANGED);
+
+        assertThat(evaluator.getPolicyType()).isEqualTo(TEST_TYPE_CHANGED);
+        assertThat(evaluator.getAccountIds()).containsExactlyInAnyOrder(TEST_ROOT_ACCOUNT_ID, TEST_TARGET_ACCOUNT_ID);
+        // the OU's attempt to reassign tag_key is dropped because the root only allows @@append and @@remove
+        assertThat(evaluator.getEffectivePolicy(TEST_TARGET_OU_ID)).isEqualTo(Translator.convertStringToJsonNode(
+            "{\"tags\":{\"costcenter\":{\"tag_key\":\"CostCenter\",\"tag_value\":[\"100\",\"200\",\"300\"]}}}"));
+
+        final Map<String, JsonNode> effectivePolicies = evaluator.getEffectivePoliciesForAccounts();
+        assertThat(effectivePolicies.get(TEST_TARGET_ACCOUNT_ID)).isEqualTo(Translator.convertStringToJsonNode(
+            "{\"tags\":{\"costcenter\":{\"tag_key\":\"CostCenter\",\"tag_value\":[\"200\",\"300\"]}}}"));
+        assertThat(effectivePolicies.get(TEST_ROOT_ACCOUNT_ID)).isEqualTo(Translator.convertStringToJsonNode(
+            "{\"tags\":{\"costcenter\":{\"tag_key\":\"CostCenter\",\"tag_value\":[\"100\",\"200\"]}}}"));
+        assertThat(evaluator.getEffectivePolicy(TEST_TARGET_ROOT_ID)).isEqualTo(effectivePolicies.get(TEST_ROOT_ACCOUNT_ID));
+
+        // one crawl of the tree, and every policy described once even when it is attached to several targets
+        verify(mockOrgsClient, times(1)).listRoots(any(ListRootsRequest.class));
+        verify(mockOrgsClient, times(4)).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
+        verify(mockOrgsClient, times(3)).describePolicy(any(DescribePolicyRequest.class));
+    }
+
+    @Test
+    public void getEffectivePolicy_UnknownTarget_Throws() {
+        when(mockOrgsClient.listRoots(any(ListRootsRequest.class)))
+            .thenReturn(ListRootsResponse.builder().roots(Collections.emptyList()).build());
+
+        final EffectivePolicyEvaluator evaluator = EffectivePolicyEvaluator.load(mockProxyClient, logger, PolicyConstants.PolicyType.BACKUP_POLICY.toString());
+
+        assertThat(evaluator.getEffectivePoliciesForAccounts()).isEmpty();
+        assertThatThrownBy(() -> evaluator.getEffectivePolicy(TEST_TARGET_ACCOUNT_ID)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void load_UnsupportedPolicyType_Throws() {
+        assertThatThrownBy(() -> EffectivePolicyEvaluator.load(mockProxyClient, logger, TEST_TYPE)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package software.amazon.organizations.policy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EffectivePolicyStateTest extends AbstractTestBase {
+
+    @Test
+    public void merge_AssignAppendRemove() {
+        final EffectivePolicyState parent = EffectivePolicyState.EMPTY.merge(Collections.singletonList(json(
+            "{\"tags\":{\"team\":{\"tag_key\":{\"@@assign\":\"Team\"},\"tag_value\":{\"@@assign\":[\"a\",\"b\"]},\"enforced_for\":\"ec2:instance\"}}}")));
+        final EffectivePolicyState child = parent.merge(Collections.singletonList(json(
+            "{\"tags\":{\"team\":{\"tag_value\":{\"@@append\":[\"b\",\"c\"],\"@@remove\":[\"a\"]}}}}")));
+
+        assertThat(parent.getDocument()).isEqualTo(json(
+            "{\"tags\":{\"team\":{\"tag_key\":\"Team\",\"tag_value\":[\"a\",\"b\"],\"enforced_for\":\"ec2:instance\"}}}"));
+        assertThat(child.getDocument()).isEqualTo(json(
+            "{\"tags\":{\"team\":{\"tag_key\":\"Team\",\"tag_value\":[\"b\",\"c\"],\"enforced_for\":\"ec2:instance\"}}}"));
+    }
+
+    @Test
+    public void merge_AppendToScalarAndMissing_RemoveEverything() {
+        final EffectivePolicyState state = EffectivePolicyState.EMPTY.merge(Arrays.asList(
+            json("{\"plans\":{\"scalar\":{\"@@assign\":\"x\"},\"emptied\":{\"@@assign\":[\"y\"]},\"single\":{\"@@assign\":\"z\"}}}"),
+            json("{\"plans\":{\"scalar\":{\"@@append\":\"w\"},\"missing\":{\"@@append\":\"v\"},\"emptied\":{\"@@remove\":\"y\"},"
+                + "\"single\":{\"@@remove\":[\"z\"]},\"absent\":{\"@@remove\":[\"u\"]}}}")));
+
+        assertThat(state.getDocument()).isEqualTo(json("{\"plans\":{\"scalar\":[\"x\",\"w\"],\"missing\":[\"v\"]}}"));
+    }
+
+    @Test
+    public void merge_ChildOperatorsRestrictDescendantsOnly() {
+        final EffectivePolicyState root = EffectivePolicyState.EMPTY.merge(Collections.singletonList(json(
+            "{\"tags\":{\"team\":{\"tag_value\":{\"@@assign\":[\"a\"],\"@@operators_allowed_for_child_policies\":[\"@@append\"]}}},"
+                + "\"locked\":{\"@@operators_allowed_for_child_policies\":[\"@@none\"],\"key\":\"root\"}}")));
+        // @@all on a child can't widen what the parent allowed
+        final EffectivePolicyState ou = root.merge(Collections.singletonList(json(
+            "{\"tags\":{\"team\":{\"tag_value\":{\"@@assign\":[\"b\"],\"@@append\":[\"c\"],\"@@operators_allowed_for_child_policies\":[\"@@all\"]}}},"
+                + "\"locked\":{\"key\":\"ou\"},\"free\":\"ou\"}")));
+        final EffectivePolicyState account = ou.merge(Collections.singletonList(json(
+            "{\"tags\":{\"team\":{\"tag_value\":{\"@@remove\":[\"a\"],\"@@append\":[\"d\"]}}}}")));
+
+        assertThat(ou.getDocument()).isEqualTo(json("{\"tags\":{\"team\":{\"tag_value\":[\"a\",\"c\"]}},\"locked\":{\"key\":\"root\"},\"free\":\"ou\"}"));
+        assertThat(account.getDocument()).isEqualTo(json("{\"tags\":{\"team\":{\"tag_value\":[\"a\",\"c\",\"d\"]}},\"locked\":{\"key\":\"root\"},\"free\":\"ou\"}"));
+    }
+
+    @Test
+    public void merge_PoliciesOnSameNode_TightestChildOperatorsApply() {
+        // the second policy allows more than the first, but the restrictions of both must hold for the children
+        final EffectivePolicyState root = EffectivePolicyState.EMPTY.merge(Arrays.asList(
+            json("{\"tags\":{\"team\":{\"tag_value\":{\"@@assign\":[\"a\"],\"@@operators_allowed_for_child_policies\":[\"@@append\"]}}}}"),
+            json("{\"tags\":{\"team\":{\"tag_value\":{\"@@append\":[\"b\"],\"@@operators_allowed_for_child_policies\":[\"@@assign\",\"@@append\"]}}}}")));
+        final EffectivePolicyState child = root.merge(Collections.singletonList(json(
+            "{\"tags\":{\"team\":{\"tag_value\":{\"@@assign\":[\"z\"],\"@@append\":[\"d\"]}}}}")));
+
+        assertThat(child.getDocument()).isEqualTo(json("{\"tags\":{\"team\":{\"tag_value\":[\"a\",\"b\",\"d\"]}}}"));
+    }
+
+    @Test
+    public void merge_NoneAtTopLevelBlocksEverything() {
+        final EffectivePolicyState root = EffectivePolicyState.EMPTY.merge(Collections.singletonList(json(
+            "{\"@@operators_allowed_for_child_policies\":[\"@@none\"],\"key\":{\"@@assign\":\"root\"}}")));
+        final EffectivePolicyState child = root.merge(Arrays.asList(json("{\"key\":{\"@@assign\":\"child\"},\"other\":\"child\"}"), null));
+
+        assertThat(child.getDocument()).isEqualTo(json("{\"key\":\"root\"}"));
+    }
+
+    @Test
+    public void merge_NoPolicies_ReturnsSameState() {
+        assertThat(EffectivePolicyState.EMPTY.merge(Collections.emptyList())).isSameAs(EffectivePolicyState.EMPTY);
+    }
+
+    @Test
+    public void getDocument_ReturnsCopy() {
+        final EffectivePolicyState state = EffectivePolicyState.EMPTY.merge(Collections.singletonList(json("{\"key\":\"value\"}")));
+
+        ((ObjectNode) state.getDocument()).put("key", "changed");
+
+        assertThat(state.getDocument()).isEqualTo(json("{\"key\":\"value\"}"));
+    }
+
+    private static JsonNode json(final String content) {
+        return Translator.convertStringToJsonNode(content);
+    }
+}
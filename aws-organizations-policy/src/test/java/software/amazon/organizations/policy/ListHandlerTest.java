@@ -1,10 +1,21 @@
 package software.amazon.organizations.policy;
 
+import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyResponse;
 import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeStatus;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeSummary;
+import software.amazon.awssdk.services.organizations.model.Root;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -14,6 +25,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -21,6 +33,7 @@ import java.time.Duration;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -40,7 +53,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        listHandlerToTest = new ListHandler();
+        listHandlerToTest = new ListHandler(generateEmptyPolicyTypeEnablementCache());
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -61,6 +74,7 @@ public class ListHandlerTest extends AbstractTestBase {
             .nextToken(TEST_NEXT_TOKEN)
             .build();
         when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenReturn(listPoliciesResponse);
+        stubEnrichment(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -68,6 +82,7 @@ public class ListHandlerTest extends AbstractTestBase {
         verifySuccessResponse(response);
 
         verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verifyEnrichment(1, true);
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -100,6 +115,7 @@ public class ListHandlerTest extends AbstractTestBase {
             .policies(Arrays.asList(getMockPolicySummaryWithType(PolicyConstants.PolicyType.TAG_POLICY.toString())))
             .build();
         when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenReturn(listPoliciesResponse);
+        stubEnrichment(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -116,6 +132,7 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verifyEnrichment(1, true);
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -135,6 +152,7 @@ public class ListHandlerTest extends AbstractTestBase {
             .nextToken(null)
             .build();
         when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenReturn(listPoliciesResponse);
+        stubEnrichment(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -151,6 +169,7 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verifyEnrichment(1, true);
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -169,6 +188,7 @@ public class ListHandlerTest extends AbstractTestBase {
             .policies(Arrays.asList(getMockPolicySummaryWithType(PolicyConstants.PolicyType.AISERVICES_OPT_OUT_POLICY.toString())))
             .build();
         when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenReturn(listPoliciesResponse);
+        stubEnrichment(true);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -185,6 +205,7 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verifyEnrichment(1, true);
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -205,22 +226,139 @@ public class ListHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequest_NullDesiredModelType_Fails_With_CfnInvalidRequest() {
+    public void handleRequest_NullDesiredModelType_ListsAllEnabledTypesInParallel() {
         final ResourceModel noPolicyTypeModel = ResourceModel.builder()
             .build();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(noPolicyTypeModel)
             .build();
 
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+            .roots(Root.builder()
+                .id(TEST_TARGET_ROOT_ID)
+                .policyTypes(
+                    PolicyTypeSummary.builder().type(PolicyConstants.PolicyType.SERVICE_CONTROL_POLICY.toString()).status(PolicyTypeStatus.ENABLED).build(),
+                    PolicyTypeSummary.builder().type(PolicyConstants.PolicyType.TAG_POLICY.toString()).status(PolicyTypeStatus.ENABLED).build(),
+                    PolicyTypeSummary.builder().type(PolicyConstants.PolicyType.BACKUP_POLICY.toString()).status(PolicyTypeStatus.PENDING_DISABLE).build())
+                .build())
+            .build());
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenAnswer(invocation -> {
+            final ListPoliciesRequest listPoliciesRequest = invocation.getArgument(0);
+            return ListPoliciesResponse.builder()
+                .policies(getMockPolicySummaryWithType(listPoliciesRequest.filterAsString()))
+                .nextToken(PolicyConstants.PolicyType.TAG_POLICY.toString().equals(listPoliciesRequest.filterAsString()) ? TEST_NEXT_TOKEN : null)
+                .build();
+        });
+        stubEnrichment(false);
+
         final ProgressEvent<ResourceModel, CallbackContext> response =
             listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
         assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getType)
+            .containsExactly(PolicyConstants.PolicyType.SERVICE_CONTROL_POLICY.toString(), PolicyConstants.PolicyType.TAG_POLICY.toString());
+        assertThat(response.getNextToken()).isNotNull();
+        assertThat(Translator.decodeCompositeNextToken(response.getNextToken()))
+            .containsExactly(entry(PolicyConstants.PolicyType.TAG_POLICY.toString(), TEST_NEXT_TOKEN));
+
+        verify(mockProxyClient.client()).listRoots(any(ListRootsRequest.class));
+        verify(mockProxyClient.client(), times(2)).listPolicies(any(ListPoliciesRequest.class));
+        verifyEnrichment(2, false);
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_NullDesiredModelType_WithCompositeNextToken_ResumesPendingTypesOnly() {
+        final String compositeNextToken = Translator.encodeCompositeNextToken(
+            ImmutableMap.of(PolicyConstants.PolicyType.TAG_POLICY.toString(), TEST_NEXT_TOKEN));
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken(compositeNextToken)
+            .build();
+
+        final ArgumentCaptor<ListPoliciesRequest> listPoliciesRequestCaptor = ArgumentCaptor.forClass(ListPoliciesRequest.class);
+        when(mockProxyClient.client().listPolicies(listPoliciesRequestCaptor.capture())).thenReturn(ListPoliciesResponse.builder()
+            .policies(getMockPolicySummaryWithType(PolicyConstants.PolicyType.TAG_POLICY.toString()))
+            .build());
+        stubEnrichment(false);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(listPoliciesRequestCaptor.getValue().filterAsString()).isEqualTo(PolicyConstants.PolicyType.TAG_POLICY.toString());
+        assertThat(listPoliciesRequestCaptor.getValue().nextToken()).isEqualTo(TEST_NEXT_TOKEN);
+
+        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verifyEnrichment(1, false);
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_NullDesiredModelType_WithCompositeNextToken_ResumesTypeNewerThanPolicyTypeEnum() {
+        final String newerPolicyType = "CHATBOT_POLICY";
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken(Translator.encodeCompositeNextToken(ImmutableMap.of(newerPolicyType, TEST_NEXT_TOKEN)))
+            .build();
+
+        final ArgumentCaptor<ListPoliciesRequest> listPoliciesRequestCaptor = ArgumentCaptor.forClass(ListPoliciesRequest.class);
+        when(mockProxyClient.client().listPolicies(listPoliciesRequestCaptor.capture())).thenReturn(ListPoliciesResponse.builder()
+            .policies(getMockPolicySummaryWithType(newerPolicyType))
+            .build());
+        stubEnrichment(false);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(listPoliciesRequestCaptor.getValue().filterAsString()).isEqualTo(newerPolicyType);
+        assertThat(listPoliciesRequestCaptor.getValue().nextToken()).isEqualTo(TEST_NEXT_TOKEN);
+
+        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verifyEnrichment(1, false);
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_NullDesiredModelType_InvalidNextToken_Fails_With_CfnInvalidRequest() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken(TEST_NEXT_TOKEN)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
-        assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        verifyNoMoreInteractions(mockOrgsClient);
     }
 
+    @Test
+    public void handleRequest_NullDesiredModelType_ListPoliciesFails_With_ServiceInternalError() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken(Translator.encodeCompositeNextToken(ImmutableMap.of(TEST_TYPE, TEST_NEXT_TOKEN)))
+            .build();
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenThrow(ServiceException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
 
     protected PolicySummary getMockPolicySummaryWithType(final String policyType) {
         return PolicySummary.builder()
@@ -255,4 +393,134 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
+
+    @Test
+    public void handleRequest_WithType_EnrichesModelsWithTargetsTagsAndContent() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().type(TEST_TYPE).build())
+            .build();
+
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenReturn(ListPoliciesResponse.builder()
+            .policies(Arrays.asList(getMockPolicySummaryWithType(TEST_TYPE)))
+            .build());
+        when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenReturn(getDescribePolicyResponse());
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenReturn(ListTargetsForPolicyResponse.builder()
+            .targets(Arrays.asList(getPolicyTargetSummaryWithTargetId(TEST_TARGET_ROOT_ID), getPolicyTargetSummaryWithTargetId(TEST_TARGET_OU_ID)))
+            .build());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildDefaultTagsResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getResourceModels()).hasSize(1);
+        final ResourceModel enrichedModel = response.getResourceModels().get(0);
+        assertThat(enrichedModel.getTargetIds()).isEqualTo(TEST_TARGET_IDS);
+        assertThat(enrichedModel.getTags()).isEqualTo(TagTestResourceHelper.translateOrganizationTagsToPolicyTags(TagTestResourceHelper.defaultTags));
+        // the same content the read handler returns
+        assertThat(enrichedModel.getContent()).isEqualTo(TEST_POLICY_CONTENT_JSON);
+
+        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
+        verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_NullDesiredModelType_EnrichesModelsWithoutContent() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken(Translator.encodeCompositeNextToken(ImmutableMap.of(TEST_TYPE, TEST_NEXT_TOKEN)))
+            .build();
+
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenReturn(ListPoliciesResponse.builder()
+            .policies(Arrays.asList(getMockPolicySummaryWithType(TEST_TYPE)))
+            .build());
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class)))
+            .thenReturn(ListTargetsForPolicyResponse.builder()
+                .targets(Arrays.asList(getPolicyTargetSummaryWithTargetId(TEST_TARGET_ROOT_ID)))
+                .nextToken(TEST_NEXT_TOKEN)
+                .build())
+            .thenReturn(ListTargetsForPolicyResponse.builder()
+                .targets(Arrays.asList(getPolicyTargetSummaryWithTargetId(TEST_TARGET_OU_ID)))
+                .build());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildEmptyTagsResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getMessage()).isNull();
+        final ResourceModel enrichedModel = response.getResourceModels().get(0);
+        assertThat(enrichedModel.getTargetIds()).isEqualTo(TEST_TARGET_IDS);
+        assertThat(enrichedModel.getTags()).isEmpty();
+        assertThat(enrichedModel.getContent()).isNull();
+
+        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verify(mockProxyClient.client(), times(2)).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_EnrichModels_PartialFailure_ReportedPerModel() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken(Translator.encodeCompositeNextToken(ImmutableMap.of(TEST_TYPE, TEST_NEXT_TOKEN)))
+            .build();
+
+        final PolicySummary failingPolicy = getMockPolicySummaryWithType(TEST_TYPE).toBuilder()
+            .id(TEST_POLICY_ID_CHANGED)
+            .name(TEST_POLICY_UPDATED_NAME)
+            .build();
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class))).thenReturn(ListPoliciesResponse.builder()
+            .policies(Arrays.asList(getMockPolicySummaryWithType(TEST_TYPE), failingPolicy))
+            .build());
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenReturn(ListTargetsForPolicyResponse.builder().build());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> {
+            final ListTagsForResourceRequest listTagsRequest = invocation.getArgument(0);
+            if (TEST_POLICY_ID_CHANGED.equals(listTagsRequest.resourceId())) {
+                throw TooManyRequestsException.builder().message("Rate exceeded").build();
+            }
+            return TagTestResourceHelper.buildDefaultTagsResponse();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            listHandlerToTest.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getErrorCode()).isNull();
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getTags()).isNotEmpty();
+        // the failing model is returned as listed, without the targets that were fetched before the failure
+        assertThat(response.getResourceModels().get(1).getTags()).isNull();
+        assertThat(response.getResourceModels().get(1).getTargetIds()).isNull();
+        assertThat(response.getResourceModels().get(0).getTargetIds()).isNotNull();
+        assertThat(response.getMessage()).contains(TEST_POLICY_ID_CHANGED).contains("TooManyRequestsException").doesNotContain(TEST_POLICY_ID + "=");
+
+        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verify(mockProxyClient.client(), times(2)).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    // every listed model is enriched; Content is only fetched when the listing is for one Type
+    private void stubEnrichment(final boolean includeContent) {
+        if (includeContent) {
+            when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenReturn(getDescribePolicyResponse());
+        }
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenReturn(ListTargetsForPolicyResponse.builder().build());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildEmptyTagsResponse());
+    }
+
+    private void verifyEnrichment(final int modelCount, final boolean includeContent) {
+        verify(mockProxyClient.client(), times(includeContent ? modelCount : 0)).describePolicy(any(DescribePolicyRequest.class));
+        verify(mockProxyClient.client(), times(modelCount)).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client(), times(modelCount)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
@@ -0,0 +1,96 @@
+package software.amazon.organizations.policy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AccessDeniedException;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PolicyAttachmentPreflightTest extends AbstractTestBase {
+    private static final int SCP_LIMIT = PolicyConstants.PolicyType.SERVICE_CONTROL_POLICY.getMaxAttachmentsPerTarget();
+
+    private OrganizationsClient mockOrgsClient;
+    private PolicyAttachmentPreflight preflight;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        final ProxyClient<OrganizationsClient> mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        preflight = new PolicyAttachmentPreflight(mockProxyClient, logger);
+    }
+
+    @Test
+    public void check_CountsPoliciesAcrossPages() {
+        final List<PolicySummary> policySummaries = getPolicySummariesWithIdPrefix("p-existing", SCP_LIMIT);
+        when(mockOrgsClient.listPoliciesForTarget(any(ListPoliciesForTargetRequest.class)))
+            .thenReturn(ListPoliciesForTargetResponse.builder().policies(policySummaries.subList(0, 2)).nextToken(TEST_NEXT_TOKEN).build())
+            .thenReturn(ListPoliciesForTargetResponse.builder().policies(policySummaries.subList(2, SCP_LIMIT)).build());
+
+        final PolicyAttachmentPreflight.Result result = preflight.check(TEST_POLICY_ID, TEST_TYPE, Collections.singleton(TEST_TARGET_OU_ID));
+
+        assertThat(result.hasViolations()).isTrue();
+        assertThat(result.getMissingTargetIds()).isEmpty();
+        assertThat(result.getTargetIdsAtLimit()).containsExactly(TEST_TARGET_OU_ID);
+        assertThat(result.describe()).contains(String.valueOf(SCP_LIMIT)).contains(TEST_TARGET_OU_ID);
+        verify(mockOrgsClient, times(2)).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
+    }
+
+    @Test
+    public void check_TargetAlreadyHasPolicy_IsNotAViolation() {
+        final List<PolicySummary> policySummaries = getPolicySummariesWithIdPrefix("p-existing", SCP_LIMIT - 1);
+        policySummaries.add(PolicySummary.builder().id(TEST_POLICY_ID).type(TEST_TYPE).build());
+        when(mockOrgsClient.listPoliciesForTarget(any(ListPoliciesForTargetRequest.class)))
+            .thenReturn(ListPoliciesForTargetResponse.builder().policies(policySummaries).build());
+
+        final PolicyAttachmentPreflight.Result result = preflight.check(TEST_POLICY_ID, TEST_TYPE, Collections.singleton(TEST_TARGET_ROOT_ID));
+
+        assertThat(result.hasViolations()).isFalse();
+        assertThat(result.describe()).isEmpty();
+    }
+
+    @Test
+    public void check_MissingTargetAndUninspectableTarget() {
+        when(mockOrgsClient.listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenAnswer(invocation -> {
+            final ListPoliciesForTargetRequest listPoliciesForTargetRequest = invocation.getArgument(0);
+            if (TEST_TARGET_OU_ID.equals(listPoliciesForTargetRequest.targetId())) {
+                throw TargetNotFoundException.builder().build();
+            }
+            throw AccessDeniedException.builder().build();
+        });
+
+        final PolicyAttachmentPreflight.Result result = preflight.check(null, TEST_TYPE, Arrays.asList(TEST_TARGET_OU_ID, TEST_TARGET_ACCOUNT_ID));
+
+        assertThat(result.getMissingTargetIds()).containsExactly(TEST_TARGET_OU_ID);
+        assertThat(result.getTargetIdsAtLimit()).isEmpty();
+        assertThat(result.describe()).contains(TEST_TARGET_OU_ID).doesNotContain(TEST_TARGET_ACCOUNT_ID);
+    }
+
+    @Test
+    public void check_UnknownPolicyTypeHasNoLocalLimit() {
+        when(mockOrgsClient.listPoliciesForTarget(any(ListPoliciesForTargetRequest.class)))
+            .thenReturn(ListPoliciesForTargetResponse.builder().policies(getPolicySummariesWithIdPrefix("p-existing", SCP_LIMIT)).build());
+
+        final PolicyAttachmentPreflight.Result result = preflight.check(null, "NEW_POLICY_TYPE", Collections.singleton(TEST_TARGET_ROOT_ID));
+
+        assertThat(result.hasViolations()).isFalse();
+    }
+}
@@ -0,0 +1,141 @@
+package software.amazon.organizations.policy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeNotEnabledException;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeStatus;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeSummary;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PolicyTypeEnablementCacheTest extends AbstractTestBase {
+    private static final String TEST_ACCOUNT_ID = "111111111111";
+    private static final Duration TEST_TTL = Duration.ofSeconds(60);
+
+    private OrganizationsClient mockOrgsClient;
+    private ProxyClient<OrganizationsClient> mockProxyClient;
+    private MutableClock clock;
+    private PolicyTypeEnablementCache cache;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new PolicyTypeEnablementCache(clock, TEST_TTL);
+
+        when(mockOrgsClient.listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+            .roots(Root.builder()
+                .id(TEST_TARGET_ROOT_ID)
+                .policyTypes(
+                    PolicyTypeSummary.builder().type(TEST_TYPE).status(PolicyTypeStatus.ENABLED).build(),
+                    PolicyTypeSummary.builder().type(TEST_TYPE_CHANGED).status(PolicyTypeStatus.PENDING_DISABLE).build())
+                .build())
+            .build());
+    }
+
+    @Test
+    public void getEnabledPolicyTypes_LoadsOnceWithinTtl() {
+        assertThat(cache.getEnabledPolicyTypes(TEST_ACCOUNT_ID, mockProxyClient)).containsExactly(TEST_TYPE);
+        clock.advance(TEST_TTL.minusSeconds(1));
+        assertThat(cache.getEnabledPolicyTypes(TEST_ACCOUNT_ID, mockProxyClient)).containsExactly(TEST_TYPE);
+
+        verify(mockOrgsClient, times(1)).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void getEnabledPolicyTypes_ReloadsAfterTtl() {
+        cache.getEnabledPolicyTypes(TEST_ACCOUNT_ID, mockProxyClient);
+        clock.advance(TEST_TTL);
+        cache.getEnabledPolicyTypes(TEST_ACCOUNT_ID, mockProxyClient);
+
+        verify(mockOrgsClient, times(2)).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void isPolicyTypeEnabled_EnabledTypeServedFromCache() {
+        cache.put(TEST_ACCOUNT_ID, Collections.singleton(TEST_TYPE_CHANGED));
+
+        assertThat(cache.isPolicyTypeEnabled(TEST_ACCOUNT_ID, TEST_TYPE_CHANGED, mockProxyClient)).isTrue();
+
+        verify(mockOrgsClient, times(0)).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void isPolicyTypeEnabled_CachedNotEnabled_ConfirmedWithFreshListRoots() {
+        // the entry predates the type being enabled, so the fresh ListRoots answer wins and replaces it
+        cache.put(TEST_ACCOUNT_ID, Collections.singleton(TEST_TYPE_CHANGED));
+
+        assertThat(cache.isPolicyTypeEnabled(TEST_ACCOUNT_ID, TEST_TYPE, mockProxyClient)).isTrue();
+        assertThat(cache.isPolicyTypeEnabled(TEST_ACCOUNT_ID, TEST_TYPE_CHANGED, mockProxyClient)).isFalse();
+        assertThat(cache.getEnabledPolicyTypes(TEST_ACCOUNT_ID, mockProxyClient)).containsExactly(TEST_TYPE);
+
+        verify(mockOrgsClient, times(2)).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void invalidateOn_DropsEntryOnlyForPolicyTypeErrors() {
+        cache.put(TEST_ACCOUNT_ID, Collections.singleton(TEST_TYPE_CHANGED));
+
+        cache.invalidateOn(TEST_ACCOUNT_ID, ConcurrentModificationException.builder().build());
+        assertThat(cache.getEnabledPolicyTypes(TEST_ACCOUNT_ID, mockProxyClient)).containsExactly(TEST_TYPE_CHANGED);
+
+        cache.invalidateOn(TEST_ACCOUNT_ID, PolicyTypeNotEnabledException.builder().build());
+        assertThat(cache.getEnabledPolicyTypes(TEST_ACCOUNT_ID, mockProxyClient)).containsExactly(TEST_TYPE);
+
+        verify(mockOrgsClient, times(1)).listRoots(any(ListRootsRequest.class));
+    }
+
+    @Test
+    public void shared_ReturnsSameInstance() {
+        assertThat(PolicyTypeEnablementCache.shared()).isSameAs(PolicyTypeEnablementCache.shared());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import software.amazon.awssdk.services.organizations.model.PolicyNotFoundExcepti
 import software.amazon.awssdk.services.organizations.model.PolicySummary;
 import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -27,6 +28,8 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -113,12 +116,19 @@ public class ReadHandlerTest extends AbstractTestBase {
             .build();
 
         when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenThrow(PolicyNotFoundException.class);
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenThrow(PolicyNotFoundException.class);
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenThrow(TargetNotFoundException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+
+        // the three calls are issued together, so all of them run even though DescribePolicy fails
+        verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
+        verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -136,6 +146,10 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenThrow(ServiceException.class);
 
+        final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildDefaultTagsResponse();
+
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
+
         CallbackContext context = new CallbackContext();
         ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
 
@@ -146,6 +160,7 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -193,6 +208,8 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .build();
 
         when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenThrow(ServiceException.class);
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenReturn(ListTargetsForPolicyResponse.builder().build());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildDefaultTagsResponse());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
         assertThat(response).isNotNull();
@@ -200,6 +217,8 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
         verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
+        verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -243,6 +262,40 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_IssuesDescribeTargetsAndTagsConcurrently() {
+        final ResourceModel model = buildResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        // DescribePolicy only answers once both other calls have started, which can't happen if the calls run in sequence
+        final CountDownLatch otherCallsStarted = new CountDownLatch(2);
+        when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenAnswer(invocation -> {
+            assertThat(otherCallsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return buildDescribePolicyResponse();
+        });
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenAnswer(invocation -> {
+            otherCallsStarted.countDown();
+            return ListTargetsForPolicyResponse.builder()
+                    .targets(Arrays.asList(getPolicyTargetSummaryWithTargetId(TEST_TARGET_ROOT_ID), getPolicyTargetSummaryWithTargetId(TEST_TARGET_OU_ID)))
+                    .build();
+        });
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenAnswer(invocation -> {
+            otherCallsStarted.countDown();
+            return TagTestResourceHelper.buildDefaultTagsResponse();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(response, generateFinalResourceModel(true, true));
+
+        verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
+        verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     private static DescribePolicyResponse buildDescribePolicyResponse() {
         return DescribePolicyResponse.builder().policy(
                         Policy.builder()
@@ -7,6 +7,9 @@ import software.amazon.awssdk.services.organizations.model.DescribePolicyRequest
 import software.amazon.awssdk.services.organizations.model.DescribePolicyResponse;
 import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesForTargetResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
@@ -37,12 +40,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -64,12 +69,39 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        updateHandlerToTest = new UpdateHandler();
+        updateHandlerToTest = new UpdateHandler(generateAllEnabledPolicyTypeEnablementCache());
         mockAwsClientproxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientproxy, mockOrgsClient);
     }
 
+    @Test
+    public void handleRequest_PolicyTypeNotEnabled_FailsWithoutCallingUpdate() {
+        final PolicyTypeEnablementCache policyTypeEnablementCache = generateEmptyPolicyTypeEnablementCache();
+        policyTypeEnablementCache.put(null, Collections.singleton(TEST_TYPE_CHANGED));
+        final ResourceModel initialResourceModel = generateFinalResourceModel(false, false);
+        final ResourceModel updatedResourceModel = generateUpdatedResourceModel(false, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .build();
+        // the cached answer is confirmed with a fresh ListRoots before the request is rejected
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(generateListRootsResponse(TEST_TYPE_CHANGED));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler(policyTypeEnablementCache)
+            .handleRequest(mockAwsClientproxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains(TEST_TYPE);
+
+        verify(mockProxyClient.client()).listRoots(any(ListRootsRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
     @Test
     public void handleRequest_SimpleSuccess() {
         final ResourceModel initialResourceModel = generateFinalResourceModel(false, false);
@@ -174,6 +206,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final UpdatePolicyResponse updatePolicyResponse = getUpdatePolicyResponse();
         when(mockProxyClient.client().updatePolicy(any(UpdatePolicyRequest.class))).thenReturn(updatePolicyResponse);
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
 
         final DescribePolicyResponse describePolicyResponse = getDescribePolicyResponse();
         when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenReturn(describePolicyResponse);
@@ -208,6 +241,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
         verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
+        verify(mockProxyClient.client()).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -224,6 +258,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final UpdatePolicyResponse updatePolicyResponse = getUpdatePolicyResponse();
         when(mockProxyClient.client().updatePolicy(any(UpdatePolicyRequest.class))).thenReturn(updatePolicyResponse);
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
 
         //mock exceptions for AttachPolicy and DetachPolicy calls
         when(mockProxyClient.client().attachPolicy(any(AttachPolicyRequest.class))).thenThrow(DuplicatePolicyAttachmentException.class);
@@ -262,6 +297,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
         verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
+        verify(mockProxyClient.client()).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -345,6 +381,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final UpdatePolicyResponse updatePolicyResponse = getUpdatePolicyResponse();
         when(mockProxyClient.client().updatePolicy(any(UpdatePolicyRequest.class))).thenReturn(updatePolicyResponse);
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
 
         //mock exception for AttachPolicy
         when(mockProxyClient.client().attachPolicy(any(AttachPolicyRequest.class))).thenThrow(TargetNotFoundException.class);
@@ -359,6 +396,36 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).updatePolicy(any(UpdatePolicyRequest.class));
         verify(mockProxyClient.client()).attachPolicy(any(AttachPolicyRequest.class));
 
+        verify(mockProxyClient.client()).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_WithTargets_TargetAtPolicyLimit_FailsBeforeUpdatingPolicy() {
+        final ResourceModel initialResourceModel = generateFinalResourceModel(true, false);
+        final ResourceModel updatedResourceModel = generateUpdatedResourceModel(true, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .build();
+
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder()
+            .policies(getPolicySummariesWithIdPrefix("p-existing", PolicyConstants.PolicyType.SERVICE_CONTROL_POLICY.getMaxAttachmentsPerTarget()))
+            .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandlerToTest.handleRequest(mockAwsClientproxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(response.getMessage()).contains(TEST_TARGET_ACCOUNT_ID);
+
+        // neither the policy nor its targets were modified
+        verify(mockProxyClient.client(), never()).updatePolicy(any(UpdatePolicyRequest.class));
+        verify(mockProxyClient.client()).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
+
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -375,6 +442,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final UpdatePolicyResponse updatePolicyResponse = getUpdatePolicyResponse();
         when(mockProxyClient.client().updatePolicy(any(UpdatePolicyRequest.class))).thenReturn(updatePolicyResponse);
+        when(mockProxyClient.client().listPoliciesForTarget(any(ListPoliciesForTargetRequest.class))).thenReturn(ListPoliciesForTargetResponse.builder().build());
 
         //mock exception for DetachPolicy
         when(mockProxyClient.client().detachPolicy(any(DetachPolicyRequest.class))).thenThrow(TargetNotFoundException.class);
@@ -389,6 +457,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).updatePolicy(any(UpdatePolicyRequest.class));
         verify(mockProxyClient.client()).attachPolicy(any(AttachPolicyRequest.class));
 
+        verify(mockProxyClient.client()).listPoliciesForTarget(any(ListPoliciesForTargetRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
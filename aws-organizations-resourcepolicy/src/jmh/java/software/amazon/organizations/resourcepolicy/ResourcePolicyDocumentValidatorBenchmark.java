@@ -0,0 +1,71 @@
+package software.amazon.organizations.resourcepolicy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the local check {@link ResourcePolicyDocumentValidator} adds in front of PutResourcePolicy for 1 KB, 10 KB
+ * and 38 KB documents (close to the size limit), next to the canonicalization the update handler already runs on the same content.
+ * Both are expected to stay in the microsecond range, well below a single Organizations round trip.
+ * mvn -Pjmh test-compile exec:exec
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourcePolicyDocumentValidatorBenchmark {
+    private static final String STATEMENT =
+        "{\"Sid\":\"Statement%d\",\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"arn:aws:iam::%012d:root\"},"
+            + "\"Action\":[\"organizations:DescribeOrganization\",\"organizations:ListAccounts\"],\"Resource\":\"*\","
+            + "\"Condition\":{\"StringEquals\":{\"aws:PrincipalOrgID\":\"o-%d\"}}}";
+
+    @Param({"1", "10", "38"})
+    private int documentSizeKb;
+
+    private String content;
+
+    @Setup
+    public void setup() {
+        content = buildDocument(documentSizeKb * 1024);
+        if (!ResourcePolicyDocumentValidator.validate(content).isEmpty()) {
+            throw new IllegalStateException("Benchmark document is expected to be valid.");
+        }
+    }
+
+    @Benchmark
+    public List<String> validate() {
+        return ResourcePolicyDocumentValidator.validate(content);
+    }
+
+    @Benchmark
+    public String canonicalizeContent() {
+        return Translator.canonicalizeContent(content);
+    }
+
+    private static String buildDocument(final int targetBytes) {
+        final StringBuilder builder = new StringBuilder("{\"Version\":\"2012-10-17\",\"Statement\":[");
+        int i = 0;
+        while (builder.length() < targetBytes) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(String.format(STATEMENT, i, i, i));
+            i++;
+        }
+        return builder.append("]}").toString();
+    }
+}
@@ -6,6 +6,7 @@ import software.amazon.awssdk.services.organizations.model.DescribeResourcePolic
 import software.amazon.awssdk.services.organizations.model.PutResourcePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.PutResourcePolicyResponse;
 import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -14,8 +15,19 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.List;
+
 public class CreateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final ResourcePolicyCache resourcePolicyCache;
+
+    public CreateHandler() {
+        this(ResourcePolicyCache.shared());
+    }
+
+    public CreateHandler(final ResourcePolicyCache resourcePolicyCache) {
+        this.resourcePolicyCache = resourcePolicyCache;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -42,6 +54,13 @@ public class CreateHandler extends BaseHandlerStd {
                 "ResourcePolicy content had invalid JSON!");
         }
 
+        final List<String> contentProblems = ResourcePolicyDocumentValidator.validate(content);
+        if (!contentProblems.isEmpty()) {
+            logger.log(String.format("The ResourcePolicy content is not a valid resource policy. This is an InvalidRequest for management account Id [%s]: %s", request.getAwsAccountId(), contentProblems));
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                String.format("ResourcePolicy content is not a valid resource policy: %s", String.join(" ", contentProblems)));
+        }
+
         logger.log(String.format("Requesting PutResourcePolicy w/ content: %s and management account Id [%s]", content, request.getAwsAccountId()));
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> describeResourcePolicyProgressEvent(awsClientProxy, request, model, callbackContext, orgsClient, logger))
@@ -49,15 +68,32 @@ public class CreateHandler extends BaseHandlerStd {
                 awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::CreateResourcePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(x -> Translator.translateToCreateRequest(x, request))
                     .makeServiceCall(this::putResourcePolicy)
-                    .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
-                                    handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.CREATE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.CREATE))
-                    .done(putResourcePolicyResponse -> {
+                    .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                        resourcePolicyCache.invalidateOn(request.getAwsAccountId(), e);
+                        return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.CREATE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.CREATE);
+                    })
+                    .done((putResourcePolicyRequest, putResourcePolicyResponse, proxyClient1, model1, context) -> {
                         logger.log(String.format("Created resourcePolicy with Id: [%s].", putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id()));
                         model.setId(putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id());
-                        return ProgressEvent.progress(model, callbackContext);
+                        if (putResourcePolicyResponse.resourcePolicy().content() == null) {
+                            // the read back must reach the service rather than the cache
+                            resourcePolicyCache.invalidate(request.getAwsAccountId());
+                            return ProgressEvent.progress(model, callbackContext);
+                        }
+                        resourcePolicyCache.put(request.getAwsAccountId(), putResourcePolicyResponse.resourcePolicy(), logger);
+                        // the response holds the id, arn and content, and the tags are the ones just sent
+                        try {
+                            model.setContent(Translator.convertStringToObject(putResourcePolicyResponse.resourcePolicy().content(), logger));
+                        } catch (CfnHandlerInternalFailureException e) {
+                            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure,
+                                        "Internal handler failure");
+                        }
+                        model.setArn(putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().arn());
+                        model.setTags(Translator.translateTagsFromSdkResponse(putResourcePolicyRequest.tags()));
+                        return ProgressEvent.defaultSuccessHandler(model);
                     })
             )
-            .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+            .then(progress -> new ReadHandler(resourcePolicyCache).handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
     }
 
 
@@ -70,6 +106,8 @@ public class CreateHandler extends BaseHandlerStd {
         final OrgsLoggerWrapper logger
         ) {
 
+        // Always asks the service: trusting a cached absence could let PutResourcePolicy silently replace a policy
+        // created outside this stack.
         logger.log(String.format("Running describeResourcePolicyProgressEvent to ensure there is not an already existing resourcePolicy in the Organization w/management account Id [%s].", request.getAwsAccountId()));
 
         return ProgressEvent.progress(model, callbackContext)
@@ -79,6 +117,7 @@ public class CreateHandler extends BaseHandlerStd {
                 .makeServiceCall(this::describeResourcePolicy)
                 .handleError((organizationsRequest, e, orgsClient1, model1, context) -> {
                     if (e instanceof ResourcePolicyNotFoundException) {
+                        resourcePolicyCache.invalidate(request.getAwsAccountId());
                         return ProgressEvent.progress(model1,context);
                     } else {
                         return handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.DESCRIBE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.CREATE);
@@ -86,6 +125,7 @@ public class CreateHandler extends BaseHandlerStd {
                 })
                 .done(describeResourcePolicyResponse -> {
                     if (describeResourcePolicyResponse != null) {
+                        resourcePolicyCache.put(request.getAwsAccountId(), describeResourcePolicyResponse.resourcePolicy(), logger);
                         logger.log(String.format("Create resourcePolicy w/management account Id [%s] failed due to an already existing resourcePolicy in the Organization.", request.getAwsAccountId()));
                         return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists,
                             "There is already a ResourcePolicy in the Organization!");
@@ -11,6 +11,15 @@ import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class DeleteHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final ResourcePolicyCache resourcePolicyCache;
+
+    public DeleteHandler() {
+        this(ResourcePolicyCache.shared());
+    }
+
+    public DeleteHandler(final ResourcePolicyCache resourcePolicyCache) {
+        this.resourcePolicyCache = resourcePolicyCache;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -29,9 +38,14 @@ public class DeleteHandler extends BaseHandlerStd {
                              awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::DeleteResourcePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                                  .translateToServiceRequest(Translator::translateToDeleteRequest)
                                  .makeServiceCall(this::deleteResourcePolicy)
-                                 .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
-                                                    handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.DELETE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.DELETE))
-                                 .done((deleteResourcePolicyResponse) -> ProgressEvent.defaultSuccessHandler(null))
+                                 .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                                     resourcePolicyCache.invalidateOn(request.getAwsAccountId(), e);
+                                     return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.DELETE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.DELETE);
+                                 })
+                                 .done((deleteResourcePolicyResponse) -> {
+                                     resourcePolicyCache.invalidate(request.getAwsAccountId());
+                                     return ProgressEvent.defaultSuccessHandler(null);
+                                 })
                    );
     }
 
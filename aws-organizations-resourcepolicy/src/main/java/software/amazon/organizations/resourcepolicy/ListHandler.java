@@ -3,6 +3,8 @@ package software.amazon.organizations.resourcepolicy;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.DescribeResourcePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -11,13 +13,24 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ListHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final ResourcePolicyCache resourcePolicyCache;
+
+    public ListHandler() {
+        this(ResourcePolicyCache.shared());
+    }
+
+    public ListHandler(final ResourcePolicyCache resourcePolicyCache) {
+        this.resourcePolicyCache = resourcePolicyCache;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -38,41 +51,84 @@ public class ListHandler extends BaseHandlerStd {
         final List<ResourceModel> models = new ArrayList<>();
         String nextToken = null; // DescribeResourcePolicy API - no nextToken generated
 
-        logger.log(String.format("Requesting DescribeResourcePolicy with management account Id [%s] and resourcePolicy Id [%s].", request.getAwsAccountId(), model.getId()));
-        return awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::Read::ListResourcePolicy", orgsClient, model, callbackContext)
-            .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall(this::describeResourcePolicy)
-            .handleError((organizationsRequest, e, orgsClient1, model1, context) -> {
-                if (e instanceof ResourcePolicyNotFoundException) {
-                    return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                        .resourceModels(models)
-                        .nextToken(nextToken)
-                        .status(OperationStatus.SUCCESS)
-                        .build();
-                } else {
-                    return handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.DESCRIBE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.LIST);
-                }
-            })
-            .done(describeResourcePolicyResponse -> {
-                try {
-                    model.setContent(Translator.convertStringToObject(describeResourcePolicyResponse.resourcePolicy().content(), logger));
-                } catch (CfnHandlerInternalFailureException e) {
-                    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure,
-                                "Internal handler failure");
-                }
-                model.setId(describeResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id());
-                model.setArn(describeResourcePolicyResponse.resourcePolicy().resourcePolicySummary().arn());
-                models.add(model);
-                return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(models)
-                    .nextToken(nextToken)
-                    .status(OperationStatus.SUCCESS)
-                    .build();
-        });
+        final ResourcePolicyCache.CachedResourcePolicy cachedResourcePolicy = resourcePolicyCache.get(request.getAwsAccountId());
+        if (cachedResourcePolicy != null) {
+            logger.log(String.format("Using cached ResourcePolicy [%s] for management account Id [%s].", cachedResourcePolicy.getId(), request.getAwsAccountId()));
+            model.setContent(cachedResourcePolicy.parseContent(logger));
+            model.setId(cachedResourcePolicy.getId());
+            model.setArn(cachedResourcePolicy.getArn());
+        }
+
+        // Tags are returned with the model so callers do not need a follow-up read; when the id is already known they are
+        // fetched while DescribeResourcePolicy is in flight
+        final String knownResourcePolicyId = model.getId();
+        final CompletableFuture<ListTagsForResourceResponse> prefetchedTagsFuture = knownResourcePolicyId == null ? null
+            : OrgsConcurrentExecutor.supplyAsync(() -> listTagsForResource(Translator.translateToListTagsForResourceRequest(knownResourcePolicyId), orgsClient));
+
+        if (cachedResourcePolicy == null) {
+            logger.log(String.format("Requesting DescribeResourcePolicy with management account Id [%s] and resourcePolicy Id [%s].", request.getAwsAccountId(), model.getId()));
+        }
+        return ProgressEvent.progress(model, callbackContext)
+            .then(progress -> cachedResourcePolicy != null ? progress : awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::Read::ListResourcePolicy", orgsClient, model, callbackContext)
+                .translateToServiceRequest(Translator::translateToReadRequest)
+                .makeServiceCall(this::describeResourcePolicy)
+                .handleError((organizationsRequest, e, orgsClient1, model1, context) -> {
+                    if (e instanceof ResourcePolicyNotFoundException) {
+                        resourcePolicyCache.invalidate(request.getAwsAccountId());
+                        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                            .resourceModels(models)
+                            .nextToken(nextToken)
+                            .status(OperationStatus.SUCCESS)
+                            .build();
+                    } else {
+                        resourcePolicyCache.invalidateOn(request.getAwsAccountId(), e);
+                        return handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.DESCRIBE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.LIST);
+                    }
+                })
+                .done(describeResourcePolicyResponse -> {
+                    resourcePolicyCache.put(request.getAwsAccountId(), describeResourcePolicyResponse.resourcePolicy(), logger);
+                    try {
+                        model.setContent(Translator.convertStringToObject(describeResourcePolicyResponse.resourcePolicy().content(), logger));
+                    } catch (CfnHandlerInternalFailureException e) {
+                        return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure,
+                                    "Internal handler failure");
+                    }
+                    model.setId(describeResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id());
+                    model.setArn(describeResourcePolicyResponse.resourcePolicy().resourcePolicySummary().arn());
+                    return ProgressEvent.progress(model, callbackContext);
+                }))
+            .then(progress -> {
+                final String resourcePolicyId = model.getId();
+                // the prefetched tags are only used if they were requested for the policy that was actually described
+                final boolean usePrefetchedTags = prefetchedTagsFuture != null && resourcePolicyId.equals(knownResourcePolicyId);
+                return awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::List::ListTagsForResource", orgsClient, model, callbackContext)
+                    .translateToServiceRequest(resourceModel -> Translator.translateToListTagsForResourceRequest(resourcePolicyId))
+                    .makeServiceCall((listTagsForResourceRequest, proxyClient) -> usePrefetchedTags
+                        ? OrgsConcurrentExecutor.join(prefetchedTagsFuture)
+                        : listTagsForResource(listTagsForResourceRequest, proxyClient))
+                    .handleError((organizationsRequest, e, orgsClient1, model1, context) -> {
+                        resourcePolicyCache.invalidateOn(request.getAwsAccountId(), e);
+                        return handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.LIST_TAGS_FOR_RESOURCEPOLICY, ResourcePolicyConstants.Handler.LIST);
+                    })
+                    .done(listTagsForResourceResponse -> {
+                        model.setTags(Translator.translateTagsFromSdkResponse(listTagsForResourceResponse.tags()));
+                        models.add(model);
+                        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                            .resourceModels(models)
+                            .nextToken(nextToken)
+                            .status(OperationStatus.SUCCESS)
+                            .build();
+                    });
+            });
     }
 
     protected DescribeResourcePolicyResponse describeResourcePolicy(final DescribeResourcePolicyRequest describeResourcePolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
         log.log("Calling describeResourcePolicy API.");
         return orgsClient.injectCredentialsAndInvokeV2(describeResourcePolicyRequest, orgsClient.client()::describeResourcePolicy);
     }
+
+    protected ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest listTagsForResourceRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.log(String.format("Calling listTagsForResource API for resource [%s].", listTagsForResourceRequest.resourceId()));
+        return orgsClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, orgsClient.client()::listTagsForResource);
+    }
 }
@@ -11,10 +11,22 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsConcurrentExecutor;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.concurrent.CompletableFuture;
+
 public class ReadHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final ResourcePolicyCache resourcePolicyCache;
+
+    public ReadHandler() {
+        this(ResourcePolicyCache.shared());
+    }
+
+    public ReadHandler(final ResourcePolicyCache resourcePolicyCache) {
+        this.resourcePolicyCache = resourcePolicyCache;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -26,6 +38,19 @@ public class ReadHandler extends BaseHandlerStd {
         this.log = logger;
         final ResourceModel model = request.getDesiredResourceState();
 
+        final ResourcePolicyCache.CachedResourcePolicy cachedResourcePolicy = resourcePolicyCache.get(request.getAwsAccountId());
+        if (cachedResourcePolicy != null) {
+            logger.log(String.format("Using cached ResourcePolicy [%s] for management account Id [%s].", cachedResourcePolicy.getId(), request.getAwsAccountId()));
+            model.setContent(cachedResourcePolicy.parseContent(logger));
+            model.setId(cachedResourcePolicy.getId());
+            model.setArn(cachedResourcePolicy.getArn());
+            return listTagsForResourcePolicy(awsClientProxy, request, model, callbackContext, orgsClient, logger, null, null);
+        }
+
+        // When the id is already known, ListTagsForResource does not have to wait for DescribeResourcePolicy
+        final String knownResourcePolicyId = model.getId();
+        final CompletableFuture<ListTagsForResourceResponse> prefetchedTagsFuture = prefetchTags(knownResourcePolicyId, orgsClient);
+
         // Call DescribeResourcePolicy API
         logger.log(String.format("Requesting DescribeResourcePolicy with management account Id [%s] and resourcePolicy Id [%s].", request.getAwsAccountId(), model.getId()));
         return ProgressEvent.progress(model, callbackContext)
@@ -33,9 +58,12 @@ public class ReadHandler extends BaseHandlerStd {
                 awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::Read::DescribeResourcePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall(this::describeResourcePolicy)
-                .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
-                                 handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.DESCRIBE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.READ))
+                .handleError((organizationsRequest, e, orgsClient1, model1, context) -> {
+                    resourcePolicyCache.invalidateOn(request.getAwsAccountId(), e);
+                    return handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.DESCRIBE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.READ);
+                })
                 .done(describeResourcePolicyResponse -> {
+                    resourcePolicyCache.put(request.getAwsAccountId(), describeResourcePolicyResponse.resourcePolicy(), logger);
                     try {
                         model.setContent(Translator.convertStringToObject(describeResourcePolicyResponse.resourcePolicy().content(), logger));
                     } catch (CfnHandlerInternalFailureException e) {
@@ -47,7 +75,19 @@ public class ReadHandler extends BaseHandlerStd {
                     return ProgressEvent.progress(model, callbackContext);
                 })
             )
-            .then(progress -> listTagsForResourcePolicy(awsClientProxy, request, model, callbackContext, orgsClient, logger));
+            .then(progress -> listTagsForResourcePolicy(awsClientProxy, request, model, callbackContext, orgsClient, logger, knownResourcePolicyId, prefetchedTagsFuture));
+    }
+
+    /**
+     * Starts ListTagsForResource on the shared executor for a resource policy id known before DescribeResourcePolicy returns.
+     * @return the pending call, or null when the id is not known yet
+     */
+    protected CompletableFuture<ListTagsForResourceResponse> prefetchTags(final String resourcePolicyId, final ProxyClient<OrganizationsClient> orgsClient) {
+        if (resourcePolicyId == null) {
+            return null;
+        }
+        final ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsForResourceRequest(resourcePolicyId);
+        return OrgsConcurrentExecutor.supplyAsync(() -> listTagsForResource(listTagsForResourceRequest, orgsClient));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> listTagsForResourcePolicy(
@@ -56,18 +96,26 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model,
         final CallbackContext callbackContext,
         final ProxyClient<OrganizationsClient> orgsClient,
-        final OrgsLoggerWrapper logger
+        final OrgsLoggerWrapper logger,
+        final String prefetchedResourcePolicyId,
+        final CompletableFuture<ListTagsForResourceResponse> prefetchedTagsFuture
         ) {
 
         String resourcePolicyId = model.getId();
+        // the prefetched tags are only used if they were requested for the policy that was actually described
+        final boolean usePrefetchedTags = prefetchedTagsFuture != null && resourcePolicyId.equals(prefetchedResourcePolicyId);
         logger.log(String.format("Listing tags for resourcePolicyId: %s.", resourcePolicyId));
 
         // ListTags currently returns all (max: 50) tags in a single call, so no need for pagination handling
         return awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::ListTagsForResource", orgsClient, model, callbackContext)
             .translateToServiceRequest(resourceModel -> Translator.translateToListTagsForResourceRequest(resourcePolicyId))
-            .makeServiceCall(this::listTagsForResource)
-            .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
-                             handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.LIST_TAGS_FOR_RESOURCEPOLICY, ResourcePolicyConstants.Handler.READ))
+            .makeServiceCall((listTagsForResourceRequest, proxyClient) -> usePrefetchedTags
+                ? OrgsConcurrentExecutor.join(prefetchedTagsFuture)
+                : listTagsForResource(listTagsForResourceRequest, proxyClient))
+            .handleError((organizationsRequest, e, orgsClient1, model1, context) -> {
+                resourcePolicyCache.invalidateOn(request.getAwsAccountId(), e);
+                return handleErrorInGeneral(organizationsRequest, e, orgsClient1, model1, context, logger, ResourcePolicyConstants.Action.LIST_TAGS_FOR_RESOURCEPOLICY, ResourcePolicyConstants.Handler.READ);
+            })
             .done(listTagsForResourceResponse -> {
                 model.setTags(Translator.translateTagsFromSdkResponse(listTagsForResourceResponse.tags()));
                 return ProgressEvent.defaultSuccessHandler(model);
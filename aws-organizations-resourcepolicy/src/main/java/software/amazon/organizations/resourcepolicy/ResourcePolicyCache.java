@@ -0,0 +1,139 @@
+package software.amazon.organizations.resourcepolicy;
+
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicy;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureException;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Container-level cache of the organization's resource policy, keyed by management account id since an organization
+ * has a single management account and a single resource policy.
+ * Entries are written through by this resource's own DescribeResourcePolicy and PutResourcePolicy calls, dropped by
+ * DeleteResourcePolicy or by any error showing the cached policy may be stale, and expire after a TTL that bounds how
+ * long an out-of-band change can go unnoticed.
+ */
+public class ResourcePolicyCache {
+    private static final ResourcePolicyCache SHARED =
+        new ResourcePolicyCache(Clock.systemUTC(), parseTtl(System.getenv(ResourcePolicyConstants.CACHE_TTL_SECONDS_ENV)));
+
+    private final Map<String, CachedResourcePolicy> policyByAccount = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration ttl;
+
+    ResourcePolicyCache(final Clock clock, final Duration ttl) {
+        this.clock = clock;
+        this.ttl = ttl;
+    }
+
+    public static ResourcePolicyCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the cached policy of the account's organization, or null when there is no live entry
+     */
+    CachedResourcePolicy get(final String accountId) {
+        final CachedResourcePolicy cached = policyByAccount.get(toKey(accountId));
+        if (cached != null && clock.instant().isBefore(cached.expiresAt)) {
+            return cached;
+        }
+        return null;
+    }
+
+    /**
+     * Caches a policy returned by DescribeResourcePolicy or PutResourcePolicy. A policy whose content cannot be parsed
+     * is not cached, so the failure is reported by the next call to the service instead.
+     */
+    void put(final String accountId, final ResourcePolicy resourcePolicy, final OrgsLoggerWrapper logger) {
+        if (resourcePolicy == null || resourcePolicy.resourcePolicySummary() == null || resourcePolicy.content() == null) {
+            invalidate(accountId);
+            return;
+        }
+        try {
+            Translator.convertStringToObject(resourcePolicy.content(), logger);
+        } catch (CfnHandlerInternalFailureException e) {
+            invalidate(accountId);
+            return;
+        }
+        policyByAccount.put(toKey(accountId), new CachedResourcePolicy(resourcePolicy.resourcePolicySummary().id(),
+            resourcePolicy.resourcePolicySummary().arn(), resourcePolicy.content(), clock.instant().plus(ttl)));
+    }
+
+    void invalidate(final String accountId) {
+        policyByAccount.remove(toKey(accountId));
+    }
+
+    /**
+     * Drops the account's entry when the exception shows the policy was deleted or changed outside this container.
+     */
+    void invalidateOn(final String accountId, final Exception e) {
+        if (e instanceof ResourcePolicyNotFoundException || e instanceof AwsOrganizationsNotInUseException
+            || e instanceof ConcurrentModificationException) {
+            invalidate(accountId);
+        }
+    }
+
+    // falls back to the default TTL when the configured value is missing or not a non-negative number of seconds
+    static Duration parseTtl(final String ttlSeconds) {
+        final Duration defaultTtl = Duration.ofSeconds(ResourcePolicyConstants.DEFAULT_CACHE_TTL_SECONDS);
+        if (ttlSeconds == null) {
+            return defaultTtl;
+        }
+        try {
+            final long seconds = Long.parseLong(ttlSeconds.trim());
+            return seconds < 0 ? defaultTtl : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException e) {
+            return defaultTtl;
+        }
+    }
+
+    private static String toKey(final String accountId) {
+        return Objects.toString(accountId, "");
+    }
+
+    /**
+     * The organization's resource policy as last seen by this container. Only the content string is kept, so no
+     * reader can change what the next one gets.
+     */
+    static final class CachedResourcePolicy {
+        private final String id;
+        private final String arn;
+        private final String content;
+        private final Instant expiresAt;
+
+        private CachedResourcePolicy(final String id, final String arn, final String content, final Instant expiresAt) {
+            this.id = id;
+            this.arn = arn;
+            this.content = content;
+            this.expiresAt = expiresAt;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getArn() {
+            return arn;
+        }
+
+        String getContent() {
+            return content;
+        }
+
+        /**
+         * @return a newly parsed copy of the content for the caller's model; the content parsed when it was cached
+         */
+        Object parseContent(final OrgsLoggerWrapper logger) {
+            return Translator.convertStringToObject(content, logger);
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package software.amazon.organizations.resourcepolicy;
 
 public class ResourcePolicyConstants {
+    // how long a warm container trusts the resource policy it last described or wrote; 0 disables the cache
+    public static final String CACHE_TTL_SECONDS_ENV = "RESOURCE_POLICY_CACHE_TTL_SECONDS";
+    public static final long DEFAULT_CACHE_TTL_SECONDS = 60;
+
+    // Organizations quota for the size of the resource policy document
+    public static final int MAX_RESOURCE_POLICY_CHARACTERS = 40000;
+
     // constants used for handleRetriableException
     public enum Action {
         CREATE_RESOURCEPOLICY,
@@ -0,0 +1,217 @@
+package software.amazon.organizations.resourcepolicy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural check of a resource-based policy document, run before PutResourcePolicy so a malformed document is
+ * rejected locally instead of failing a round trip to the service. All problems found are reported together.
+ * Only the policy grammar is checked; whether principals, actions and resources exist is left to the service.
+ */
+public final class ResourcePolicyDocumentValidator {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Set<String> DOCUMENT_KEYS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("Version", "Id", "Statement")));
+    private static final Set<String> STATEMENT_KEYS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "Sid", "Effect", "Principal", "NotPrincipal", "Action", "NotAction", "Resource", "NotResource", "Condition")));
+    // ordered, since they are listed in the reported problems
+    private static final Set<String> VERSIONS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList("2012-10-17", "2008-10-17")));
+    private static final Set<String> EFFECTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("Allow", "Deny")));
+    private static final Set<String> PRINCIPAL_TYPES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList("AWS", "Service", "Federated", "CanonicalUser")));
+
+    private ResourcePolicyDocumentValidator() {
+    }
+
+    /**
+     * @param content the policy document exactly as it will be sent to PutResourcePolicy
+     * @return every problem found, in document order; empty when the document is well formed
+     */
+    public static List<String> validate(final String content) {
+        final List<String> problems = new ArrayList<>();
+        if (content == null) {
+            problems.add("Content is required.");
+            return problems;
+        }
+        if (content.length() > ResourcePolicyConstants.MAX_RESOURCE_POLICY_CHARACTERS) {
+            problems.add(String.format("Content is %d characters long, the maximum is %d.", content.length(), ResourcePolicyConstants.MAX_RESOURCE_POLICY_CHARACTERS));
+        }
+
+        final JsonNode document;
+        try {
+            document = MAPPER.readTree(content);
+        } catch (Exception e) {
+            problems.add("Content is not valid JSON.");
+            return problems;
+        }
+        if (document == null || !document.isObject()) {
+            problems.add("Content must be a JSON object.");
+            return problems;
+        }
+
+        checkKeys(document, DOCUMENT_KEYS, "Policy", problems);
+        final JsonNode version = document.get("Version");
+        if (version != null && !(version.isTextual() && VERSIONS.contains(version.asText()))) {
+            problems.add(String.format("Version must be one of %s.", VERSIONS));
+        }
+        final JsonNode id = document.get("Id");
+        if (id != null && !id.isTextual()) {
+            problems.add("Id must be a string.");
+        }
+
+        final JsonNode statements = document.get("Statement");
+        if (statements == null) {
+            problems.add("Statement is required.");
+        } else if (statements.isObject()) {
+            checkStatement(statements, "Statement", new HashSet<>(), problems);
+        } else if (statements.isArray() && statements.size() > 0) {
+            final Set<String> sids = new HashSet<>();
+            for (int i = 0; i < statements.size(); i++) {
+                checkStatement(statements.get(i), String.format("Statement[%d]", i), sids, problems);
+            }
+        } else {
+            problems.add("Statement must be an object or a non-empty array of objects.");
+        }
+        return problems;
+    }
+
+    private static void checkStatement(final JsonNode statement, final String path, final Set<String> sids, final List<String> problems) {
+        if (!statement.isObject()) {
+            problems.add(String.format("%s must be an object.", path));
+            return;
+        }
+        checkKeys(statement, STATEMENT_KEYS, path, problems);
+
+        final JsonNode sid = statement.get("Sid");
+        if (sid != null) {
+            if (!sid.isTextual()) {
+                problems.add(String.format("%s.Sid must be a string.", path));
+            } else if (!sids.add(sid.asText())) {
+                problems.add(String.format("%s.Sid [%s] is used by more than one statement.", path, sid.asText()));
+            }
+        }
+
+        final JsonNode effect = statement.get("Effect");
+        if (effect == null) {
+            problems.add(String.format("%s.Effect is required.", path));
+        } else if (!(effect.isTextual() && EFFECTS.contains(effect.asText()))) {
+            problems.add(String.format("%s.Effect must be Allow or Deny.", path));
+        }
+
+        final String actionKey = checkExactlyOne(statement, "Action", "NotAction", path, problems);
+        if (actionKey != null) {
+            checkStringOrStrings(statement.get(actionKey), path + "." + actionKey, problems);
+        }
+        // whether a principal or resource is required is left to the service, only their shape is checked here
+        checkAtMostOne(statement, "Principal", "NotPrincipal", path, problems);
+        for (final String principalKey : Arrays.asList("Principal", "NotPrincipal")) {
+            if (statement.has(principalKey)) {
+                checkPrincipal(statement.get(principalKey), path + "." + principalKey, problems);
+            }
+        }
+        checkAtMostOne(statement, "Resource", "NotResource", path, problems);
+        for (final String resourceKey : Arrays.asList("Resource", "NotResource")) {
+            if (statement.has(resourceKey)) {
+                checkStringOrStrings(statement.get(resourceKey), path + "." + resourceKey, problems);
+            }
+        }
+
+        final JsonNode condition = statement.get("Condition");
+        if (condition != null) {
+            checkCondition(condition, path + ".Condition", problems);
+        }
+    }
+
+    // returns the key that is present when exactly one of them is, otherwise reports the problem and returns null
+    private static String checkExactlyOne(final JsonNode statement, final String key, final String notKey, final String path, final List<String> problems) {
+        if (!checkAtMostOne(statement, key, notKey, path, problems)) {
+            return null;
+        }
+        if (!statement.has(key) && !statement.has(notKey)) {
+            problems.add(String.format("%s requires %s or %s.", path, key, notKey));
+            return null;
+        }
+        return statement.has(key) ? key : notKey;
+    }
+
+    private static boolean checkAtMostOne(final JsonNode statement, final String key, final String notKey, final String path, final List<String> problems) {
+        if (statement.has(key) && statement.has(notKey)) {
+            problems.add(String.format("%s can't have both %s and %s.", path, key, notKey));
+            return false;
+        }
+        return true;
+    }
+
+    private static void checkPrincipal(final JsonNode principal, final String path, final List<String> problems) {
+        if (principal.isTextual()) {
+            if (!"*".equals(principal.asText())) {
+                problems.add(String.format("%s must be \"*\" or an object keyed by principal type.", path));
+            }
+            return;
+        }
+        if (!principal.isObject() || principal.size() == 0) {
+            problems.add(String.format("%s must be \"*\" or an object keyed by principal type.", path));
+            return;
+        }
+        final Iterator<Map.Entry<String, JsonNode>> fields = principal.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            if (!PRINCIPAL_TYPES.contains(field.getKey())) {
+                problems.add(String.format("%s has unsupported principal type [%s], expected one of %s.", path, field.getKey(), PRINCIPAL_TYPES));
+            } else {
+                checkStringOrStrings(field.getValue(), path + "." + field.getKey(), problems);
+            }
+        }
+    }
+
+    private static void checkCondition(final JsonNode condition, final String path, final List<String> problems) {
+        if (!condition.isObject()) {
+            problems.add(String.format("%s must be an object keyed by condition operator.", path));
+            return;
+        }
+        final Iterator<Map.Entry<String, JsonNode>> operators = condition.fields();
+        while (operators.hasNext()) {
+            final Map.Entry<String, JsonNode> operator = operators.next();
+            if (!operator.getValue().isObject() || operator.getValue().size() == 0) {
+                problems.add(String.format("%s.%s must be a non-empty object keyed by condition key.", path, operator.getKey()));
+            }
+        }
+    }
+
+    private static void checkStringOrStrings(final JsonNode value, final String path, final List<String> problems) {
+        if (value.isTextual() && !value.asText().isEmpty()) {
+            return;
+        }
+        if (value.isArray() && value.size() > 0) {
+            for (final JsonNode element : value) {
+                if (!element.isTextual() || element.asText().isEmpty()) {
+                    problems.add(String.format("%s must only contain non-empty strings.", path));
+                    return;
+                }
+            }
+            return;
+        }
+        problems.add(String.format("%s must be a non-empty string or a non-empty array of strings.", path));
+    }
+
+    private static void checkKeys(final JsonNode node, final Set<String> allowedKeys, final String path, final List<String> problems) {
+        final Set<String> unknownKeys = new LinkedHashSet<>();
+        node.fieldNames().forEachRemaining(key -> {
+            if (!allowedKeys.contains(key)) {
+                unknownKeys.add(key);
+            }
+        });
+        if (!unknownKeys.isEmpty()) {
+            problems.add(String.format("%s has unsupported elements %s.", path, unknownKeys));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package software.amazon.organizations.resourcepolicy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import software.amazon.awssdk.services.organizations.model.DeleteResourcePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DescribeResourcePolicyRequest;
@@ -33,6 +34,7 @@ import static software.amazon.organizations.resourcepolicy.TagsHelper.buildTag;
  */
 public class Translator {
     private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
 
     static PutResourcePolicyRequest translateToCreateRequest(final ResourceModel model, final ResourceHandlerRequest<ResourceModel> request) {
         String content = convertObjectToString(model.getContent());
@@ -136,6 +138,24 @@ public class Translator {
         }
     }
 
+    /**
+     * Converts user inputted JSON, either a String or an already parsed object, to a minified String with the keys of
+     * every object sorted, so two documents that only differ in formatting or key order compare equal.
+     * Array order is kept as it is.
+     * @param content
+     * @return
+     **/
+    static String canonicalizeContent(Object content) {
+        try {
+            final Object parsed = MAPPER.readValue(convertObjectToString(content), Object.class);
+            return CANONICAL_MAPPER.writeValueAsString(parsed);
+        } catch (CfnInvalidRequestException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CfnInvalidRequestException(e);
+        }
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
             .map(Collection::stream)
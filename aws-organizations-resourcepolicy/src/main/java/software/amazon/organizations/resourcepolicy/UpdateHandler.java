@@ -14,10 +14,20 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.List;
 import java.util.Set;
 
 public class UpdateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final ResourcePolicyCache resourcePolicyCache;
+
+    public UpdateHandler() {
+        this(ResourcePolicyCache.shared());
+    }
+
+    public UpdateHandler(final ResourcePolicyCache resourcePolicyCache) {
+        this.resourcePolicyCache = resourcePolicyCache;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -50,6 +60,18 @@ public class UpdateHandler extends BaseHandlerStd {
                 "ResourcePolicy content had invalid JSON!");
         }
 
+        final boolean contentUnchanged = isContentUnchanged(previousModel.getContent(), model.getContent());
+
+        // content that is left as it is was already accepted by the service, so only a new document is checked
+        if (!contentUnchanged) {
+            final List<String> contentProblems = ResourcePolicyDocumentValidator.validate(content);
+            if (!contentProblems.isEmpty()) {
+                logger.log(String.format("The ResourcePolicy content is not a valid resource policy. This is an InvalidRequest for management account Id [%s]: %s", request.getAwsAccountId(), contentProblems));
+                return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    String.format("ResourcePolicy content is not a valid resource policy: %s", String.join(" ", contentProblems)));
+            }
+        }
+
         Set<software.amazon.organizations.resourcepolicy.Tag> previousTags = previousModel.getTags();
         Set<Tag> allPreviousTags = TagsHelper.mergeTags(
                 TagsHelper.convertResourcePolicyTagToOrganizationTag(previousTags),
@@ -62,19 +84,38 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> {
+                if (contentUnchanged) {
+                    logger.log(String.format("ResourcePolicy [%s] content is equivalent to the previous content, skipping PutResourcePolicy.", resourcePolicyId));
+                    return progress;
+                }
                 logger.log(String.format("Requesting PutResourcePolicy w/ content: %s and management account Id [%s]", content, request.getAwsAccountId()));
                 return awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::UpdateResourcePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToUpdateRequest)
                     .makeServiceCall(this::putResourcePolicy)
-                    .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
-                                    handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.UPDATE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.UPDATE))
+                    .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
+                        resourcePolicyCache.invalidateOn(request.getAwsAccountId(), e);
+                        return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.UPDATE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.UPDATE);
+                    })
                     .done(putResourcePolicyResponse -> {
                         logger.log(String.format("Updated ResourcePolicy [%s].", putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id()));
+                        resourcePolicyCache.put(request.getAwsAccountId(), putResourcePolicyResponse.resourcePolicy(), logger);
                         return ProgressEvent.progress(model, callbackContext);
                     });
             })
             .then(progress -> handleTagging(awsClientProxy, model, callbackContext, allNewTags, allPreviousTags, resourcePolicyId, orgsClient, logger))
-            .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+            .then(progress -> new ReadHandler(resourcePolicyCache).handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+    }
+
+    // content that cannot be canonicalized is never treated as unchanged, so the service still validates it
+    private boolean isContentUnchanged(final Object previousContent, final Object desiredContent) {
+        if (previousContent == null) {
+            return false;
+        }
+        try {
+            return Translator.canonicalizeContent(previousContent).equals(Translator.canonicalizeContent(desiredContent));
+        } catch (CfnInvalidRequestException e) {
+            return false;
+        }
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> handleTagging(
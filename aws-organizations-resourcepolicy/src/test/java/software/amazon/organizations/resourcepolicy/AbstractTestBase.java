@@ -6,6 +6,8 @@ import software.amazon.awssdk.services.organizations.OrganizationsClient;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Map;
@@ -49,7 +51,7 @@ public class AbstractTestBase {
   protected static final Map<String, Object> TEST_RESOURCEPOLICY_CONTENT_JSON = convertStringToJsonObject(TEST_RESOURCEPOLICY_CONTENT);
   protected static final Map<String, Object> TEST_RESOURCEPOLICY_UPDATED_CONTENT_JSON = convertStringToJsonObject(TEST_RESOURCEPOLICY_UPDATED_CONTENT);
   protected static final String TEST_NEXT_TOKEN = "mockNextTokenItem";
-  protected static final String RESOURCE_POLICY_SCHEMA_SHA256_HEXSTRING = "C48EDAD6CE9CC65CC1E5FC37BBAC107D685574B0DA9CC4C46090D56761E714BF";
+  protected static final String RESOURCE_POLICY_SCHEMA_SHA256_HEXSTRING = "0F3ABF9914C683CE17C74A51F08CB6025D4C0509D399DECEF16111D5D8EB43E0";
   protected static final String RESOURCE_POLICY_JSON_SCHEMA_FILE_NAME = "aws-organizations-resourcepolicy.json";
 
   protected static final Credentials MOCK_CREDENTIALS;
@@ -105,6 +107,10 @@ public class AbstractTestBase {
       };
   }
 
+  static ResourcePolicyCache generateEmptyResourcePolicyCache() {
+      return new ResourcePolicyCache(Clock.systemUTC(), Duration.ofSeconds(ResourcePolicyConstants.DEFAULT_CACHE_TTL_SECONDS));
+  }
+
   static ResourceModel generateInitialResourceModel(boolean hasTags, Object content) {
       return ResourceModel.builder()
           .content(content)
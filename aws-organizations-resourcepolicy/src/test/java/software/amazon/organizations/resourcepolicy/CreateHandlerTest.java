@@ -47,10 +47,12 @@ public class CreateHandlerTest extends AbstractTestBase {
     private ProxyClient<OrganizationsClient> mockProxyClient;
     @Mock
     private CreateHandler createHandler;
+    private ResourcePolicyCache resourcePolicyCache;
 
     @BeforeEach
     public void setup() {
-        createHandler = new CreateHandler();
+        resourcePolicyCache = generateEmptyResourcePolicyCache();
+        createHandler = new CreateHandler(resourcePolicyCache);
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -64,22 +66,19 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
-        final DescribeResourcePolicyResponse describeResourcePolicyResponse = getDescribeResourcePolicyResponse();
-        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(null, describeResourcePolicyResponse);
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(null);
 
         final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
-        final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildEmptyTagsResponse();
-        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
-
         final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
         verifyHandlerSuccess(response, request);
+        // PutResourcePolicy writes the created policy through to the cache
+        assertThat(resourcePolicyCache.get(request.getAwsAccountId()).getId()).isEqualTo(TEST_RESOURCEPOLICY_ID);
 
         verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
-        verify(mockProxyClient.client(), times(2)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
-        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
 
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
@@ -94,26 +93,21 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceTags(defaultStackTags)
             .build();
 
-        final DescribeResourcePolicyResponse describeResourcePolicyResponse = getDescribeResourcePolicyResponse();
-        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(null, describeResourcePolicyResponse);
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(null);
 
         final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
-        final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildDefaultTagsResponse();
-        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
-
         final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
         assertThat(TagTestResourceHelper.tagsEqual(
                 TagsHelper.convertResourcePolicyTagToOrganizationTag(response.getResourceModel().getTags()),
-                TagTestResourceHelper.defaultTags)).isTrue();
+                TagsHelper.mergeTags(TagTestResourceHelper.defaultTags, defaultStackTags))).isTrue();
 
         verifyHandlerSuccess(response, request);
 
         verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
-        verify(mockProxyClient.client(), times(2)).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
-        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
 
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
@@ -123,6 +117,35 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void handleRequest_WithTags_WithJSONContent_SimpleSuccess() {
         final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT_JSON);
 
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .desiredResourceTags(defaultStackTags)
+            .build();
+
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(null);
+
+        final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
+        when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(TagTestResourceHelper.tagsEqual(
+                TagsHelper.convertResourcePolicyTagToOrganizationTag(response.getResourceModel().getTags()),
+                TagsHelper.mergeTags(TagTestResourceHelper.defaultTags, defaultStackTags))).isTrue();
+
+        verifyHandlerSuccess(response, request);
+
+        verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_PutResponseWithoutContent_ReadsBack() {
+        final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
             .desiredResourceTags(defaultStackTags)
@@ -131,7 +154,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         final DescribeResourcePolicyResponse describeResourcePolicyResponse = getDescribeResourcePolicyResponse();
         when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(null, describeResourcePolicyResponse);
 
-        final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
+        final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse().toBuilder()
+            .resourcePolicy(getPutResourcePolicyResponse().resourcePolicy().toBuilder().content(null).build())
+            .build();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
         final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildDefaultTagsResponse();
@@ -170,6 +195,27 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
     }
 
+    @Test
+    public void handleRequest_MalformedPolicyDocument_Fails_With_InvalidRequest_BeforeAnyApiCall() {
+        final ResourceModel model = generateInitialResourceModel(false, "{\"Statement\":[{\"Effect\":\"Permit\",\"Principal\":{\"User\":\"bob\"}}]}");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage())
+            .contains("Statement[0].Effect must be Allow or Deny.")
+            .contains("Statement[0] requires Action or NotAction.")
+            .contains("unsupported principal type [User]");
+
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
     @Test
     public void handleRequest_Fails_With_CfnAlreadyExistsException() {
         final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
@@ -37,10 +37,13 @@ public class DeleteHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<OrganizationsClient> mockProxyClient;
     private DeleteHandler deleteHandler;
+    private ResourcePolicyCache resourcePolicyCache;
 
     @BeforeEach
     public void setup() {
-        deleteHandler = new DeleteHandler();
+        resourcePolicyCache = generateEmptyResourcePolicyCache();
+        resourcePolicyCache.put(null, getDescribeResourcePolicyResponse().resourcePolicy(), logger);
+        deleteHandler = new DeleteHandler(resourcePolicyCache);
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -66,6 +69,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        assertThat(resourcePolicyCache.get(request.getAwsAccountId())).isNull();
 
         verify(mockProxyClient.client()).deleteResourcePolicy(any(DeleteResourcePolicyRequest.class));
 
@@ -88,6 +92,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(resourcePolicyCache.get(request.getAwsAccountId())).isNull();
 
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotIn
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.DescribeResourcePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
 import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
@@ -28,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -44,10 +46,12 @@ public class ListHandlerTest extends AbstractTestBase {
     OrganizationsClient mockOrgsClient;
 
     private ListHandler listHandler;
+    private ResourcePolicyCache resourcePolicyCache;
 
     @BeforeEach
     public void setup() {
-        listHandler = new ListHandler();
+        resourcePolicyCache = generateEmptyResourcePolicyCache();
+        listHandler = new ListHandler(resourcePolicyCache);
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -62,6 +66,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
         final DescribeResourcePolicyResponse describeResourcePolicyResponse = getDescribeResourcePolicyResponse();
         when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(describeResourcePolicyResponse);
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildDefaultTagsResponse());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
@@ -74,7 +79,75 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        final ResourceModel listedModel = response.getResourceModels().get(0);
+        assertThat(listedModel.getId()).isEqualTo(TEST_RESOURCEPOLICY_ID);
+        assertThat(listedModel.getArn()).isEqualTo(TEST_RESOURCEPOLICY_ARN);
+        assertThat(TagTestResourceHelper.tagsEqual(
+            TagsHelper.convertResourcePolicyTagToOrganizationTag(listedModel.getTags()),
+            TagTestResourceHelper.defaultTags)).isTrue();
+
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_KnownId_UsesPrefetchedTags() {
+        final ResourceModel model = ResourceModel.builder().id(TEST_RESOURCEPOLICY_ID).build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(getDescribeResourcePolicyResponse());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildDefaultTagsResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(TagTestResourceHelper.tagsEqual(
+            TagsHelper.convertResourcePolicyTagToOrganizationTag(response.getResourceModels().get(0).getTags()),
+            TagTestResourceHelper.defaultTags)).isTrue();
+
         verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CachedPolicy_SkipsDescribeResourcePolicy() {
+        resourcePolicyCache.put(null, getDescribeResourcePolicyResponse().resourcePolicy(), logger);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildDefaultTagsResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        final ResourceModel listedModel = response.getResourceModels().get(0);
+        assertThat(listedModel.getId()).isEqualTo(TEST_RESOURCEPOLICY_ID);
+        assertThat(listedModel.getContent()).isEqualTo(TEST_RESOURCEPOLICY_CONTENT_JSON);
+
+        verify(mockProxyClient.client(), never()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ListTagsForResource_Fails_With_AccessDeniedException() {
+        final ResourceModel model = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(getDescribeResourcePolicyResponse());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenThrow(AccessDeniedException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
     }
 
     @Test
@@ -107,6 +180,8 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        verify(mockProxyClient.client(), never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -28,8 +28,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -43,10 +47,12 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Mock
     private ProxyClient<OrganizationsClient> mockProxyClient;
     private ReadHandler readHandler;
+    private ResourcePolicyCache resourcePolicyCache;
 
     @BeforeEach
     public void setup() {
-        readHandler = new ReadHandler();
+        resourcePolicyCache = generateEmptyResourcePolicyCache();
+        readHandler = new ReadHandler(resourcePolicyCache);
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -104,6 +110,104 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_KnownId_UsesPrefetchedTags() {
+        final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+        model.setId(TEST_RESOURCEPOLICY_ID);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final DescribeResourcePolicyResponse describeResourcePolicyResponse = getDescribeResourcePolicyResponse();
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(describeResourcePolicyResponse);
+
+        final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildDefaultTagsResponse();
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, request);
+        assertThat(TagTestResourceHelper.tagsEqual(
+            TagsHelper.convertResourcePolicyTagToOrganizationTag(response.getResourceModel().getTags()),
+            TagTestResourceHelper.defaultTags)).isTrue();
+
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StaleId_ListsTagsForDescribedPolicy() {
+        final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+        model.setId(TEST_RESOURCEPOLICY_ID_CHANGED);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final DescribeResourcePolicyResponse describeResourcePolicyResponse = getDescribeResourcePolicyResponse();
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(describeResourcePolicyResponse);
+
+        final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildDefaultTagsResponse();
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, request);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_RESOURCEPOLICY_ID);
+
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(argThat((ListTagsForResourceRequest listTagsRequest) -> TEST_RESOURCEPOLICY_ID.equals(listTagsRequest.resourceId())));
+        // the prefetch for the stale id is not awaited by the handler
+        verify(mockProxyClient.client(), timeout(1000)).listTagsForResource(argThat((ListTagsForResourceRequest listTagsRequest) -> TEST_RESOURCEPOLICY_ID_CHANGED.equals(listTagsRequest.resourceId())));
+    }
+
+    @Test
+    public void handleRequest_CachedPolicy_SkipsDescribeResourcePolicy() {
+        final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(getDescribeResourcePolicyResponse());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildDefaultTagsResponse());
+
+        readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        final ResourceModel secondModel = ResourceModel.builder().build();
+        final ResourceHandlerRequest<ResourceModel> secondRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(secondModel)
+            .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler(resourcePolicyCache).handleRequest(mockAwsClientProxy, secondRequest, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, secondRequest);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_RESOURCEPOLICY_ID);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_RESOURCEPOLICY_ARN);
+        assertThat(response.getResourceModel().getContent()).isEqualTo(TEST_RESOURCEPOLICY_CONTENT_JSON);
+
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(mockProxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ResourcePolicyNotFound_InvalidatesCache() {
+        resourcePolicyCache.put(null, getDescribeResourcePolicyResponse().resourcePolicy(), logger);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenThrow(ResourcePolicyNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(resourcePolicyCache.get(null)).isNull();
+
+        verify(mockProxyClient.client(), never()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     @Test
     protected void handlerRequest_Fails_With_CfnNotFoundException() {
         final ResourceModel model = ResourceModel.builder()
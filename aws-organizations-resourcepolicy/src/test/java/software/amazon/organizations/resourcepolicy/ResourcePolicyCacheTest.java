@@ -0,0 +1,154 @@
+package software.amazon.organizations.resourcepolicy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import software.amazon.awssdk.services.organizations.model.AccessDeniedException;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicy;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicySummary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourcePolicyCacheTest extends AbstractTestBase {
+    private static final String TEST_ACCOUNT_ID = "111111111111";
+    private static final Duration TEST_TTL = Duration.ofSeconds(60);
+
+    private MutableClock clock;
+    private ResourcePolicyCache cache;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new ResourcePolicyCache(clock, TEST_TTL);
+    }
+
+    @Test
+    public void put_CachesIdArnAndContentWithinTtl() {
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+        clock.advance(TEST_TTL.minusSeconds(1));
+
+        final ResourcePolicyCache.CachedResourcePolicy cached = cache.get(TEST_ACCOUNT_ID);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getId()).isEqualTo(TEST_RESOURCEPOLICY_ID);
+        assertThat(cached.getArn()).isEqualTo(TEST_RESOURCEPOLICY_ARN);
+        assertThat(cached.getContent()).isEqualTo(TEST_RESOURCEPOLICY_CONTENT);
+        assertThat(cached.parseContent(logger)).isEqualTo(TEST_RESOURCEPOLICY_CONTENT_JSON);
+        // every reader gets its own copy to put in its model
+        assertThat(cached.parseContent(logger)).isNotSameAs(cached.parseContent(logger));
+        assertThat(cache.get("222222222222")).isNull();
+    }
+
+    @Test
+    public void get_ExpiresAfterTtl() {
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+        clock.advance(TEST_TTL);
+
+        assertThat(cache.get(TEST_ACCOUNT_ID)).isNull();
+    }
+
+    @Test
+    public void put_ReplacesEntryOnWrite() {
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_UPDATED_CONTENT), logger);
+
+        assertThat(cache.get(TEST_ACCOUNT_ID).parseContent(logger)).isEqualTo(TEST_RESOURCEPOLICY_UPDATED_CONTENT_JSON);
+    }
+
+    @Test
+    public void put_UnparseableOrIncompletePolicy_DropsEntry() {
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy("{not json"), logger);
+        assertThat(cache.get(TEST_ACCOUNT_ID)).isNull();
+
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+        cache.put(TEST_ACCOUNT_ID, ResourcePolicy.builder().content(TEST_RESOURCEPOLICY_CONTENT).build(), logger);
+        assertThat(cache.get(TEST_ACCOUNT_ID)).isNull();
+
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+        cache.put(TEST_ACCOUNT_ID, null, logger);
+        assertThat(cache.get(TEST_ACCOUNT_ID)).isNull();
+    }
+
+    @Test
+    public void invalidateOn_DropsEntryOnlyForStalenessErrors() {
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+
+        cache.invalidateOn(TEST_ACCOUNT_ID, AccessDeniedException.builder().build());
+        assertThat(cache.get(TEST_ACCOUNT_ID)).isNotNull();
+
+        cache.invalidateOn(TEST_ACCOUNT_ID, ConcurrentModificationException.builder().build());
+        assertThat(cache.get(TEST_ACCOUNT_ID)).isNull();
+
+        cache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+        cache.invalidateOn(TEST_ACCOUNT_ID, ResourcePolicyNotFoundException.builder().build());
+        assertThat(cache.get(TEST_ACCOUNT_ID)).isNull();
+    }
+
+    @Test
+    public void parseTtl_FallsBackToDefaultForInvalidValues() {
+        final Duration defaultTtl = Duration.ofSeconds(ResourcePolicyConstants.DEFAULT_CACHE_TTL_SECONDS);
+        assertThat(ResourcePolicyCache.parseTtl(null)).isEqualTo(defaultTtl);
+        assertThat(ResourcePolicyCache.parseTtl("abc")).isEqualTo(defaultTtl);
+        assertThat(ResourcePolicyCache.parseTtl("-5")).isEqualTo(defaultTtl);
+        assertThat(ResourcePolicyCache.parseTtl(" 15 ")).isEqualTo(Duration.ofSeconds(15));
+        assertThat(ResourcePolicyCache.parseTtl("0")).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void zeroTtl_DisablesCache() {
+        final ResourcePolicyCache disabledCache = new ResourcePolicyCache(clock, Duration.ZERO);
+        disabledCache.put(TEST_ACCOUNT_ID, generateResourcePolicy(TEST_RESOURCEPOLICY_CONTENT), logger);
+
+        assertThat(disabledCache.get(TEST_ACCOUNT_ID)).isNull();
+    }
+
+    @Test
+    public void shared_ReturnsSameInstance() {
+        assertThat(ResourcePolicyCache.shared()).isSameAs(ResourcePolicyCache.shared());
+    }
+
+    private static ResourcePolicy generateResourcePolicy(final String content) {
+        return ResourcePolicy.builder()
+            .content(content)
+            .resourcePolicySummary(ResourcePolicySummary.builder()
+                .arn(TEST_RESOURCEPOLICY_ARN)
+                .id(TEST_RESOURCEPOLICY_ID)
+                .build())
+            .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
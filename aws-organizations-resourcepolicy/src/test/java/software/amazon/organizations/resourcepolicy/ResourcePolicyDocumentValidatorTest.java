@@ -0,0 +1,79 @@
+package software.amazon.organizations.resourcepolicy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourcePolicyDocumentValidatorTest extends AbstractTestBase {
+
+    @Test
+    public void validate_WellFormedDocuments_NoProblems() {
+        assertThat(ResourcePolicyDocumentValidator.validate(TEST_RESOURCEPOLICY_CONTENT)).isEmpty();
+        assertThat(ResourcePolicyDocumentValidator.validate(
+            "{\"Version\":\"2012-10-17\",\"Id\":\"delegation\",\"Statement\":{\"Sid\":\"Delegate\",\"Effect\":\"Allow\","
+                + "\"Principal\":{\"AWS\":[\"arn:aws:iam::222222222222:root\"],\"Service\":\"securityhub.amazonaws.com\"},"
+                + "\"Action\":\"organizations:Describe*\",\"Resource\":\"*\","
+                + "\"Condition\":{\"StringEquals\":{\"aws:PrincipalOrgID\":\"o-ttnhg9yq61\"}}}}")).isEmpty();
+        assertThat(ResourcePolicyDocumentValidator.validate(
+            "{\"Statement\":[{\"Effect\":\"Deny\",\"NotPrincipal\":\"*\",\"NotAction\":[\"organizations:List*\"],\"NotResource\":[\"*\"]}]}")).isEmpty();
+    }
+
+    @Test
+    public void validate_ReportsAllProblemsAtOnce() {
+        final List<String> problems = ResourcePolicyDocumentValidator.validate(
+            "{\"Version\":\"2020-01-01\",\"Extra\":1,\"Statement\":["
+                + "{\"Sid\":\"A\",\"Effect\":\"Permit\",\"Action\":\"s3:*\",\"Principal\":\"someone\"},"
+                + "{\"Sid\":\"A\",\"Action\":[],\"NotAction\":\"s3:*\",\"Resource\":\"*\",\"NotResource\":\"*\",\"Unknown\":true},"
+                + "{\"Effect\":\"Allow\",\"Principal\":{\"User\":\"bob\"},\"Action\":[\"s3:*\", 5],\"Condition\":{\"StringEquals\":\"x\"}},"
+                + "\"not a statement\"]}");
+
+        assertThat(problems).containsExactly(
+            "Policy has unsupported elements [Extra].",
+            "Version must be one of [2012-10-17, 2008-10-17].",
+            "Statement[0].Effect must be Allow or Deny.",
+            "Statement[0].Principal must be \"*\" or an object keyed by principal type.",
+            "Statement[1] has unsupported elements [Unknown].",
+            "Statement[1].Sid [A] is used by more than one statement.",
+            "Statement[1].Effect is required.",
+            "Statement[1] can't have both Action and NotAction.",
+            "Statement[1] can't have both Resource and NotResource.",
+            "Statement[2].Action must only contain non-empty strings.",
+            "Statement[2].Principal has unsupported principal type [User], expected one of [AWS, Service, Federated, CanonicalUser].",
+            "Statement[2].Condition.StringEquals must be a non-empty object keyed by condition key.",
+            "Statement[3] must be an object.");
+    }
+
+    @Test
+    public void validate_MissingOrEmptyStatement() {
+        assertThat(ResourcePolicyDocumentValidator.validate("{\"Version\":\"2012-10-17\"}")).containsExactly("Statement is required.");
+        assertThat(ResourcePolicyDocumentValidator.validate("{\"Statement\":[]}"))
+            .containsExactly("Statement must be an object or a non-empty array of objects.");
+        assertThat(ResourcePolicyDocumentValidator.validate("{\"Statement\":[{\"Effect\":\"Allow\"}]}"))
+            .containsExactly("Statement[0] requires Action or NotAction.");
+    }
+
+    @Test
+    public void validate_NotAnObjectOrNotJson() {
+        assertThat(ResourcePolicyDocumentValidator.validate(null)).containsExactly("Content is required.");
+        assertThat(ResourcePolicyDocumentValidator.validate("{\"Statement\":")).containsExactly("Content is not valid JSON.");
+        assertThat(ResourcePolicyDocumentValidator.validate("[]")).containsExactly("Content must be a JSON object.");
+        assertThat(ResourcePolicyDocumentValidator.validate("{\"Id\":1,\"Statement\":{\"Sid\":2,\"Effect\":\"Allow\",\"Action\":\"s3:*\",\"Condition\":[]}}"))
+            .containsExactly("Id must be a string.", "Statement.Sid must be a string.", "Statement.Condition must be an object keyed by condition operator.");
+    }
+
+    @Test
+    public void validate_ContentOverSizeLimit() {
+        final StringBuilder actions = new StringBuilder();
+        while (actions.length() <= ResourcePolicyConstants.MAX_RESOURCE_POLICY_CHARACTERS) {
+            actions.append(actions.length() == 0 ? "" : ",").append("\"organizations:DescribeOrganization\"");
+        }
+        final String content = "{\"Statement\":{\"Effect\":\"Allow\",\"Principal\":\"*\",\"Action\":[" + actions + "]}}";
+
+        final List<String> problems = ResourcePolicyDocumentValidator.validate(content);
+
+        assertThat(problems).containsExactly(String.format("Content is %d characters long, the maximum is %d.",
+            content.length(), ResourcePolicyConstants.MAX_RESOURCE_POLICY_CHARACTERS));
+    }
+}
@@ -62,7 +62,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        updateHandler = new UpdateHandler();
+        updateHandler = new UpdateHandler(generateEmptyResourcePolicyCache());
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
@@ -78,7 +78,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(updatedResourceModel)
             .build();
 
-        mockReadHandler(false);
+        mockCachedReadHandler(false);
         final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
@@ -87,7 +87,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyHandlerSuccess(response, request);
 
         verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
-        verifyReadHandler();
+        verifyCachedReadHandler();
 
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
@@ -103,7 +103,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(updatedResourceModel)
             .build();
 
-        mockReadHandler(false);
+        mockCachedReadHandler(false);
         final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
@@ -112,7 +112,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyHandlerSuccess(response, request);
 
         verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
-        verifyReadHandler();
+        verifyCachedReadHandler();
 
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
@@ -130,7 +130,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceTags(TagTestResourceHelper.updatedStackTags)
             .build();
 
-        mockReadHandler(true);
+        mockCachedReadHandler(true);
         final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
@@ -156,7 +156,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(TagTestResourceHelper.correctTagsInTagAndUntagRequests(tagsToAddOrUpdate, tagKeysToRemove)).isTrue();
 
         verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
-        verifyReadHandler();
+        verifyCachedReadHandler();
         verify(mockProxyClient.client()).tagResource(any(TagResourceRequest.class));
         verify(mockProxyClient.client()).untagResource(any(UntagResourceRequest.class));
 
@@ -175,7 +175,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceTags(TagTestResourceHelper.updatedStackTags)
             .build();
 
-        mockReadHandler(true);
+        mockCachedReadHandler(true);
         final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
@@ -201,7 +201,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(TagTestResourceHelper.correctTagsInTagAndUntagRequestsAddTags(tagsToAddOrUpdate, tagKeysToRemove)).isTrue();
 
         verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
-        verifyReadHandler();
+        verifyCachedReadHandler();
         verify(mockProxyClient.client()).tagResource(any(TagResourceRequest.class));
         verify(mockProxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
 
@@ -220,7 +220,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .previousResourceTags(TagTestResourceHelper.defaultStackTags)
             .build();
 
-        mockReadHandler(true);
+        mockCachedReadHandler(true);
         final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
         when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
 
@@ -246,7 +246,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(TagTestResourceHelper.correctTagsInTagAndUntagRequestsRemoveTags(tagsToAddOrUpdate, tagKeysToRemove)).isTrue();
 
         verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
-        verifyReadHandler();
+        verifyCachedReadHandler();
         verify(mockProxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
         verify(mockProxyClient.client()).untagResource(any(UntagResourceRequest.class));
 
@@ -254,6 +254,107 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(mockOrgsClient);
     }
 
+    @Test
+    public void handleRequest_EquivalentContent_SkipsPutResourcePolicy() {
+        final String reformattedContent = "{\n  \"Statement\": [ { \"Resource\": [\"*\"], \"Action\": [\"s3:*\"], \"Effect\": \"Allow\" } ],\n  \"Version\": \"2012-10-17\"\n}";
+        final ResourceModel initialResourceModel = generateFinalResourceModel(false, TEST_RESOURCEPOLICY_CONTENT_JSON);
+        final ResourceModel updatedResourceModel = generateUpdatedResourceModel(false, reformattedContent);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .build();
+
+        mockReadHandler(false);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, request);
+
+        verify(mockProxyClient.client(), never()).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verifyReadHandler();
+
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_TagsOnlyChange_SkipsPutResourcePolicy() {
+        final ResourceModel initialResourceModel = generateFinalResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+        final ResourceModel updatedResourceModel = generateUpdatedResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .previousResourceTags(TagTestResourceHelper.defaultStackTags)
+            .desiredResourceTags(TagTestResourceHelper.updatedStackTags)
+            .build();
+
+        mockReadHandler(true);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, request);
+        assertThat(TagTestResourceHelper.tagsEqual(
+                TagsHelper.convertResourcePolicyTagToOrganizationTag(response.getResourceModel().getTags()),
+                TagTestResourceHelper.updatedTags)).isTrue();
+
+        verify(mockProxyClient.client(), never()).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verifyReadHandler();
+        verify(mockProxyClient.client()).tagResource(any(TagResourceRequest.class));
+        verify(mockProxyClient.client()).untagResource(any(UntagResourceRequest.class));
+
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_ReorderedArray_CallsPutResourcePolicy() {
+        final String reorderedContent = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Action\":[\"s3:*\"],\"Resource\":[\"*\"]},{\"Effect\":\"Deny\",\"Action\":[\"ec2:*\"],\"Resource\":[\"*\"]}]}";
+        final String previousContent = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Deny\",\"Action\":[\"ec2:*\"],\"Resource\":[\"*\"]},{\"Effect\":\"Allow\",\"Action\":[\"s3:*\"],\"Resource\":[\"*\"]}]}";
+        final ResourceModel initialResourceModel = generateFinalResourceModel(false, previousContent);
+        final ResourceModel updatedResourceModel = generateUpdatedResourceModel(false, reorderedContent);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .build();
+
+        mockCachedReadHandler(false);
+        final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
+        when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, request);
+
+        verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verifyCachedReadHandler();
+
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_MalformedPolicyDocument_Fails_With_InvalidRequest_BeforeAnyApiCall() {
+        final ResourceModel initialResourceModel = generateFinalResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+        final ResourceModel updatedResourceModel = generateUpdatedResourceModel(true, "{\"Version\":\"2012-10-17\",\"Statement\":[]}");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("Statement must be an object or a non-empty array of objects.");
+
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
     @Test
     public void handleRequest_PreviousModelNull_Fails_WithCfnNotFoundException() {
         final ResourceModel updatedResourceModel = generateUpdatedResourceModel(false, TEST_RESOURCEPOLICY_UPDATED_CONTENT);
@@ -399,6 +500,17 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
     }
 
+    // PutResourcePolicy writes the policy through to the cache, so the read back only lists tags
+    private void mockCachedReadHandler(Boolean tags){
+        final ListTagsForResourceResponse listTagsResponse = tags ? TagTestResourceHelper.buildUpdatedTagsResponse() : TagTestResourceHelper.buildEmptyTagsResponse();
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
+    }
+
+    private void verifyCachedReadHandler(){
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(mockProxyClient.client(), never()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+    }
+
     private void retriableExceptionTest(Class<? extends Exception> e, HandlerErrorCode errorCode) {
         final ResourceModel initialResourceModel = generateFinalResourceModel(false, TEST_RESOURCEPOLICY_CONTENT);
         final ResourceModel updatedResourceModel = generateUpdatedResourceModel(false, TEST_RESOURCEPOLICY_UPDATED_CONTENT);
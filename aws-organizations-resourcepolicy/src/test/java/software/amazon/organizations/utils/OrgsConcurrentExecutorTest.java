@@ -0,0 +1,55 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OrgsConcurrentExecutorTest {
+
+    @Test
+    public void join_ReturnsResult() {
+        assertThat(OrgsConcurrentExecutor.join(OrgsConcurrentExecutor.supplyAsync(() -> "result"))).isEqualTo("result");
+    }
+
+    @Test
+    public void join_RethrowsRuntimeExceptionFromCall() {
+        final CompletableFuture<String> future = OrgsConcurrentExecutor.supplyAsync(() -> {
+            throw ResourcePolicyNotFoundException.builder().message("not found").build();
+        });
+
+        assertThatThrownBy(() -> OrgsConcurrentExecutor.join(future)).isInstanceOf(ResourcePolicyNotFoundException.class);
+    }
+
+    @Test
+    public void join_RethrowsErrorFromCall() {
+        final CompletableFuture<String> future = OrgsConcurrentExecutor.supplyAsync(() -> {
+            throw new AssertionError("error");
+        });
+
+        assertThatThrownBy(() -> OrgsConcurrentExecutor.join(future)).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    public void join_WrapsCheckedCause() {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        future.completeExceptionally(new Exception("checked"));
+
+        assertThatThrownBy(() -> OrgsConcurrentExecutor.join(future)).isInstanceOf(CompletionException.class);
+    }
+
+    @Test
+    public void join_Interrupted_RestoresInterruptFlag() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> OrgsConcurrentExecutor.join(new CompletableFuture<String>())).isInstanceOf(CompletionException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}